@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+import java.util.Random;
+
+import org.eclipse.draw2d.graph.CompoundDirectedGraph;
+import org.eclipse.draw2d.graph.CompoundDirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+import org.eclipse.draw2d.graph.Subgraph;
+
+/**
+ * Compares the sequential layout of {@link CompoundDirectedGraphLayout} with the
+ * parallel layout of its connected components, on generated graphs of many
+ * clusters. Each cluster is a subgraph containing a nested subgraph and a small
+ * random dependency graph. Clusters are connected in chains of four, so that
+ * each component consists of several clusters.
+ */
+public class BenchmarkCompoundLayout {
+
+	private static final int[] CLUSTERS = { 50, 100, 200 };
+	private static final int NODES_PER_CLUSTER = 12;
+	private static final int RUNS = 3;
+
+	public static void main(String[] args) {
+		// Warm up
+		layout(createGraph(20, 0), false);
+		layout(createGraph(20, 0), true);
+
+		for (int clusters : CLUSTERS) {
+			for (int run = 0; run < RUNS; run++) {
+				long start = System.currentTimeMillis();
+				layout(createGraph(clusters, run), false);
+				long end = System.currentTimeMillis();
+				System.out.println(clusters + " clusters, sequential: " + (end - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+
+				start = System.currentTimeMillis();
+				layout(createGraph(clusters, run), true);
+				end = System.currentTimeMillis();
+				System.out.println(clusters + " clusters, parallel:   " + (end - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	private static CompoundDirectedGraph createGraph(int clusters, long seed) {
+		Random random = new Random(seed);
+		CompoundDirectedGraph graph = new CompoundDirectedGraph();
+		Node previous = null;
+		for (int i = 0; i < clusters; i++) {
+			Subgraph cluster = new Subgraph("cluster" + i); //$NON-NLS-1$
+			Subgraph nested = new Subgraph("nested" + i, cluster); //$NON-NLS-1$
+			graph.nodes.add(cluster);
+			graph.nodes.add(nested);
+			Node[] nodes = new Node[NODES_PER_CLUSTER];
+			for (int j = 0; j < nodes.length; j++) {
+				nodes[j] = new Node(i + ":" + j, j < nodes.length / 3 ? nested : cluster); //$NON-NLS-1$
+				nodes[j].width = 40 + random.nextInt(40);
+				graph.nodes.add(nodes[j]);
+				if (j > 0) {
+					graph.edges.add(new Edge(nodes[random.nextInt(j)], nodes[j]));
+				}
+				if (j > 1 && random.nextBoolean()) {
+					graph.edges.add(new Edge(nodes[random.nextInt(j - 1)], nodes[j]));
+				}
+			}
+			if (previous != null && i % 4 != 0) {
+				graph.edges.add(new Edge(previous, nodes[0]));
+			}
+			previous = nodes[nodes.length - 1];
+		}
+		return graph;
+	}
+
+	private static void layout(CompoundDirectedGraph graph, boolean parallel) {
+		CompoundDirectedGraphLayout layout = new CompoundDirectedGraphLayout();
+		layout.setParallelComponentLayout(parallel);
+		layout.visit(graph);
+	}
+
+}
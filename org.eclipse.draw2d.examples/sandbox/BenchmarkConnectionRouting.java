@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import org.eclipse.draw2d.AutomaticRouter;
+import org.eclipse.draw2d.BendpointConnectionRouter;
+import org.eclipse.draw2d.ChopboxAnchor;
+import org.eclipse.draw2d.ConnectionAnchor;
+import org.eclipse.draw2d.ConnectionRouter;
+import org.eclipse.draw2d.EllipseAnchor;
+import org.eclipse.draw2d.FanRouter;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.PolylineConnection;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Measures the bytes allocated per routed connection, with the anchors
+ * computing their location into the buffers of the routers, and with anchors
+ * which allocate a new point in
+ * {@link ConnectionAnchor#getLocation(Point, Point)} and
+ * {@link ConnectionAnchor#getReferencePoint(Point)}, as anchors did before the
+ * buffered variants were added. Connections are routed by a
+ * {@link BendpointConnectionRouter}, and by a {@link FanRouter}, which as an
+ * {@link AutomaticRouter} also looks up the connections sharing the same
+ * anchors. Every third connection duplicates the anchors of the previous one,
+ * so that the fan router inserts bend points.
+ * <p>
+ * The allocated bytes are read from the <code>com.sun.management</code>
+ * extension of the thread MX bean, which is available on HotSpot and OpenJ9.
+ */
+public class BenchmarkConnectionRouting {
+
+	private static final int NODES = 1000;
+	private static final int CONNECTIONS = 20000;
+	private static final int PASSES = 20;
+	private static final int RUNS = 3;
+
+	/**
+	 * An anchor which allocates a new point for every location.
+	 */
+	private static class AllocatingChopboxAnchor extends ChopboxAnchor {
+
+		AllocatingChopboxAnchor(IFigure owner) {
+			super(owner);
+		}
+
+		@Override
+		public Point getLocation(Point reference, Point result) {
+			return result.setLocation(super.getLocation(reference, new Point()));
+		}
+
+		@Override
+		public Point getReferencePoint(Point result) {
+			return result.setLocation(super.getReferencePoint(new Point()));
+		}
+	}
+
+	/**
+	 * An anchor which allocates a new point for every location.
+	 */
+	private static class AllocatingEllipseAnchor extends EllipseAnchor {
+
+		AllocatingEllipseAnchor(IFigure owner) {
+			super(owner);
+		}
+
+		@Override
+		public Point getLocation(Point reference, Point result) {
+			return result.setLocation(super.getLocation(reference, new Point()));
+		}
+	}
+
+	public static void main(String[] args) throws ReflectiveOperationException {
+		Object threadBean = ManagementFactory.getThreadMXBean();
+		Method allocatedBytes = Class.forName("com.sun.management.ThreadMXBean") //$NON-NLS-1$
+				.getMethod("getCurrentThreadAllocatedBytes"); //$NON-NLS-1$
+
+		// Warm up
+		for (boolean allocating : new boolean[] { true, false }) {
+			route(createConnections(allocating, 0), new BendpointConnectionRouter(), PASSES);
+			route(createConnections(allocating, 0), new FanRouter(), PASSES);
+		}
+
+		for (int run = 0; run < RUNS; run++) {
+			for (boolean fan : new boolean[] { false, true }) {
+				for (boolean allocating : new boolean[] { true, false }) {
+					PolylineConnection[] connections = createConnections(allocating, run);
+					ConnectionRouter router = fan ? new FanRouter() : new BendpointConnectionRouter();
+					// The first pass registers the connections with the fan router
+					route(connections, router, 1);
+					long bytes = (Long) allocatedBytes.invoke(threadBean);
+					long start = System.currentTimeMillis();
+					route(connections, router, PASSES);
+					long end = System.currentTimeMillis();
+					bytes = (Long) allocatedBytes.invoke(threadBean) - bytes;
+					System.out.println((fan ? "FanRouter, " : "BendpointConnectionRouter, ") //$NON-NLS-1$ //$NON-NLS-2$
+							+ (allocating ? "allocating anchors: " : "buffered anchors:   ") //$NON-NLS-1$ //$NON-NLS-2$
+							+ bytes / ((long) CONNECTIONS * PASSES) + " bytes/route, " + (end - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		}
+	}
+
+	private static PolylineConnection[] createConnections(boolean allocating, long seed) {
+		Random random = new Random(seed);
+		IFigure[] nodes = new IFigure[NODES];
+		for (int i = 0; i < NODES; i++) {
+			nodes[i] = new Figure();
+			nodes[i].setBounds(new Rectangle(random.nextInt(5000), random.nextInt(5000),
+					20 + random.nextInt(80), 20 + random.nextInt(40)));
+		}
+		PolylineConnection[] connections = new PolylineConnection[CONNECTIONS];
+		for (int i = 0; i < CONNECTIONS; i++) {
+			PolylineConnection connection = new PolylineConnection();
+			if (i % 3 == 2) {
+				connection.setSourceAnchor(connections[i - 1].getSourceAnchor());
+				connection.setTargetAnchor(connections[i - 1].getTargetAnchor());
+			} else {
+				connection.setSourceAnchor(createAnchor(nodes[random.nextInt(NODES)], allocating, false));
+				connection.setTargetAnchor(createAnchor(nodes[random.nextInt(NODES)], allocating, i % 2 == 0));
+			}
+			connections[i] = connection;
+		}
+		return connections;
+	}
+
+	private static ConnectionAnchor createAnchor(IFigure owner, boolean allocating, boolean ellipse) {
+		if (ellipse) {
+			return allocating ? new AllocatingEllipseAnchor(owner) : new EllipseAnchor(owner);
+		}
+		return allocating ? new AllocatingChopboxAnchor(owner) : new ChopboxAnchor(owner);
+	}
+
+	private static void route(PolylineConnection[] connections, ConnectionRouter router, int passes) {
+		for (int pass = 0; pass < passes; pass++) {
+			for (PolylineConnection connection : connections) {
+				router.route(connection);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+import java.lang.reflect.Field;
+import java.util.Deque;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.draw2d.graph.DirectedGraph;
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+
+/**
+ * Compares the default rank assignment of {@link DirectedGraphLayout} with the
+ * incremental network simplex on random dependency graphs. For each size, the
+ * time and the total weighted length of the edges are printed. The steps after
+ * the rank assignment are removed from the layout, as they would dominate the
+ * time otherwise.
+ */
+public class BenchmarkRankAssignment {
+
+	private static final int[] SIZES = { 1000, 2000, 5000, 10000 };
+	private static final Set<String> RANK_STEPS = Set.of("RankAssignmentSolver", "NetworkSimplexRankSolver"); //$NON-NLS-1$ //$NON-NLS-2$
+	private static final int RUNS = 3;
+
+	public static void main(String[] args) throws ReflectiveOperationException {
+		// Warm up
+		layout(createGraph(500, 0), false);
+		layout(createGraph(500, 0), true);
+
+		for (int size : SIZES) {
+			for (int run = 0; run < RUNS; run++) {
+				DirectedGraph graph = createGraph(size, run);
+				long start = System.currentTimeMillis();
+				layout(graph, false);
+				long end = System.currentTimeMillis();
+				System.out.println(size + " nodes, default:     " + (end - start) + " ms, length " //$NON-NLS-1$ //$NON-NLS-2$
+						+ getLength(graph));
+
+				graph = createGraph(size, run);
+				start = System.currentTimeMillis();
+				layout(graph, true);
+				end = System.currentTimeMillis();
+				System.out.println(size + " nodes, incremental: " + (end - start) + " ms, length " //$NON-NLS-1$ //$NON-NLS-2$
+						+ getLength(graph));
+			}
+		}
+	}
+
+	/**
+	 * Creates a connected graph in which every node depends on one to three
+	 * nodes created before it, most of them recently.
+	 */
+	private static DirectedGraph createGraph(int size, long seed) {
+		Random random = new Random(seed);
+		DirectedGraph graph = new DirectedGraph();
+		Node[] nodes = new Node[size];
+		for (int i = 0; i < size; i++) {
+			nodes[i] = new Node(Integer.valueOf(i));
+			graph.nodes.add(nodes[i]);
+			if (i == 0) {
+				continue;
+			}
+			int dependencies = 1 + random.nextInt(3);
+			for (int j = 0; j < dependencies; j++) {
+				int target;
+				if (random.nextInt(4) == 0) {
+					target = random.nextInt(i);
+				} else {
+					target = Math.max(0, i - 1 - random.nextInt(20));
+				}
+				graph.edges.add(new Edge(nodes[i], nodes[target], 1, 1 + random.nextInt(3)));
+			}
+		}
+		return graph;
+	}
+
+	private static long getLength(DirectedGraph graph) {
+		long length = 0;
+		for (Edge edge : graph.edges) {
+			length += (long) edge.weight * Math.abs(edge.getLength());
+		}
+		return length;
+	}
+
+	private static void layout(DirectedGraph graph, boolean incremental) throws ReflectiveOperationException {
+		DirectedGraphLayout layout = new DirectedGraphLayout();
+		layout.setIncrementalRankAssignment(incremental);
+		Field field = DirectedGraphLayout.class.getDeclaredField("steps"); //$NON-NLS-1$
+		field.setAccessible(true);
+		Deque<?> steps = (Deque<?>) field.get(layout);
+		while (!RANK_STEPS.contains(steps.getLast().getClass().getSimpleName())) {
+			steps.removeLast();
+		}
+		layout.visit(graph);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -67,7 +67,7 @@ public abstract class AbstractGraphDemo {
 		}
 
 		@Override
-		public Point getLocation(Point reference) {
+		public Point getLocation(Point reference, Point result) {
 			Point p;
 			p = getOwner().getBounds().getCenter();
 			getOwner().translateToAbsolute(p);
@@ -77,7 +77,7 @@ public abstract class AbstractGraphDemo {
 				p = getOwner().getBounds().getBottom();
 			}
 			getOwner().translateToAbsolute(p);
-			return p;
+			return result.setLocation(p);
 		}
 	}
 
@@ -87,7 +87,7 @@ public abstract class AbstractGraphDemo {
 		}
 
 		@Override
-		public Point getLocation(Point reference) {
+		public Point getLocation(Point reference, Point result) {
 			Point p;
 			p = getOwner().getBounds().getCenter();
 			getOwner().translateToAbsolute(p);
@@ -97,7 +97,7 @@ public abstract class AbstractGraphDemo {
 				p = getOwner().getBounds().getRight();
 			}
 			getOwner().translateToAbsolute(p);
-			return p;
+			return result.setLocation(p);
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Patrick Ziegler and others.
+ * Copyright (c) 2023, 2026 Patrick Ziegler and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,17 +15,30 @@ package org.eclipse.draw2d.graph.test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
+import org.eclipse.draw2d.graph.CompoundDirectedGraph;
+import org.eclipse.draw2d.graph.CompoundDirectedGraphLayout;
 import org.eclipse.draw2d.graph.DirectedGraph;
 import org.eclipse.draw2d.graph.DirectedGraphLayout;
 import org.eclipse.draw2d.graph.Edge;
 import org.eclipse.draw2d.graph.EdgeList;
 import org.eclipse.draw2d.graph.Node;
 import org.eclipse.draw2d.graph.NodeList;
+import org.eclipse.draw2d.graph.Subgraph;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -92,6 +105,276 @@ public class DirectedGraphLayoutTest {
 		assertEquals(getRank(n3), 0);
 	}
 
+	@Test
+	public void test_incrementalRankAssignment() {
+		layout.setIncrementalRankAssignment(true);
+		layout.visit(g);
+
+		assertEquals(getRank(n1), 1);
+		assertEquals(getRank(n2), 2);
+		assertEquals(getRank(n3), 0);
+	}
+
+	@Test
+	public void test_incrementalRankAssignmentIsOptimal() {
+		DirectedGraph g1 = createRandomGraph(200);
+		new DirectedGraphLayout().visit(g1);
+
+		DirectedGraph g2 = createRandomGraph(200);
+		layout.setIncrementalRankAssignment(true);
+		layout.visit(g2);
+
+		assertEquals(getLength(g1), getLength(g2));
+	}
+
+	@Test
+	public void test_initialRankSolver() {
+		for (int size : new int[] { 1, 10, 100, 500 }) {
+			DirectedGraph graph = createRandomDAG(size);
+			Map<Node, Integer> expected = rankInRounds(graph);
+			solveInitialRanks(graph);
+			for (Node node : expected.keySet()) {
+				assertEquals(expected.get(node).intValue(), getRank(node));
+			}
+		}
+	}
+
+	@Test
+	public void test_initialRankSolverDetectsCycles() {
+		DirectedGraph graph = createRandomDAG(50);
+		Node n40 = graph.nodes.get(40);
+		Node n45 = graph.nodes.get(45);
+		graph.edges.add(new Edge(n40, n45));
+		graph.edges.add(new Edge(n45, n40));
+
+		RuntimeException e = assertThrows(RuntimeException.class, () -> solveInitialRanks(graph));
+		assertEquals("Cycle detected in graph", e.getMessage());
+	}
+
+	@Test
+	public void test_minCrossRemovesCrossings() {
+		DirectedGraph graph = new DirectedGraph();
+		Node root = new Node("root");
+		graph.nodes.add(root);
+		Node[] top = new Node[7];
+		Node[] bottom = new Node[7];
+		for (int i = 0; i < top.length; i++) {
+			top[i] = new Node("t" + i);
+			bottom[i] = new Node("b" + i);
+			graph.nodes.add(top[i]);
+			graph.nodes.add(bottom[i]);
+			graph.edges.add(new Edge(root, top[i]));
+		}
+		for (int i = 0; i < top.length; i++) {
+			graph.edges.add(new Edge(top[i], bottom[i * 3 % bottom.length]));
+		}
+
+		layout.visit(graph);
+
+		for (Edge e1 : graph.edges) {
+			for (Edge e2 : graph.edges) {
+				if (e1.source != root && e2.source != root) {
+					assertEquals(e1.source.x < e2.source.x, e1.target.x < e2.target.x);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void test_minCrossReachesMedianPhase() throws ReflectiveOperationException {
+		// The crossings of a complete bipartite graph do not depend on the order, so
+		// the sweeps converge right away
+		DirectedGraph graph = new DirectedGraph();
+		Node root = new Node("root");
+		graph.nodes.add(root);
+		Node[] top = new Node[4];
+		Node[] bottom = new Node[4];
+		for (int i = 0; i < top.length; i++) {
+			top[i] = new Node("t" + i);
+			bottom[i] = new Node("b" + i);
+			graph.nodes.add(top[i]);
+			graph.nodes.add(bottom[i]);
+			graph.edges.add(new Edge(root, top[i]));
+		}
+		for (Node source : top) {
+			for (Node target : bottom) {
+				graph.edges.add(new Edge(source, target));
+			}
+		}
+
+		Field steps = DirectedGraphLayout.class.getDeclaredField("steps");
+		steps.setAccessible(true);
+		Object minCross = ((Collection<?>) steps.get(layout)).stream()
+				.filter(step -> step.getClass().getSimpleName().equals("MinCross")).findFirst().orElseThrow();
+		Field sorterField = minCross.getClass().getDeclaredField("sorter");
+		sorterField.setAccessible(true);
+		Object sorter = sorterField.get(minCross);
+
+		layout.visit(graph);
+
+		Field progress = sorter.getClass().getDeclaredField("progress");
+		progress.setAccessible(true);
+		// The last sweeps sort by the median, but still stop before the maximum of 45
+		assertTrue(progress.getDouble(sorter) >= 0.8);
+		assertTrue(progress.getDouble(sorter) < 44.0 / 45);
+	}
+
+	@Test
+	public void test_parallelComponentLayout() {
+		CompoundDirectedGraph graph = createClusteredGraph(20);
+		CompoundDirectedGraphLayout compoundLayout = new CompoundDirectedGraphLayout();
+		compoundLayout.setParallelComponentLayout(true);
+		compoundLayout.visit(graph);
+
+		List<Node> subgraphs = graph.nodes.stream().filter(Subgraph.class::isInstance).toList();
+		assertEquals(20, subgraphs.size());
+		for (int i = 0; i < subgraphs.size(); i++) {
+			Subgraph s = (Subgraph) subgraphs.get(i);
+			for (Node member : s.members) {
+				assertTrue(member.x >= s.x && member.x + member.width <= s.x + s.width);
+				assertTrue(member.y >= s.y && member.y + member.height <= s.y + s.height);
+			}
+			if (i > 0) {
+				Node previous = subgraphs.get(i - 1);
+				assertTrue(previous.x + previous.width <= s.x);
+			}
+			assertTrue(s.x + s.width <= graph.getLayoutSize().width);
+		}
+
+		// The result doesn't depend on the order in which the components finish
+		CompoundDirectedGraph other = createClusteredGraph(20);
+		compoundLayout = new CompoundDirectedGraphLayout();
+		compoundLayout.setParallelComponentLayout(true);
+		compoundLayout.visit(other);
+		for (int i = 0; i < graph.nodes.size(); i++) {
+			assertEquals(graph.nodes.get(i).x, other.nodes.get(i).x);
+			assertEquals(graph.nodes.get(i).y, other.nodes.get(i).y);
+		}
+	}
+
+	@Test
+	public void test_parallelComponentLayoutRanks() {
+		DirectedGraph graph = new DirectedGraph();
+		Node a = new Node("a");
+		Node b = new Node("b");
+		Node c = new Node("c");
+		Node d = new Node("d");
+		Node e = new Node("e");
+		graph.nodes.addAll(List.of(a, b, c, d, e));
+		graph.edges.add(new Edge(a, b));
+		graph.edges.add(new Edge(c, d));
+		graph.edges.add(new Edge(d, e));
+		DirectedGraphLayout parallelLayout = new DirectedGraphLayout();
+		parallelLayout.setParallelComponentLayout(true);
+		parallelLayout.visit(graph);
+
+		assertEquals(3, graph.ranks.size());
+		assertEquals(List.of(a, c), graph.ranks.getRank(0));
+		for (Node node : graph.nodes) {
+			int index = graph.ranks.getRank(getRank(node)).indexOf(node);
+			assertSame(node, graph.getNode(getRank(node), index));
+		}
+	}
+
+	/**
+	 * Creates a compound graph with the given number of unconnected subgraphs,
+	 * each of which contains a small tree.
+	 */
+	private static CompoundDirectedGraph createClusteredGraph(int clusters) {
+		CompoundDirectedGraph graph = new CompoundDirectedGraph();
+		for (int i = 0; i < clusters; i++) {
+			Subgraph s = new Subgraph("s" + i);
+			Node root = new Node("r" + i, s);
+			graph.nodes.add(s);
+			graph.nodes.add(root);
+			for (int j = 0; j < i % 4 + 1; j++) {
+				Node child = new Node("c" + i + ':' + j, s);
+				graph.nodes.add(child);
+				graph.edges.add(new Edge(root, child));
+			}
+		}
+		return graph;
+	}
+
+	/**
+	 * Creates a graph of several components whose edges all point from a node to
+	 * one added after it, with minimum lengths between 1 and 3.
+	 */
+	private static DirectedGraph createRandomDAG(int size) {
+		Random random = new Random(size);
+		DirectedGraph graph = new DirectedGraph();
+		for (int i = 0; i < size; i++) {
+			Node node = new Node("n" + i);
+			int edges = (i % 17 == 0) ? 0 : random.nextInt(4);
+			for (int j = 0; j < edges; j++) {
+				graph.edges.add(new Edge(graph.nodes.get(random.nextInt(i)), node, 1 + random.nextInt(3), 1));
+			}
+			graph.nodes.add(node);
+		}
+		return graph;
+	}
+
+	/**
+	 * Ranks the nodes the way InitialRankSolver did before it ranked them in
+	 * topological order: in rounds, each of which ranks all nodes whose
+	 * predecessors have been ranked in an earlier round.
+	 */
+	private static Map<Node, Integer> rankInRounds(DirectedGraph graph) {
+		Map<Node, Integer> ranks = new HashMap<>();
+		List<Node> unranked = new ArrayList<>(graph.nodes);
+		while (!unranked.isEmpty()) {
+			List<Node> rankMe = unranked.stream()
+					.filter(node -> node.incoming.stream().allMatch(e -> ranks.containsKey(e.source))).toList();
+			assertFalse(rankMe.isEmpty());
+			for (Node node : rankMe) {
+				int rank = 0;
+				for (Edge e : node.incoming) {
+					rank = Math.max(rank, e.getDelta() + ranks.get(e.source));
+				}
+				ranks.put(node, rank);
+			}
+			unranked.removeAll(rankMe);
+		}
+		return ranks;
+	}
+
+	private static void solveInitialRanks(DirectedGraph graph) {
+		try {
+			Class<?> solverClass = Class.forName("org.eclipse.draw2d.graph.InitialRankSolver");
+			Constructor<?> constructor = solverClass.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			Method visit = solverClass.getDeclaredMethod("visit", DirectedGraph.class);
+			visit.setAccessible(true);
+			visit.invoke(constructor.newInstance(), graph);
+		} catch (InvocationTargetException e) {
+			throw (RuntimeException) e.getCause();
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static DirectedGraph createRandomGraph(int size) {
+		Random random = new Random(size);
+		DirectedGraph graph = new DirectedGraph();
+		for (int i = 0; i < size; i++) {
+			Node node = new Node("n" + i);
+			if (i > 0) {
+				graph.edges.add(new Edge(graph.nodes.get(random.nextInt(i)), node, 1, 1 + random.nextInt(4)));
+				graph.edges.add(new Edge(graph.nodes.get(random.nextInt(i)), node, 1, 1 + random.nextInt(4)));
+			}
+			graph.nodes.add(node);
+		}
+		return graph;
+	}
+
+	private static final int getLength(DirectedGraph graph) {
+		int length = 0;
+		for (Edge e : graph.edges) {
+			length += e.weight * e.getLength();
+		}
+		return length;
+	}
+
 	private static final int getRank(Node n) {
 		try {
 			Field f = Node.class.getDeclaredField("rank");
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.draw2d.Animation;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FigureCanvas;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.LayoutAnimator;
+import org.eclipse.draw2d.XYLayout;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AnimationTest extends BaseTestCase {
+
+	private static final Rectangle START = new Rectangle(0, 0, 20, 20);
+	private static final Rectangle END = new Rectangle(100, 60, 40, 40);
+
+	private Shell shell;
+	private IFigure container;
+	private IFigure child;
+
+	@Before
+	public void setUp() {
+		shell = new Shell(Display.getDefault());
+		shell.setLayout(new FillLayout());
+		FigureCanvas canvas = new FigureCanvas(shell);
+		canvas.setSize(200, 200);
+
+		container = new Figure();
+		container.setLayoutManager(new XYLayout());
+		container.addLayoutListener(LayoutAnimator.getDefault());
+		child = new Figure();
+		container.add(child, START.getCopy());
+		canvas.setContents(container);
+		shell.open();
+		container.getUpdateManager().performUpdate();
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	@Test
+	public void testRun() {
+		assertEquals(START, child.getBounds());
+
+		Animation.markBegin();
+		container.setConstraint(child, END.getCopy());
+		Animation.run(50);
+
+		assertFalse(Animation.isAnimating());
+		assertEquals(END, child.getBounds());
+	}
+
+	@Test
+	public void testRunAsync() {
+		Animation.markBegin();
+		container.setConstraint(child, END.getCopy());
+		Animation.runAsync(200);
+
+		assertTrue(Animation.isAnimating());
+		assertNotEquals(END, child.getBounds());
+
+		waitEventLoop(shell, 500);
+		assertFalse(Animation.isAnimating());
+		assertEquals(END, child.getBounds());
+	}
+
+	/**
+	 * Marking the beginning of another animation finishes the one which is still
+	 * being played.
+	 */
+	@Test
+	public void testMarkBeginFinishesPlayback() {
+		Animation.markBegin();
+		container.setConstraint(child, END.getCopy());
+		Animation.runAsync(10000);
+		assertTrue(Animation.isAnimating());
+
+		assertTrue(Animation.markBegin());
+		assertEquals(END, child.getBounds());
+		container.setConstraint(child, START.getCopy());
+		Animation.run(50);
+
+		assertFalse(Animation.isAnimating());
+		assertEquals(START, child.getBounds());
+	}
+
+}
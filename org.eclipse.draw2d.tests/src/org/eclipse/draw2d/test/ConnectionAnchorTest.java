@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import org.eclipse.draw2d.ChopboxAnchor;
+import org.eclipse.draw2d.ConnectionAnchor;
+import org.eclipse.draw2d.EllipseAnchor;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.RoundedRectangle;
+import org.eclipse.draw2d.RoundedRectangleAnchor;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PrecisionPoint;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that the allocation-free {@link ConnectionAnchor#getLocation(Point, Point)}
+ * and {@link ConnectionAnchor#getReferencePoint(Point)} return the same values
+ * as their allocating counterparts.
+ */
+public class ConnectionAnchorTest extends BaseTestCase {
+
+	private static final Point[] REFERENCES = { new Point(0, 0), new Point(75, 0), new Point(300, 10),
+			new Point(300, 400), new Point(75, 400), new Point(-50, 60), new Point(60, 40), new Point(90, 75),
+			new Point(51, 50), new Point(99, 101) };
+
+	private IFigure figure;
+	private RoundedRectangle roundedRectangle;
+
+	@Before
+	public void setUp() {
+		FreeformLayer layer = new FreeformLayer();
+		figure = new Figure();
+		figure.setBounds(new Rectangle(50, 50, 50, 50));
+		layer.add(figure);
+		roundedRectangle = new RoundedRectangle();
+		roundedRectangle.setCornerDimensions(new Dimension(20, 20));
+		roundedRectangle.setBounds(new Rectangle(50, 50, 50, 50));
+		layer.add(roundedRectangle);
+	}
+
+	@Test
+	public void testChopboxAnchor() {
+		assertSameLocations(new ChopboxAnchor(figure));
+	}
+
+	@Test
+	public void testEllipseAnchor() {
+		assertSameLocations(new EllipseAnchor(figure));
+	}
+
+	@Test
+	public void testRoundedRectangleAnchor() {
+		assertSameLocations(new RoundedRectangleAnchor(roundedRectangle));
+	}
+
+	/**
+	 * The allocating methods delegate to the allocation-free variants, so
+	 * subclasses only need to override the latter.
+	 */
+	@Test
+	public void testOverriddenLocation() {
+		ChopboxAnchor anchor = new ChopboxAnchor(figure) {
+			@Override
+			public Point getLocation(Point reference, Point result) {
+				return result.setLocation(-1, -2);
+			}
+
+			@Override
+			public Point getReferencePoint(Point result) {
+				return result.setLocation(-3, -4);
+			}
+		};
+		assertEquals(-1, -2, anchor.getLocation(new Point(0, 0)));
+		assertEquals(-3, -4, anchor.getReferencePoint());
+	}
+
+	private static void assertSameLocations(ConnectionAnchor anchor) {
+		Point result = new Point();
+		for (Point reference : REFERENCES) {
+			assertEquals(anchor.getLocation(reference), anchor.getLocation(reference, result));
+			assertEquals(anchor.getLocation(reference), anchor.getLocation(reference, new PrecisionPoint()));
+		}
+		assertEquals(anchor.getReferencePoint(), anchor.getReferencePoint(result));
+	}
+
+}
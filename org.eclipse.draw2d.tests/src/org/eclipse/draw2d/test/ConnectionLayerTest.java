@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.draw2d.AbstractRouter;
+import org.eclipse.draw2d.Connection;
+import org.eclipse.draw2d.ConnectionLayer;
+import org.eclipse.draw2d.PolylineConnection;
+import org.eclipse.draw2d.RoutingListener;
+import org.eclipse.draw2d.XYAnchor;
+import org.eclipse.draw2d.geometry.Point;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConnectionLayerTest extends Assert {
+
+	private static class CountingRouter extends AbstractRouter {
+		final List<Integer> batches = new ArrayList<>();
+		int routed;
+
+		@Override
+		public void route(Connection connection) {
+			routed++;
+			connection.getPoints().removeAllPoints();
+			connection.getPoints().addPoint(getStartPoint(connection));
+			connection.getPoints().addPoint(getEndPoint(connection));
+		}
+
+		@Override
+		public void routeAll(Collection<? extends Connection> connections) {
+			batches.add(Integer.valueOf(connections.size()));
+			super.routeAll(connections);
+		}
+	}
+
+	private ConnectionLayer layer;
+	private CountingRouter router;
+	private final List<PolylineConnection> connections = new ArrayList<>();
+
+	@Before
+	public void setUp() {
+		layer = new ConnectionLayer();
+		router = new CountingRouter();
+		layer.setConnectionRouter(router);
+		for (int i = 0; i < 10; i++) {
+			PolylineConnection connection = new PolylineConnection();
+			connection.setSourceAnchor(new XYAnchor(new Point(0, i * 10)));
+			connection.setTargetAnchor(new XYAnchor(new Point(100, i * 10)));
+			layer.add(connection);
+			connections.add(connection);
+		}
+	}
+
+	@Test
+	public void testInvalidConnectionsAreRoutedOnce() {
+		layer.validate();
+		assertEquals(List.of(Integer.valueOf(10)), router.batches);
+		assertEquals(10, router.routed);
+
+		connections.get(3).revalidate();
+		connections.get(7).revalidate();
+		layer.validate();
+		assertEquals(List.of(Integer.valueOf(10), Integer.valueOf(2)), router.batches);
+		assertEquals(12, router.routed);
+		assertEquals(new Point(100, 70), connections.get(7).getPoints().getLastPoint());
+	}
+
+	@Test
+	public void testRoutingListenerIsNotBatched() {
+		connections.get(0).addRoutingListener(new RoutingListener.Stub());
+		layer.validate();
+		assertEquals(List.of(Integer.valueOf(9)), router.batches);
+		assertEquals(10, router.routed);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -28,14 +28,20 @@ import org.junit.runners.Suite;
 	FanRouterTest.class,
 	ShortestPathRoutingTest.class,
 	XYLayoutTest.class,
+	FreeformLayerTest.class,
+	GridLayoutTest.class,
 	TextFlowWrapTest.class,
 	LocalOptimizerTest.class,
 	AdvancedGraphicsTests.class,
 	FlowBorderTests.class,
 	GraphicsClipping.class,
 	PaintDamageEraseTest.class,
+	AnimationTest.class,
+	RenderCacheTest.class,
 	LayeredPaneTest.class,
 	ConnectionEndPointMoveTest.class,
+	ConnectionAnchorTest.class,
+	ConnectionLayerTest.class,
 	ImageUtilitiesTest.class,
 	LookAheadTest.class,
 	TextualTests.class,
@@ -48,6 +54,11 @@ import org.junit.runners.Suite;
 	ThumbnailTest.class,
 	FigurePaintingTest.class,
 	FigureUtilitiesTest.class,
+	EventListenerListTest.class,
+	InheritedPropertiesTest.class,
+	TiledImageExporterTest.class,
+	PrintFigureOperationTest.class,
+	RasterGraphicsTest.class,
 	RectangleTest.class,
 	ColorConstantTest.class,
 	RayTest.class,
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.draw2d.ActionListener;
+import org.eclipse.draw2d.ChangeListener;
+import org.eclipse.draw2d.EventListenerList;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventListenerListTest extends Assert {
+
+	private final ActionListener first = event -> {
+	};
+	private final ActionListener second = event -> {
+	};
+	private final ChangeListener change = event -> {
+	};
+
+	private EventListenerList list;
+
+	@Before
+	public void setUp() {
+		list = new EventListenerList();
+	}
+
+	private static <T> List<T> toList(Iterable<T> iterable) {
+		List<T> result = new ArrayList<>();
+		iterable.forEach(result::add);
+		return result;
+	}
+
+	@Test
+	public void testEmpty() {
+		assertFalse(list.containsListener(ActionListener.class));
+		assertFalse(list.getListeners(ActionListener.class).hasNext());
+		assertFalse(list.getListenersIterable(ActionListener.class).iterator().hasNext());
+		list.removeListener(ActionListener.class, first);
+	}
+
+	@Test
+	public void testListenersAreGroupedByType() {
+		list.addListener(ActionListener.class, first);
+		list.addListener(ChangeListener.class, change);
+		list.addListener(ActionListener.class, second);
+
+		assertTrue(list.containsListener(ActionListener.class));
+		assertTrue(list.containsListener(ChangeListener.class));
+		assertEquals(List.of(first, second), toList(list.getListenersIterable(ActionListener.class)));
+		assertEquals(List.of(change), toList(list.getListenersIterable(ChangeListener.class)));
+
+		Iterator<ActionListener> iter = list.getListeners(ActionListener.class);
+		assertSame(first, iter.next());
+		assertSame(second, iter.next());
+		assertFalse(iter.hasNext());
+	}
+
+	@Test
+	public void testRemoveFirstOccurrence() {
+		list.addListener(ActionListener.class, first);
+		list.addListener(ActionListener.class, second);
+		list.addListener(ActionListener.class, first);
+
+		list.removeListener(ActionListener.class, first);
+		assertEquals(List.of(second, first), toList(list.getListenersIterable(ActionListener.class)));
+
+		list.removeListener(ChangeListener.class, second);
+		list.removeListener(ActionListener.class, second);
+		list.removeListener(ActionListener.class, first);
+		assertFalse(list.containsListener(ActionListener.class));
+	}
+
+	/**
+	 * Listeners which are added or removed while the listeners are notified must
+	 * not affect the ongoing notification.
+	 */
+	@Test
+	public void testModificationDuringIteration() {
+		list.addListener(ActionListener.class, first);
+		list.addListener(ActionListener.class, second);
+
+		Iterable<ActionListener> listeners = list.getListenersIterable(ActionListener.class);
+		List<ActionListener> notified = new ArrayList<>();
+		listeners.forEach(listener -> {
+			notified.add(listener);
+			list.removeListener(ActionListener.class, second);
+			list.addListener(ActionListener.class, listener);
+		});
+
+		assertEquals(List.of(first, second), notified);
+		assertEquals(List.of(first, first, second), toList(list.getListenersIterable(ActionListener.class)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAddNull() {
+		list.addListener(ActionListener.class, null);
+	}
+
+}
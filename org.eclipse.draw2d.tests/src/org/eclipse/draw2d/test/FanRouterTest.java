@@ -14,6 +14,7 @@
 package org.eclipse.draw2d.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 import org.eclipse.draw2d.Connection;
 import org.eclipse.draw2d.ConnectionAnchor;
@@ -55,4 +56,31 @@ public class FanRouterTest {
 		router.route(connection);
 		assertEquals(connection.getPoints().size(), 2);
 	}
+
+	/**
+	 * Connections between the same anchors, in either direction, are fanned out.
+	 * Routing a connection again keeps its bend point.
+	 */
+	@Test
+	public void testRouteCollidingConnections() {
+		Connection second = new PolylineConnection();
+		second.setSourceAnchor(sourceAnchor);
+		second.setTargetAnchor(targetAnchor);
+		Connection third = new PolylineConnection();
+		third.setSourceAnchor(targetAnchor);
+		third.setTargetAnchor(sourceAnchor);
+
+		router.route(connection);
+		router.route(second);
+		router.route(third);
+		assertEquals(2, connection.getPoints().size());
+		assertEquals(3, second.getPoints().size());
+		assertEquals(3, third.getPoints().size());
+		Point bendPoint = second.getPoints().getPoint(1);
+		assertNotEquals(bendPoint, third.getPoints().getPoint(1));
+
+		router.route(second);
+		assertEquals(3, second.getPoints().size());
+		assertEquals(bendPoint, second.getPoints().getPoint(1));
+	}
 }
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FreeformLayerTest extends Assert {
+
+	private FreeformLayer layer;
+	private IFigure first;
+	private IFigure second;
+	private IFigure third;
+
+	@Before
+	public void setUp() {
+		layer = new FreeformLayer();
+		first = createFigure(0, 0, 10, 10);
+		second = createFigure(100, 100, 10, 10);
+		third = createFigure(50, 50, 10, 10);
+	}
+
+	private IFigure createFigure(int x, int y, int width, int height) {
+		IFigure figure = new Figure();
+		figure.setBounds(new Rectangle(x, y, width, height));
+		layer.add(figure);
+		return figure;
+	}
+
+	@Test
+	public void testMoveInside() {
+		Rectangle extent = layer.getFreeformExtent();
+		assertEquals(new Rectangle(0, 0, 110, 110), extent);
+
+		third.setBounds(new Rectangle(60, 60, 10, 10));
+		assertSame(extent, layer.getFreeformExtent());
+	}
+
+	@Test
+	public void testMoveOutside() {
+		assertEquals(new Rectangle(0, 0, 110, 110), layer.getFreeformExtent());
+
+		third.setBounds(new Rectangle(200, 50, 10, 10));
+		assertEquals(new Rectangle(0, 0, 210, 110), layer.getFreeformExtent());
+	}
+
+	@Test
+	public void testMoveFromBoundary() {
+		assertEquals(new Rectangle(0, 0, 110, 110), layer.getFreeformExtent());
+
+		second.setBounds(new Rectangle(20, 20, 10, 10));
+		assertEquals(new Rectangle(0, 0, 60, 60), layer.getFreeformExtent());
+	}
+
+	@Test
+	public void testMoveOnSharedBoundary() {
+		IFigure fourth = createFigure(100, 0, 10, 10);
+		assertEquals(new Rectangle(0, 0, 110, 110), layer.getFreeformExtent());
+
+		second.setBounds(new Rectangle(20, 20, 10, 10));
+		assertEquals(new Rectangle(0, 0, 110, 60), layer.getFreeformExtent());
+
+		fourth.setBounds(new Rectangle(20, 0, 10, 10));
+		assertEquals(new Rectangle(0, 0, 60, 60), layer.getFreeformExtent());
+	}
+
+	@Test
+	public void testAddRemove() {
+		assertEquals(new Rectangle(0, 0, 110, 110), layer.getFreeformExtent());
+
+		IFigure fourth = createFigure(-10, -10, 10, 10);
+		assertEquals(new Rectangle(-10, -10, 120, 120), layer.getFreeformExtent());
+
+		layer.remove(second);
+		assertEquals(new Rectangle(-10, -10, 70, 70), layer.getFreeformExtent());
+
+		layer.remove(fourth);
+		assertEquals(new Rectangle(0, 0, 60, 60), layer.getFreeformExtent());
+
+		layer.remove(first);
+		assertEquals(new Rectangle(50, 50, 10, 10), layer.getFreeformExtent());
+	}
+
+	/**
+	 * The first child always contributes to the extent, even if it is empty. All
+	 * other children only contribute if they are not empty.
+	 */
+	@Test
+	public void testEmptyChildren() {
+		IFigure empty = createFigure(-50, -50, 0, 0);
+		assertEquals(new Rectangle(0, 0, 110, 110), layer.getFreeformExtent());
+
+		first.setBounds(new Rectangle(150, 150, 0, 0));
+		assertEquals(new Rectangle(50, 50, 100, 100), layer.getFreeformExtent());
+
+		empty.setBounds(new Rectangle(-50, -50, 10, 10));
+		assertEquals(new Rectangle(-50, -50, 200, 200), layer.getFreeformExtent());
+	}
+
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.GridData;
+import org.eclipse.draw2d.GridLayout;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GridLayoutTest extends Assert {
+
+	private static class CountingFigure extends Figure {
+		int calls;
+
+		@Override
+		public Dimension getPreferredSize(int wHint, int hHint) {
+			calls++;
+			return new Dimension(50, 20);
+		}
+	}
+
+	private final List<CountingFigure> leaves = new ArrayList<>();
+	private IFigure outer;
+	private IFigure inner;
+
+	@Before
+	public void setUp() {
+		inner = new Figure();
+		inner.setLayoutManager(new GridLayout(2, false));
+		inner.add(createLeaf());
+		inner.add(createLeaf());
+
+		outer = new Figure();
+		outer.setLayoutManager(new GridLayout());
+		outer.add(inner, new GridData(GridData.FILL, GridData.FILL, true, false));
+		outer.add(createLeaf());
+	}
+
+	private IFigure createLeaf() {
+		CountingFigure leaf = new CountingFigure();
+		leaves.add(leaf);
+		return leaf;
+	}
+
+	private int getCalls() {
+		return leaves.stream().mapToInt(leaf -> leaf.calls).sum();
+	}
+
+	/**
+	 * Alternating hints must not recompute the sizes of nested children.
+	 */
+	@Test
+	public void testPreferredSizesAreCached() {
+		Dimension size = outer.getPreferredSize().getCopy();
+		Dimension wrapped = outer.getPreferredSize(100, -1).getCopy();
+		assertEquals(new Dimension(125, 65), size);
+		assertEquals(new Dimension(100, 65), wrapped);
+		int calls = getCalls();
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(size, outer.getPreferredSize());
+			assertEquals(wrapped, outer.getPreferredSize(100, -1));
+		}
+		assertEquals(calls, getCalls());
+	}
+
+	@Test
+	public void testLayout() {
+		outer.getPreferredSize();
+		outer.setBounds(new Rectangle(0, 0, 200, 100));
+		outer.validate();
+		assertEquals(new Rectangle(5, 5, 190, 30), inner.getBounds());
+		assertEquals(new Rectangle(5, 40, 50, 20), outer.getChildren().get(1).getBounds());
+		assertEquals(new Rectangle(10, 10, 50, 20), inner.getChildren().get(0).getBounds());
+		assertEquals(new Rectangle(65, 10, 50, 20), inner.getChildren().get(1).getBounds());
+	}
+
+	@Test
+	public void testChildInvalidation() {
+		Dimension size = outer.getPreferredSize().getCopy();
+		int calls = getCalls();
+
+		leaves.get(0).revalidate();
+		assertEquals(size, outer.getPreferredSize());
+		assertTrue(getCalls() > calls);
+	}
+
+}
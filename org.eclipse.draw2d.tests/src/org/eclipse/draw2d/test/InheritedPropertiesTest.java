@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import org.eclipse.swt.graphics.Color;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that the inherited visual properties of a figure reflect changes of
+ * its ancestors and of the hierarchy.
+ */
+public class InheritedPropertiesTest extends BaseTestCase {
+
+	private IFigure root;
+	private IFigure middle;
+	private IFigure leaf;
+
+	@Before
+	public void setUp() {
+		root = new Figure();
+		middle = new Figure();
+		leaf = new Figure();
+		root.add(middle);
+		middle.add(leaf);
+		root.setForegroundColor(ColorConstants.red);
+	}
+
+	/**
+	 * A figure whose local foreground color is not set through the setter.
+	 */
+	private static class LocalColorFigure extends Figure {
+
+		private Color color;
+
+		void setColor(Color color) {
+			this.color = color;
+			invalidateInheritedProperties();
+		}
+
+		@Override
+		public Color getLocalForegroundColor() {
+			return color;
+		}
+	}
+
+	@Test
+	public void testAncestorChange() {
+		assertSame(ColorConstants.red, leaf.getForegroundColor());
+
+		middle.setForegroundColor(ColorConstants.blue);
+		assertSame(ColorConstants.blue, leaf.getForegroundColor());
+
+		middle.setForegroundColor(null);
+		root.setForegroundColor(ColorConstants.green);
+		assertSame(ColorConstants.green, leaf.getForegroundColor());
+		assertNull(leaf.getBackgroundColor());
+	}
+
+	@Test
+	public void testReparent() {
+		IFigure other = new Figure();
+		other.setForegroundColor(ColorConstants.blue);
+		middle.remove(leaf);
+		assertNull(leaf.getForegroundColor());
+
+		other.add(leaf);
+		assertSame(ColorConstants.blue, leaf.getForegroundColor());
+
+		root.remove(middle);
+		other.add(middle);
+		middle.add(new Figure());
+		assertSame(ColorConstants.blue, middle.getChildren().get(0).getForegroundColor());
+	}
+
+	@Test
+	public void testUnrelatedChange() {
+		IFigure sibling = new Figure();
+		root.add(sibling);
+		assertSame(ColorConstants.red, leaf.getForegroundColor());
+
+		sibling.setForegroundColor(ColorConstants.blue);
+		sibling.add(new Figure());
+		leaf.setBackgroundColor(ColorConstants.green);
+		assertSame(ColorConstants.red, leaf.getForegroundColor());
+		assertSame(ColorConstants.green, leaf.getBackgroundColor());
+		assertNull(middle.getBackgroundColor());
+	}
+
+	@Test
+	public void testLocalValueHidesAncestor() {
+		middle.setForegroundColor(ColorConstants.blue);
+		assertSame(ColorConstants.blue, leaf.getForegroundColor());
+
+		root.setForegroundColor(null);
+		root.setForegroundColor(ColorConstants.green);
+		assertSame(ColorConstants.blue, leaf.getForegroundColor());
+
+		middle.setForegroundColor(ColorConstants.yellow);
+		assertSame(ColorConstants.yellow, leaf.getForegroundColor());
+
+		middle.setForegroundColor(null);
+		assertSame(ColorConstants.green, leaf.getForegroundColor());
+	}
+
+	@Test
+	public void testInvalidateInheritedProperties() {
+		LocalColorFigure local = new LocalColorFigure();
+		root.remove(middle);
+		root.add(local);
+		local.add(middle);
+		assertSame(ColorConstants.red, leaf.getForegroundColor());
+
+		local.setColor(ColorConstants.blue);
+		assertSame(ColorConstants.blue, leaf.getForegroundColor());
+
+		local.setColor(null);
+		assertSame(ColorConstants.red, leaf.getForegroundColor());
+	}
+
+	/**
+	 * An ancestor which computes the property in its getter must be asked every
+	 * time.
+	 */
+	@Test
+	public void testOverriddenGetter() {
+		Color[] color = { ColorConstants.red };
+		IFigure dynamic = new Figure() {
+			@Override
+			public Color getForegroundColor() {
+				return color[0];
+			}
+
+			@Override
+			protected boolean computesInheritedProperties() {
+				return true;
+			}
+		};
+		root.remove(middle);
+		dynamic.add(middle);
+		assertSame(ColorConstants.red, leaf.getForegroundColor());
+
+		color[0] = ColorConstants.blue;
+		assertSame(ColorConstants.blue, leaf.getForegroundColor());
+	}
+
+}
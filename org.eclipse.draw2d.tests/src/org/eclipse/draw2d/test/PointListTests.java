@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -113,6 +113,34 @@ public class PointListTests extends BaseTestCase {
 		assertThrows(NullPointerException.class, () -> list.insertPoint(null, 0));
 	}
 
+	@SuppressWarnings("static-method")
+	@Test
+	public void testInsertPointIntInt() {
+		PointList list = new PointList();
+		//
+		// check insert point use wrong index
+		assertThrows(IndexOutOfBoundsException.class, () -> list.insertPoint(0, 0, 1));
+		//
+		// check work insertPoint()
+		list.insertPoint(0, 0, 0);
+		list.addPoint(10, 20);
+		list.addPoint(-90, 0);
+		list.insertPoint(-1, -1, 1);
+		list.insertPoint(5, 5, 4);
+		//
+		assertEquals(5, list.size());
+		assertEquals(0, 0, list.getPoint(0));
+		assertEquals(-1, -1, list.getPoint(1));
+		assertEquals(10, 20, list.getPoint(2));
+		assertEquals(-90, 0, list.getPoint(3));
+		assertEquals(5, 5, list.getPoint(4));
+		assertEquals(new Rectangle(-90, -1, 101, 22), list.getBounds());
+		//
+		// check bounds are updated
+		list.insertPoint(20, 30, 0);
+		assertEquals(new Rectangle(-90, -1, 111, 32), list.getBounds());
+	}
+
 	@SuppressWarnings("static-method")
 	@Test
 	public void testRemovePoint() {
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.FreeformLayeredPane;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.PrintFigureOperation;
+import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Prints pages into images instead of a printer.
+ */
+public class PrintFigureOperationTest extends BaseTestCase {
+
+	private static class ImagePrintOperation extends PrintFigureOperation {
+		ImagePrintOperation(FreeformLayeredPane source) {
+			super(null, source);
+		}
+
+		@Override
+		protected List<Rectangle> getPages(Dimension pageSize) {
+			return super.getPages(pageSize);
+		}
+
+		@Override
+		protected void printPage(Graphics graphics, Rectangle page) {
+			super.printPage(graphics, page);
+		}
+
+		@Override
+		protected boolean renderPages(List<Rectangle> pages, double scale,
+				BiConsumer<Rectangle, ImageData> consumer) {
+			return super.renderPages(pages, scale, consumer);
+		}
+	}
+
+	private static class CountingRectangle extends RectangleFigure {
+		int paints;
+
+		@Override
+		public void paint(Graphics graphics) {
+			paints++;
+			super.paint(graphics);
+		}
+	}
+
+	private static final Dimension PAGE = new Dimension(100, 50);
+
+	private FreeformLayeredPane pane;
+	private FreeformLayer layer;
+	private CountingRectangle first;
+	private CountingRectangle second;
+	private ImagePrintOperation operation;
+
+	@Before
+	public void setUp() {
+		pane = new FreeformLayeredPane();
+		layer = new FreeformLayer();
+		pane.add(layer);
+		first = addRectangle(layer, new Rectangle(10, 10, 20, 20));
+		second = addRectangle(layer, new Rectangle(210, 80, 20, 20));
+		pane.setFreeformBounds(new Rectangle(0, 0, 250, 120));
+		operation = new ImagePrintOperation(pane);
+	}
+
+	private static CountingRectangle addRectangle(FreeformLayer layer, Rectangle bounds) {
+		CountingRectangle rectangle = new CountingRectangle();
+		rectangle.setBackgroundColor(ColorConstants.blue);
+		rectangle.setForegroundColor(ColorConstants.blue);
+		rectangle.setBounds(bounds);
+		layer.add(rectangle);
+		return rectangle;
+	}
+
+	@Test
+	public void testPages() {
+		List<Rectangle> pages = operation.getPages(PAGE);
+		assertEquals(9, pages.size());
+		assertEquals(new Rectangle(0, 0, 100, 50), pages.get(0));
+		assertEquals(new Rectangle(200, 0, 100, 50), pages.get(2));
+		assertEquals(new Rectangle(200, 100, 100, 50), pages.get(8));
+	}
+
+	@Test
+	public void testSkipEmptyPages() {
+		operation.setSkipEmptyPages(true);
+		List<Rectangle> pages = operation.getPages(PAGE);
+		assertEquals(List.of(new Rectangle(0, 0, 100, 50), new Rectangle(200, 50, 100, 50)), pages);
+	}
+
+	@Test
+	public void testPrintPage() {
+		Image image = new Image(Display.getDefault(), PAGE.width, PAGE.height);
+		GC gc = new GC(image);
+		SWTGraphics graphics = new SWTGraphics(gc);
+		try {
+			graphics.setBackgroundColor(ColorConstants.white);
+			graphics.fillRectangle(0, 0, PAGE.width, PAGE.height);
+			operation.printPage(graphics, new Rectangle(200, 50, 100, 50));
+		} finally {
+			graphics.dispose();
+			gc.dispose();
+		}
+		ImageData data = image.getImageData();
+		image.dispose();
+		assertEquals(new RGB(0, 0, 255), data.palette.getRGB(data.getPixel(15, 35)));
+		assertEquals(new RGB(255, 255, 255), data.palette.getRGB(data.getPixel(5, 5)));
+	}
+
+	@Test
+	public void testRenderPagesInOrder() {
+		List<Rectangle> pages = operation.getPages(PAGE);
+		List<Rectangle> rendered = new ArrayList<>();
+		List<ImageData> images = new ArrayList<>();
+		Thread thread = Thread.currentThread();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			operation.setOffscreenExecutor(executor);
+			assertTrue(operation.renderPages(pages, 1, (page, data) -> {
+				assertSame(thread, Thread.currentThread());
+				rendered.add(page);
+				images.add(data);
+			}));
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(pages, rendered);
+		ImageData data = images.get(pages.indexOf(new Rectangle(200, 50, 100, 50)));
+		assertEquals(PAGE.width, data.width);
+		assertEquals(PAGE.height, data.height);
+		assertEquals(new RGB(0, 0, 255), data.palette.getRGB(data.getPixel(15, 35)));
+		assertEquals(new RGB(255, 255, 255), data.palette.getRGB(data.getPixel(5, 5)));
+	}
+
+	@Test
+	public void testRenderScaledPages() {
+		List<ImageData> images = new ArrayList<>();
+		operation.renderPages(List.of(new Rectangle(0, 0, 100, 50)), 2, (page, data) -> images.add(data));
+		ImageData data = images.get(0);
+		assertEquals(200, data.width);
+		assertEquals(100, data.height);
+		assertEquals(new RGB(0, 0, 255), data.palette.getRGB(data.getPixel(30, 30)));
+	}
+
+	@Test
+	public void testPaintOnlyFiguresOnPage() {
+		operation.setSkipEmptyPages(true);
+		List<Rectangle> pages = operation.getPages(PAGE);
+		operation.renderPages(pages.subList(1, 2), 1, (page, data) -> {
+			// the figures which are not on the page are clipped away
+			assertEquals(0, layer.getClippingStrategy().getClip(first).length);
+			assertArrayEquals(new Rectangle[] { second.getBounds() }, layer.getClippingStrategy().getClip(second));
+		});
+		assertEquals(0, first.paints);
+		assertEquals(1, second.paints);
+
+		operation.renderPages(pages, 1, (page, data) -> {
+			// nothing to do
+		});
+		assertEquals(1, first.paints);
+		assertEquals(2, second.paints);
+
+		// the clipping strategies are restored afterwards
+		IFigure[] containers = { pane, layer };
+		for (IFigure container : containers) {
+			assertNull(container.getClippingStrategy());
+		}
+	}
+
+	@Test
+	public void testCancelRenderPages() {
+		List<Rectangle> pages = operation.getPages(PAGE);
+		List<Rectangle> rendered = new ArrayList<>();
+		operation.setProgressMonitor((printed, total) -> printed < 2);
+		assertFalse(operation.renderPages(pages, 1, (page, data) -> rendered.add(page)));
+		assertEquals(pages.subList(0, 2), rendered);
+	}
+
+}
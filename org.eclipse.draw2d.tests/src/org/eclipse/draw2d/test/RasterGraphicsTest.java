@@ -0,0 +1,353 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Label;
+import org.eclipse.draw2d.Polyline;
+import org.eclipse.draw2d.RasterGraphics;
+import org.eclipse.draw2d.RasterTextUtilities;
+import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.TextUtilities;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.text.FlowPage;
+import org.eclipse.draw2d.text.FlowUtilities;
+import org.eclipse.draw2d.text.RasterFlowUtilities;
+import org.eclipse.draw2d.text.TextFlow;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Rasterizes without a display, so none of the colors may be taken from
+ * {@link org.eclipse.draw2d.ColorConstants}.
+ */
+public class RasterGraphicsTest extends Assert {
+
+	private static class RasterLabel extends Label {
+
+		RasterLabel(String text) {
+			super(text);
+		}
+
+		@Override
+		public TextUtilities getTextUtilities() {
+			return RasterTextUtilities.INSTANCE;
+		}
+	}
+
+	private static class RasterTextFlow extends TextFlow {
+
+		RasterTextFlow(String text) {
+			super(text);
+		}
+
+		@Override
+		protected FlowUtilities getFlowUtilities() {
+			return RasterFlowUtilities.INSTANCE;
+		}
+
+		@Override
+		protected TextUtilities getTextUtilities() {
+			return RasterTextUtilities.INSTANCE;
+		}
+	}
+
+	private static final int BLUE = 0xff0000ff;
+	private static final int RED = 0xffff0000;
+
+	private RasterGraphics graphics;
+
+	@Before
+	public void setUp() {
+		graphics = new RasterGraphics(20, 12);
+	}
+
+	private int getPixel(int x, int y) {
+		return graphics.getPixels()[y * graphics.getWidth() + x];
+	}
+
+	@Test
+	public void testFillRectangle() {
+		graphics.setBackgroundColor(new Color(0, 0, 255));
+		graphics.fillRectangle(2, 2, 5, 3);
+		assertEquals(0, getPixel(1, 2));
+		assertEquals(BLUE, getPixel(2, 2));
+		assertEquals(BLUE, getPixel(6, 4));
+		assertEquals(0, getPixel(7, 4));
+		assertEquals(0, getPixel(6, 5));
+	}
+
+	@Test
+	public void testDrawRectangle() {
+		graphics.setForegroundColor(new Color(255, 0, 0));
+		graphics.drawRectangle(8, 1, 5, 4);
+		assertEquals(RED, getPixel(8, 1));
+		assertEquals(RED, getPixel(13, 5));
+		assertEquals(RED, getPixel(13, 3));
+		assertEquals(0, getPixel(10, 3));
+		assertEquals(0, getPixel(14, 5));
+	}
+
+	@Test
+	public void testDashedLine() {
+		graphics.setLineStyle(SWT.LINE_DOT);
+		graphics.drawLine(0, 1, 19, 1);
+		assertEquals(0xff000000, getPixel(2, 1));
+		assertEquals(0, getPixel(3, 1));
+		assertEquals(0, getPixel(5, 1));
+		assertEquals(0xff000000, getPixel(6, 1));
+	}
+
+	@Test
+	public void testClipAndState() {
+		graphics.setBackgroundColor(new Color(0, 0, 255));
+		graphics.pushState();
+		graphics.clipRect(new Rectangle(0, 0, 10, 6));
+		graphics.fillRectangle(-5, -5, 50, 50);
+		graphics.popState();
+		assertEquals(BLUE, getPixel(9, 5));
+		assertEquals(0, getPixel(10, 5));
+		assertEquals(0, getPixel(9, 6));
+		assertEquals(new Rectangle(0, 0, 20, 12), graphics.getClip(new Rectangle()));
+	}
+
+	@Test
+	public void testTranslateAndScale() {
+		graphics.translate(10, 0);
+		graphics.scale(2);
+		assertEquals(new Rectangle(-5, 0, 10, 6), graphics.getClip(new Rectangle()));
+		graphics.setBackgroundColor(new Color(0, 0, 255));
+		graphics.fillRectangle(1, 1, 2, 2);
+		assertEquals(0, getPixel(11, 2));
+		assertEquals(BLUE, getPixel(12, 2));
+		assertEquals(BLUE, getPixel(15, 5));
+		assertEquals(0, getPixel(16, 5));
+	}
+
+	@Test
+	public void testAlpha() {
+		graphics.setBackgroundColor(new Color(0, 0, 255));
+		graphics.fillRectangle(0, 0, 2, 2);
+		graphics.setAlpha(128);
+		graphics.setBackgroundColor(new Color(255, 0, 0));
+		graphics.fillRectangle(1, 1, 2, 2);
+		assertEquals(0x80ff0000, getPixel(2, 2));
+		assertEquals(0xff80007f, getPixel(1, 1));
+	}
+
+	@Test
+	public void testPaintFigures() {
+		Figure root = new Figure();
+		root.setBounds(new Rectangle(0, 0, 20, 12));
+		root.setOpaque(true);
+		root.setBackgroundColor(new Color(255, 255, 255));
+		RectangleFigure rectangle = new RectangleFigure();
+		rectangle.setBounds(new Rectangle(2, 2, 6, 6));
+		rectangle.setBackgroundColor(new Color(0, 0, 255));
+		rectangle.setForegroundColor(new Color(255, 0, 0));
+		root.add(rectangle);
+		Polyline polyline = new Polyline();
+		polyline.setForegroundColor(new Color(255, 0, 0));
+		polyline.addPoint(new Point(10, 10));
+		polyline.addPoint(new Point(18, 10));
+		root.add(polyline);
+
+		root.paint(graphics);
+		assertEquals(0xffffffff, getPixel(0, 0));
+		assertEquals(RED, getPixel(2, 2));
+		assertEquals(BLUE, getPixel(4, 4));
+		assertEquals(RED, getPixel(7, 7));
+		assertEquals(RED, getPixel(14, 10));
+		assertEquals(0xffffffff, getPixel(14, 9));
+	}
+
+	@Test
+	public void testLabel() {
+		// 9 points are 12 pixels, so a character is 6 pixels wide and a line is 15
+		// pixels high
+		Label label = new RasterLabel("ab cd"); //$NON-NLS-1$
+		label.setForegroundColor(new Color(255, 0, 0));
+		assertEquals(new Dimension(30, 15), label.getPreferredSize());
+
+		label.setBounds(new Rectangle(0, 0, 30, 15));
+		label.paint(graphics);
+		assertEquals(RED, getPixel(3, 6));
+		assertEquals(0, getPixel(15, 6));
+		assertEquals(RED, getPixel(19, 6));
+		assertEquals(0, getPixel(3, 2));
+
+		label.setText("abcdef"); //$NON-NLS-1$
+		label.setBounds(new Rectangle(0, 0, 30, 15));
+		assertEquals("a...", label.getSubStringText()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testTextFlow() {
+		FlowPage page = new FlowPage();
+		TextFlow text = new RasterTextFlow("aaaa bbbb cccc"); //$NON-NLS-1$
+		text.setForegroundColor(new Color(0, 0, 255));
+		page.add(text);
+		assertEquals(15, page.getPreferredSize(200, -1).height);
+		assertEquals(30, page.getPreferredSize(60, -1).height);
+
+		page.setBounds(new Rectangle(0, 0, 60, 30));
+		page.validate();
+		graphics = new RasterGraphics(60, 30);
+		page.paint(graphics);
+		// the second line starts with "cccc"
+		assertEquals(BLUE, getPixel(3, 21));
+		assertEquals(0, getPixel(27, 21));
+	}
+
+	@Test
+	public void testFontMetrics() {
+		assertNull(graphics.getFontMetrics());
+		graphics.setFont(Display.getDefault().getSystemFont());
+		assertNotNull(graphics.getFontMetrics());
+		assertSame(graphics.getFontMetrics(), graphics.getFontMetrics());
+	}
+
+	@Test
+	public void testImageDataIsReadOnce() {
+		ImageData data = new ImageData(2, 2, 24, new PaletteData(0xff0000, 0xff00, 0xff));
+		Image image = new Image(Display.getDefault(), data);
+		try {
+			graphics.drawImage(image, 0, 0);
+			assertEquals(0xff000000, getPixel(1, 1));
+
+			GC gc = new GC(image);
+			gc.setBackground(Display.getDefault().getSystemColor(SWT.COLOR_RED));
+			gc.fillRectangle(0, 0, 2, 2);
+			gc.dispose();
+			graphics.drawImage(image, 2, 0);
+			assertEquals(0xff000000, getPixel(3, 1));
+
+			graphics.dispose();
+			graphics.drawImage(image, 4, 0);
+			assertEquals(RED, getPixel(5, 1));
+		} finally {
+			image.dispose();
+		}
+	}
+
+	private static IFigure createDiagram(int index) {
+		Figure root = new Figure();
+		root.setBounds(new Rectangle(0, 0, 200, 120));
+		root.setOpaque(true);
+		root.setBackgroundColor(new Color(255, 255, 255));
+		for (int i = 0; i < 6; i++) {
+			RectangleFigure node = new RectangleFigure();
+			node.setBounds(new Rectangle(10 + i * 30, 10 + (i + index) % 3 * 35, 25, 30));
+			node.setBackgroundColor(new Color(0, 0, 255));
+			root.add(node);
+			Label label = new RasterLabel("node " + i); //$NON-NLS-1$
+			label.setForegroundColor(new Color(255, 0, 0));
+			label.setBounds(new Rectangle(10 + i * 30, 100, 30, 15));
+			root.add(label);
+		}
+		return root;
+	}
+
+	private static int[] render(IFigure figure) {
+		RasterGraphics graphics = new RasterGraphics(200, 120);
+		figure.paint(graphics);
+		graphics.dispose();
+		return graphics.getPixels();
+	}
+
+	@Test
+	public void testConcurrentRendering() throws Exception {
+		int diagrams = 8;
+		List<IFigure> figures = new ArrayList<>();
+		List<int[]> expected = new ArrayList<>();
+		for (int i = 0; i < diagrams; i++) {
+			figures.add(createDiagram(i));
+			expected.add(render(createDiagram(i)));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<int[]>> results = new ArrayList<>();
+			for (IFigure figure : figures) {
+				results.add(executor.submit(() -> render(figure)));
+			}
+			for (int i = 0; i < diagrams; i++) {
+				assertArrayEquals(expected.get(i), results.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static int[] renderText(int index) {
+		FlowPage page = new FlowPage();
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 40; i++) {
+			text.append(i % (index + 2) == 0 ? "a-b " : "word "); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		TextFlow flow = new RasterTextFlow(text.toString());
+		flow.setForegroundColor(new Color(0, 0, 255));
+		page.add(flow);
+		page.setBounds(new Rectangle(0, 0, 100 + index * 10, 200));
+		page.validate();
+		RasterGraphics graphics = new RasterGraphics(200, 200);
+		page.paint(graphics);
+		graphics.dispose();
+		return graphics.getPixels();
+	}
+
+	@Test
+	public void testConcurrentTextFlowLayout() throws Exception {
+		int pages = 8;
+		List<int[]> expected = new ArrayList<>();
+		for (int i = 0; i < pages; i++) {
+			expected.add(renderText(i));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<int[]>> results = new ArrayList<>();
+			for (int round = 0; round < 10; round++) {
+				for (int i = 0; i < pages; i++) {
+					int index = i;
+					results.add(executor.submit(() -> renderText(index)));
+				}
+			}
+			for (int i = 0; i < results.size(); i++) {
+				assertArrayEquals(expected.get(i % pages), results.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
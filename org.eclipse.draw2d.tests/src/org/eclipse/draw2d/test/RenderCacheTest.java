@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.lang.reflect.Field;
+
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FigureCanvas;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.LightweightSystem;
+import org.eclipse.draw2d.XYLayout;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RenderCacheTest extends BaseTestCase {
+
+	private static class CountingFigure extends Figure {
+		int painted;
+
+		@Override
+		protected void paintFigure(Graphics graphics) {
+			painted++;
+			super.paintFigure(graphics);
+		}
+	}
+
+	private static final Rectangle EXPOSED = new Rectangle(0, 0, 200, 200);
+
+	private Shell shell;
+	private FigureCanvas canvas;
+	private IFigure contents;
+	private Figure node;
+	private CountingFigure child;
+
+	@Before
+	public void setUp() {
+		shell = new Shell(Display.getDefault());
+		shell.setLayout(new FillLayout());
+		canvas = new FigureCanvas(shell);
+		canvas.setSize(200, 200);
+
+		contents = new Figure();
+		contents.setLayoutManager(new XYLayout());
+		node = new Figure();
+		node.setOpaque(true);
+		node.setLayoutManager(new XYLayout());
+		node.setRenderCacheEnabled(true);
+		child = new CountingFigure();
+		node.add(child, new Rectangle(10, 10, 20, 20));
+		contents.add(node, new Rectangle(20, 20, 100, 100));
+		canvas.setContents(contents);
+		shell.open();
+		node.getUpdateManager().performUpdate();
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	private void paint() {
+		node.getUpdateManager().performUpdate(EXPOSED.getCopy());
+	}
+
+	private static Object getRenderCache(LightweightSystem lws) throws ReflectiveOperationException {
+		Field field = LightweightSystem.class.getDeclaredField("renderCache"); //$NON-NLS-1$
+		field.setAccessible(true);
+		return field.get(lws);
+	}
+
+	@Test
+	public void testPaintFromCache() {
+		paint();
+		int painted = child.painted;
+		paint();
+		paint();
+		assertEquals(painted, child.painted);
+	}
+
+	@Test
+	public void testRepaintInvalidates() {
+		paint();
+		int painted = child.painted;
+		child.repaint();
+		paint();
+		assertEquals(painted + 1, child.painted);
+	}
+
+	@Test
+	public void testMoveKeepsImage() {
+		paint();
+		int painted = child.painted;
+		contents.setConstraint(node, new Rectangle(40, 40, 100, 100));
+		paint();
+		assertEquals(new Rectangle(50, 50, 20, 20), child.getBounds());
+		assertEquals(painted, child.painted);
+
+		contents.setConstraint(node, new Rectangle(40, 40, 110, 110));
+		paint();
+		assertEquals(painted + 1, child.painted);
+	}
+
+	@Test
+	public void testRepaintWithoutCacheAllocatesNothing() throws ReflectiveOperationException {
+		FigureCanvas other = new FigureCanvas(shell);
+		CountingFigure plain = new CountingFigure();
+		plain.setOpaque(true);
+		other.setContents(plain);
+		plain.repaint();
+		plain.getUpdateManager().performUpdate();
+		plain.repaint();
+		plain.getUpdateManager().performUpdate();
+		assertNull(getRenderCache(other.getLightweightSystem()));
+	}
+
+	@Test
+	public void testRevalidateInvalidates() {
+		paint();
+		int painted = child.painted;
+		node.setConstraint(child, new Rectangle(10, 10, 30, 30));
+		paint();
+		assertEquals(new Rectangle(30, 30, 30, 30), child.getBounds());
+		assertEquals(painted + 1, child.painted);
+	}
+
+	@Test
+	public void testDisabled() {
+		node.setRenderCacheEnabled(false);
+		paint();
+		int painted = child.painted;
+		paint();
+		assertEquals(painted + 1, child.painted);
+	}
+
+	@Test
+	public void testNotOpaque() {
+		node.setOpaque(false);
+		paint();
+		int painted = child.painted;
+		paint();
+		assertEquals(painted + 1, child.painted);
+	}
+
+	@Test
+	public void testBudget() {
+		canvas.getLightweightSystem().setRenderCacheBudget(100);
+		paint();
+		int painted = child.painted;
+		paint();
+		assertEquals(painted + 1, child.painted);
+	}
+
+}
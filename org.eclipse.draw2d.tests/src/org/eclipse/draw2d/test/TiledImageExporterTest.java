@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.TiledImageExporter;
+import org.eclipse.draw2d.XYLayout;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TiledImageExporterTest extends BaseTestCase {
+
+	private static final int BLUE = 0x0000ff;
+	private static final int WHITE = 0xffffff;
+
+	private static class CollectingConsumer implements TiledImageExporter.ScanlineConsumer {
+		int width;
+		int height;
+		int[] pixels;
+		int rows;
+		int calls;
+		boolean ended;
+		boolean disposed;
+
+		@Override
+		public void begin(int width, int height) {
+			this.width = width;
+			this.height = height;
+			pixels = new int[width * height];
+		}
+
+		@Override
+		public void consume(int[] band, int count) {
+			System.arraycopy(band, 0, pixels, rows * width, count * width);
+			rows += count;
+			calls++;
+		}
+
+		@Override
+		public void end() {
+			ended = true;
+		}
+
+		@Override
+		public void dispose() {
+			disposed = true;
+		}
+
+		int getPixel(int x, int y) {
+			return pixels[y * width + x];
+		}
+	}
+
+	private Figure figure;
+	private TiledImageExporter exporter;
+
+	@Before
+	public void setUp() {
+		figure = new Figure();
+		figure.setLayoutManager(new XYLayout());
+		figure.setBounds(new Rectangle(0, 0, 100, 60));
+		RectangleFigure rectangle = new RectangleFigure();
+		rectangle.setBackgroundColor(ColorConstants.blue);
+		rectangle.setForegroundColor(ColorConstants.blue);
+		figure.add(rectangle, new Rectangle(40, 20, 30, 30));
+		figure.validate();
+		exporter = new TiledImageExporter(Display.getDefault(), figure);
+		exporter.setTileSize(16);
+	}
+
+	@Test
+	public void testExport() throws IOException {
+		CollectingConsumer consumer = new CollectingConsumer();
+		assertTrue(exporter.export(consumer));
+		assertEquals(100, consumer.width);
+		assertEquals(60, consumer.height);
+		assertEquals(60, consumer.rows);
+		assertEquals(4, consumer.calls);
+		assertTrue(consumer.ended);
+		assertTrue(consumer.disposed);
+		assertEquals(WHITE, consumer.getPixel(39, 30));
+		assertEquals(BLUE, consumer.getPixel(40, 30));
+		assertEquals(BLUE, consumer.getPixel(69, 49));
+		assertEquals(WHITE, consumer.getPixel(70, 49));
+		assertEquals(WHITE, consumer.getPixel(69, 50));
+	}
+
+	@Test
+	public void testRegionAndScale() throws IOException {
+		exporter.setRegion(new Rectangle(30, 10, 50, 50));
+		exporter.setScale(2);
+		CollectingConsumer consumer = new CollectingConsumer();
+		assertTrue(exporter.export(consumer));
+		assertEquals(100, consumer.width);
+		assertEquals(100, consumer.height);
+		assertEquals(WHITE, consumer.getPixel(18, 40));
+		assertEquals(BLUE, consumer.getPixel(22, 22));
+		assertEquals(BLUE, consumer.getPixel(78, 78));
+		assertEquals(WHITE, consumer.getPixel(82, 40));
+	}
+
+	@Test
+	public void testCancel() throws IOException {
+		int[] painted = new int[1];
+		exporter.setProgressMonitor((count, total) -> {
+			assertEquals(28, total);
+			painted[0] = count;
+			return count < 10;
+		});
+		CollectingConsumer consumer = new CollectingConsumer();
+		assertFalse(exporter.export(consumer));
+		assertEquals(10, painted[0]);
+		assertEquals(1, consumer.calls);
+		assertFalse(consumer.ended);
+		assertTrue(consumer.disposed);
+	}
+
+	@Test
+	public void testConsumerFails() {
+		CollectingConsumer consumer = new CollectingConsumer() {
+			@Override
+			public void consume(int[] band, int count) {
+				throw new UncheckedIOException(new IOException());
+			}
+		};
+		assertThrows(UncheckedIOException.class, () -> exporter.export(consumer));
+		assertFalse(consumer.ended);
+		assertTrue(consumer.disposed);
+	}
+
+	@Test
+	public void testPNG() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertTrue(exporter.export(TiledImageExporter.createPNGConsumer(out)));
+		ImageData[] data = new ImageLoader().load(new ByteArrayInputStream(out.toByteArray()));
+		assertEquals(1, data.length);
+		ImageData image = data[0];
+		assertEquals(100, image.width);
+		assertEquals(60, image.height);
+		assertEquals(new RGB(255, 255, 255), image.palette.getRGB(image.getPixel(39, 30)));
+		assertEquals(new RGB(0, 0, 255), image.palette.getRGB(image.getPixel(40, 30)));
+	}
+
+}
@@ -136,4 +136,68 @@ public class XYLayoutTest {
 		layout.layout(contents);
 		assertNotEquals(figure.getBounds(), EMPTY_RECTANGLE);
 	}
+
+	/**
+	 * Use Case: By default, all children are laid out again, including those whose
+	 * constraint has been modified in place or whose bounds have been set directly
+	 */
+	@Test
+	public void testFullLayout() {
+		Rectangle bounds = new Rectangle(10, 10, 20, 20);
+		RectangleFigure other = new RectangleFigure();
+		contents.add(other, bounds);
+		layout.layout(contents);
+		assertEquals(new Rectangle(10, 10, 20, 20), other.getBounds());
+
+		bounds.setLocation(40, 40);
+		layout.layout(contents);
+		assertEquals(new Rectangle(40, 40, 20, 20), other.getBounds());
+
+		other.setBounds(new Rectangle(50, 50, 20, 20));
+		layout.layout(contents);
+		assertEquals(new Rectangle(40, 40, 20, 20), other.getBounds());
+	}
+
+	/**
+	 * Use Case: Only children whose constraint has been changed are laid out again
+	 */
+	@Test
+	public void testIncrementalLayout() {
+		layout.setIncremental(true);
+		RectangleFigure other = new RectangleFigure();
+		contents.add(other, new Rectangle(10, 10, 20, 20));
+		layout.layout(contents);
+		assertEquals(new Rectangle(10, 10, 20, 20), other.getBounds());
+
+		// Bounds which are set directly are kept...
+		other.setBounds(new Rectangle(50, 50, 20, 20));
+		layout.layout(contents);
+		assertEquals(new Rectangle(50, 50, 20, 20), other.getBounds());
+
+		// ... until the constraint is set again
+		contents.setConstraint(other, new Rectangle(30, 30, 20, 20));
+		layout.layout(contents);
+		assertEquals(new Rectangle(30, 30, 20, 20), other.getBounds());
+
+		// Children depending on their preferred size are always laid out
+		figure.setPreferredSize(100, 200);
+		layout.layout(contents);
+		assertEquals(new Rectangle(0, 0, 100, 200), figure.getBounds());
+	}
+
+	/**
+	 * Use Case: All children are laid out again if the origin changes
+	 */
+	@Test
+	public void testLayoutOriginChanged() {
+		layout.setIncremental(true);
+		RectangleFigure other = new RectangleFigure();
+		contents.add(other, new Rectangle(10, 10, 20, 20));
+		layout.layout(contents);
+		other.setBounds(new Rectangle(50, 50, 20, 20));
+
+		contents.setBounds(new Rectangle(5, 5, 200, 200));
+		layout.layout(contents);
+		assertEquals(new Rectangle(15, 15, 20, 20), other.getBounds());
+	}
 }
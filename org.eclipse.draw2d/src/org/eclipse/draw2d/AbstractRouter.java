@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -22,6 +22,7 @@ public abstract class AbstractRouter implements ConnectionRouter {
 
 	private static final Point START = new Point();
 	private static final Point END = new Point();
+	private static final Point REFERENCE = new Point();
 
 	/**
 	 * Returns the constraint for the given Connection.
@@ -49,8 +50,8 @@ public abstract class AbstractRouter implements ConnectionRouter {
 	 */
 	@SuppressWarnings("static-method")
 	protected Point getEndPoint(Connection connection) {
-		Point ref = connection.getSourceAnchor().getReferencePoint();
-		return END.setLocation(connection.getTargetAnchor().getLocation(ref));
+		Point ref = connection.getSourceAnchor().getReferencePoint(REFERENCE);
+		return connection.getTargetAnchor().getLocation(ref, END);
 	}
 
 	/**
@@ -67,8 +68,8 @@ public abstract class AbstractRouter implements ConnectionRouter {
 	 */
 	@SuppressWarnings("static-method")
 	protected Point getStartPoint(Connection conn) {
-		Point ref = conn.getTargetAnchor().getReferencePoint();
-		return START.setLocation(conn.getSourceAnchor().getLocation(ref));
+		Point ref = conn.getTargetAnchor().getReferencePoint(REFERENCE);
+		return conn.getSourceAnchor().getLocation(ref, START);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -19,6 +19,8 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.swt.widgets.Display;
+
 /**
  * A utility for coordinating figure animations. During animation, multiple
  * <i>animators</i> are employed to capture the <em>initial</em> and
@@ -39,6 +41,13 @@ import java.util.Set;
  * The run method will force a validation pass to capture the final states, and
  * then commence the animation. The animation is synchronous and the method does
  * not return until the animation has completed.
+ * <P>
+ * Alternatively, {@link #runAsync(int)} plays the animation from a display
+ * timer and returns after the first frame has been painted, so that input is
+ * processed during playback. The progress of each frame is derived from the
+ * elapsed time, so frames are dropped rather than the animation slowed down if
+ * painting falls behind. Marking the beginning of a new animation finishes the
+ * one still being played.
  *
  * @see LayoutAnimator
  * @since 3.2
@@ -48,10 +57,52 @@ public class Animation {
 	static record AnimPair(Animator animator, IFigure figure) {
 	}
 
+	/**
+	 * Plays the animation asynchronously, one frame per display timer tick.
+	 */
+	private static final class Playback implements Runnable {
+		private final Display display;
+		private final int duration;
+		private final long startTime = System.currentTimeMillis();
+
+		Playback(Display display, int duration) {
+			this.display = display;
+			this.duration = duration;
+		}
+
+		@Override
+		public void run() {
+			if (playback != this) {
+				// finished or superseded in the meantime
+				return;
+			}
+			long frameStart = System.currentTimeMillis();
+			boolean done = true;
+			try {
+				progress = computeProgress(startTime, duration);
+				step();
+				updateManager.performUpdate();
+				done = progress == 1.0;
+			} finally {
+				if (done) {
+					playback = null;
+					cleanup();
+				}
+			}
+			if (!done) {
+				int elapsed = (int) (System.currentTimeMillis() - frameStart);
+				display.timerExec(Math.max(1, FRAME_INTERVAL - elapsed), this);
+			}
+		}
+	}
+
 	private static final int DEFAULT_DELAY = 250;
+	private static final int FRAME_INTERVAL = 16;
 	private static Set<AnimPair> figureAnimators;
 	private static Map<AnimPair, Object> finalStates;
 	private static Map<AnimPair, Object> initialStates;
+	private static Map<AnimPair, Object> playbackStates;
+	private static Playback playback;
 
 	private static final int PLAYBACK = 3;
 	private static float progress;
@@ -89,39 +140,51 @@ public class Animation {
 
 		initialStates = null;
 		finalStates = null;
+		playbackStates = null;
 		figureAnimators = null;
 		updateManager = null;
 		toCapture = null;
 		state = 0;
 	}
 
+	private static float computeProgress(long startTime, int duration) {
+		int delta = (int) (System.currentTimeMillis() - startTime);
+		if (delta >= duration) {
+			return 1f;
+		}
+		return 0.1f + 0.9f * delta / duration;
+	}
+
 	private static void doRun(int duration) {
-		state = RECORD_FINAL;
-		findUpdateManager();
-		updateManager.performValidation();
-		capture();
-		state = PLAYBACK;
+		startPlayback();
 		progress = 0.1f;
 		long startTime = System.currentTimeMillis();
 
-		notifyPlaybackStarting();
-
 		while (progress != 0) {
 			step();
 			updateManager.performUpdate();
 			if (progress == 1.0) {
 				progress = 0;
 			} else {
-				int delta = (int) (System.currentTimeMillis() - startTime);
-				if (delta >= duration) {
-					progress = 1f;
-				} else {
-					progress = 0.1f + 0.9f * delta / duration;
-				}
+				progress = computeProgress(startTime, duration);
 			}
 		}
 	}
 
+	/**
+	 * Jumps to the end of the animation which is currently played asynchronously.
+	 */
+	private static void finishPlayback() {
+		playback = null;
+		try {
+			progress = 1f;
+			step();
+			updateManager.performUpdate();
+		} finally {
+			cleanup();
+		}
+	}
+
 	private static void findUpdateManager() {
 		AnimPair pair = figureAnimators.iterator().next();
 		updateManager = pair.figure.getUpdateManager();
@@ -176,6 +239,15 @@ public class Animation {
 		}
 	}
 
+	/**
+	 * Returns the state the given animator has derived from the initial and final
+	 * states for playing back the animation of the given figure, or
+	 * <code>null</code> if none has been stored yet.
+	 */
+	static Object getPlaybackState(Animator animator, IFigure figure) {
+		return playbackStates.get(new AnimPair(animator, figure));
+	}
+
 	static boolean hookPlayback(IFigure figure, Animator animator) {
 		if (toCapture.contains(new AnimPair(animator, figure))) {
 			return animator.playback(figure);
@@ -203,16 +275,21 @@ public class Animation {
 
 	/**
 	 * Marks the beginning of the animation process. If the beginning has already
-	 * been marked, this has no effect.
+	 * been marked, this has no effect. If an animation started by
+	 * {@link #runAsync(int)} is still being played, it is finished first.
 	 *
 	 * @return returns <code>true</code> if beginning was not previously marked
 	 * @since 3.2
 	 */
 	public static boolean markBegin() {
+		if (playback != null) {
+			finishPlayback();
+		}
 		if (state == 0) {
 			state = RECORD_INITIAL;
 			initialStates = new HashMap<>();
 			finalStates = new HashMap<>();
+			playbackStates = new HashMap<>();
 			figureAnimators = new HashSet<>();
 			toCapture = new HashSet<>();
 			return true;
@@ -234,6 +311,10 @@ public class Animation {
 		initialStates.put(new AnimPair(animator, key), state);
 	}
 
+	static void putPlaybackState(Animator animator, IFigure key, Object state) {
+		playbackStates.put(new AnimPair(animator, key), state);
+	}
+
 	/**
 	 * Runs animation using the recommended duration: 250 milliseconds.
 	 *
@@ -251,7 +332,7 @@ public class Animation {
 	 * @since 3.2
 	 */
 	public static void run(int duration) {
-		if (state == 0) {
+		if (state == 0 || state == PLAYBACK) {
 			return;
 		}
 		try {
@@ -263,6 +344,49 @@ public class Animation {
 		}
 	}
 
+	/**
+	 * Captures the final states for the animation and then plays the animation
+	 * asynchronously, using timers of the current display. This method returns
+	 * once the first frame has been painted. Each following frame revalidates the
+	 * animated figures and paints the damaged regions, and the animation is
+	 * cleaned up after the last frame. Frames are spaced by roughly 16
+	 * milliseconds, and their progress is derived from the elapsed time, so frames
+	 * are dropped if painting cannot keep up.
+	 * <P>
+	 * If this method is not called from the UI thread, the animation is played
+	 * synchronously as by {@link #run(int)}.
+	 *
+	 * @param duration the length of animation in milliseconds
+	 * @since 3.18
+	 */
+	public static void runAsync(int duration) {
+		if (state == 0 || state == PLAYBACK) {
+			return;
+		}
+		Display display = Display.getCurrent();
+		if (display == null || figureAnimators.isEmpty()) {
+			run(duration);
+			return;
+		}
+		try {
+			startPlayback();
+		} catch (RuntimeException | Error e) {
+			cleanup();
+			throw e;
+		}
+		playback = new Playback(display, duration);
+		playback.run();
+	}
+
+	private static void startPlayback() {
+		state = RECORD_FINAL;
+		findUpdateManager();
+		updateManager.performValidation();
+		capture();
+		state = PLAYBACK;
+		notifyPlaybackStarting();
+	}
+
 	private static void step() {
 		for (AnimPair element : initialStates.keySet()) {
 			element.figure.revalidate();
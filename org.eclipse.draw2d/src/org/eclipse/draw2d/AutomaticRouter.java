@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -33,14 +33,34 @@ public abstract class AutomaticRouter extends AbstractRouter {
 	private ConnectionRouter nextRouter;
 	private final MultiValueMap<HashKey, Connection> connections = new MultiValueMap<>();
 
+	/**
+	 * Reused to look up the connections with the same anchors as a given
+	 * connection, so that routing an already known connection doesn't allocate a
+	 * key.
+	 */
+	private final HashKey lookupKey = new HashKey();
+
 	private static final class HashKey {
 
-		private final ConnectionAnchor anchor1;
-		private final ConnectionAnchor anchor2;
+		private ConnectionAnchor anchor1;
+		private ConnectionAnchor anchor2;
+
+		HashKey() {
+		}
 
 		HashKey(Connection conn) {
+			set(conn);
+		}
+
+		HashKey set(Connection conn) {
 			anchor1 = conn.getSourceAnchor();
 			anchor2 = conn.getTargetAnchor();
+			return this;
+		}
+
+		void clear() {
+			anchor1 = null;
+			anchor2 = null;
 		}
 
 		@Override
@@ -107,9 +127,9 @@ public abstract class AutomaticRouter extends AbstractRouter {
 		if (conn.getSourceAnchor() == null || conn.getTargetAnchor() == null) {
 			return;
 		}
-		HashKey connectionKey = new HashKey(conn);
-		List<Connection> connectionList = connections.get(connectionKey);
-		int affected = connections.remove(connectionKey, conn);
+		List<Connection> connectionList = connections.get(lookupKey.set(conn));
+		int affected = connections.remove(lookupKey, conn);
+		lookupKey.clear();
 		if (affected != -1) {
 			for (int i = affected; i < connectionList.size(); i++) {
 				connectionList.get(i).revalidate();
@@ -138,14 +158,14 @@ public abstract class AutomaticRouter extends AbstractRouter {
 		if (conn.getSourceAnchor() == null || conn.getTargetAnchor() == null) {
 			return;
 		}
-		HashKey connectionKey = new HashKey(conn);
-		List<Connection> connectionList = connections.get(connectionKey);
+		List<Connection> connectionList = connections.get(lookupKey.set(conn));
 		if (connectionList != null) {
-			int index = connections.remove(connectionKey, conn);
+			int index = connections.remove(lookupKey, conn);
 			for (int i = index + 1; i < connectionList.size(); i++) {
 				connectionList.get(i).revalidate();
 			}
 		}
+		lookupKey.clear();
 		if (next() != null) {
 			next().remove(conn);
 		}
@@ -169,24 +189,22 @@ public abstract class AutomaticRouter extends AbstractRouter {
 
 		if (conn.getPoints().size() == 2) {
 			PointList points = conn.getPoints();
-			HashKey connectionKey = new HashKey(conn);
-			List<Connection> connectionList = connections.get(connectionKey);
+			List<Connection> connectionList = connections.get(lookupKey.set(conn));
+			lookupKey.clear();
 
 			if (connectionList != null) {
 
-				int index;
+				int index = connectionList.indexOf(conn) + 1;
 
-				if (connectionList.contains(conn)) {
-					index = connectionList.indexOf(conn) + 1;
-				} else {
+				if (index == 0) {
 					index = connectionList.size() + 1;
-					connections.put(connectionKey, conn);
+					connectionList.add(conn);
 				}
 
 				handleCollision(points, index);
 				conn.setPoints(points);
 			} else {
-				connections.put(connectionKey, conn);
+				connections.put(new HashKey(conn), conn);
 			}
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -30,6 +30,8 @@ public class BendpointConnectionRouter extends AbstractRouter {
 	private final Map<Connection, List<Bendpoint>> constraints = new HashMap<>(11);
 
 	private static final PrecisionPoint A_POINT = new PrecisionPoint();
+	private static final Point REF1 = new Point();
+	private static final Point REF2 = new Point();
 
 	/**
 	 * Gets the constraint for the given {@link Connection}.
@@ -73,22 +75,22 @@ public class BendpointConnectionRouter extends AbstractRouter {
 		Point ref2;
 
 		if (bendpoints.isEmpty()) {
-			ref1 = conn.getTargetAnchor().getReferencePoint();
-			ref2 = conn.getSourceAnchor().getReferencePoint();
+			ref1 = conn.getTargetAnchor().getReferencePoint(REF1);
+			ref2 = conn.getSourceAnchor().getReferencePoint(REF2);
 		} else {
-			ref1 = new Point(bendpoints.get(0).getLocation());
+			ref1 = REF1.setLocation(bendpoints.get(0).getLocation());
 			conn.translateToAbsolute(ref1);
-			ref2 = new Point(bendpoints.get(bendpoints.size() - 1).getLocation());
+			ref2 = REF2.setLocation(bendpoints.get(bendpoints.size() - 1).getLocation());
 			conn.translateToAbsolute(ref2);
 		}
 
-		A_POINT.setLocation(conn.getSourceAnchor().getLocation(ref1));
+		conn.getSourceAnchor().getLocation(ref1, A_POINT);
 		conn.translateToRelative(A_POINT);
 		points.addPoint(A_POINT);
 
 		bendpoints.forEach(bp -> points.addPoint(bp.getLocation()));
 
-		A_POINT.setLocation(conn.getTargetAnchor().getLocation(ref2));
+		conn.getTargetAnchor().getLocation(ref2, A_POINT);
 		conn.translateToRelative(A_POINT);
 		points.addPoint(A_POINT);
 		conn.setPoints(points);
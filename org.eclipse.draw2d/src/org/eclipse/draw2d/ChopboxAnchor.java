@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -46,9 +46,26 @@ public class ChopboxAnchor extends AbstractConnectionAnchor {
 	 *
 	 * @param reference The reference point
 	 * @return The anchor location
+	 * @see #getLocation(Point, Point)
 	 */
 	@Override
 	public Point getLocation(Point reference) {
+		return getLocation(reference, new Point());
+	}
+
+	/**
+	 * Same as {@link #getLocation(Point)}, but stores the anchor location in the
+	 * given <i>result</i> Point instead of allocating a new one. Routers call this
+	 * method, and {@link #getLocation(Point)} delegates to it, so subclasses which
+	 * calculate a different location should override this method.
+	 *
+	 * @param reference The reference point
+	 * @param result    The Point in which the anchor location is stored
+	 * @return <code>result</code> for convenience
+	 * @since 3.18
+	 */
+	@Override
+	public Point getLocation(Point reference, Point result) {
 		Rectangle r = Rectangle.SINGLETON;
 		r.setBounds(getBox());
 		r.translate(-1, -1);
@@ -58,10 +75,9 @@ public class ChopboxAnchor extends AbstractConnectionAnchor {
 		float centerX = r.x + 0.5f * r.width;
 		float centerY = r.y + 0.5f * r.height;
 
-		if (r.isEmpty() || (reference.x == (int) centerX && reference.y == (int) centerY))
-		 {
-			return new Point((int) centerX, (int) centerY); // This avoids
-															// divide-by-zero
+		if (r.isEmpty() || (reference.x == (int) centerX && reference.y == (int) centerY)) {
+			// This avoids divide-by-zero
+			return result.setLocation((int) centerX, (int) centerY);
 		}
 
 		float dx = reference.x - centerX;
@@ -75,7 +91,7 @@ public class ChopboxAnchor extends AbstractConnectionAnchor {
 		centerX += dx;
 		centerY += dy;
 
-		return new Point(Math.round(centerX), Math.round(centerY));
+		return result.setLocation(Math.round(centerX), Math.round(centerY));
 	}
 
 	/**
@@ -95,12 +111,29 @@ public class ChopboxAnchor extends AbstractConnectionAnchor {
 	 * is the center of the anchor's owner.
 	 *
 	 * @return The reference point
+	 * @see #getReferencePoint(Point)
 	 */
 	@Override
 	public Point getReferencePoint() {
-		Point ref = getBox().getCenter();
-		getOwner().translateToAbsolute(ref);
-		return ref;
+		return getReferencePoint(new Point());
+	}
+
+	/**
+	 * Same as {@link #getReferencePoint()}, but stores the reference point in the
+	 * given <i>result</i> Point. {@link #getReferencePoint()} delegates to this
+	 * method, so subclasses which use a different reference point should override
+	 * this method.
+	 *
+	 * @param result The Point in which the reference point is stored
+	 * @return <code>result</code> for convenience
+	 * @since 3.18
+	 */
+	@Override
+	public Point getReferencePoint(Point result) {
+		Rectangle box = getBox();
+		result.setLocation(box.x + box.width / 2, box.y + box.height / 2);
+		getOwner().translateToAbsolute(result);
+		return result;
 	}
 
 	/**
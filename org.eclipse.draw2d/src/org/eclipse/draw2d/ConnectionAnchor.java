@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -37,6 +37,22 @@ public interface ConnectionAnchor {
 	 */
 	Point getLocation(Point reference);
 
+	/**
+	 * Calculates the location where the Connection should be anchored in absolute
+	 * coordinates and stores it in the given <i>result</i> Point. This method is
+	 * used by {@link ConnectionRouter routers} to avoid allocating a new Point for
+	 * every routed connection. The default implementation delegates to
+	 * {@link #getLocation(Point)}.
+	 *
+	 * @param reference The reference Point in absolute coordinates
+	 * @param result    The Point in which the anchor's location is stored
+	 * @return <code>result</code> for convenience
+	 * @since 3.18
+	 */
+	default Point getLocation(Point reference, Point result) {
+		return result.setLocation(getLocation(reference));
+	}
+
 	/**
 	 * Returns the IFigure that contains this ConnectionAnchor. Moving this figure
 	 * will cause the anchor to move with it.
@@ -54,6 +70,19 @@ public interface ConnectionAnchor {
 	 */
 	Point getReferencePoint();
 
+	/**
+	 * Calculates the reference point for this anchor in absolute coordinates and
+	 * stores it in the given <i>result</i> Point. The default implementation
+	 * delegates to {@link #getReferencePoint()}.
+	 *
+	 * @param result The Point in which the reference point is stored
+	 * @return <code>result</code> for convenience
+	 * @since 3.18
+	 */
+	default Point getReferencePoint(Point result) {
+		return result.setLocation(getReferencePoint());
+	}
+
 	/**
 	 * Removes the listener.
 	 *
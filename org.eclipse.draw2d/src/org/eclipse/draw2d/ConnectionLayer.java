@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,6 +14,9 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.swt.SWT;
 
 /**
@@ -59,6 +62,39 @@ public class ConnectionLayer extends FreeformLayer {
 		return connectionRouter;
 	}
 
+	/**
+	 * Lays out this layer and then routes all of its invalid connections at once,
+	 * using {@link ConnectionRouter#routeAll(java.util.Collection)}. Only
+	 * {@link PolylineConnection PolylineConnections} using this layer's router
+	 * take part; all other connections are routed during their own layout.
+	 *
+	 * @see Figure#layout()
+	 * @since 3.18
+	 */
+	@Override
+	protected void layout() {
+		super.layout();
+		routeInvalidConnections();
+	}
+
+	private void routeInvalidConnections() {
+		ConnectionRouter router = getConnectionRouter();
+		if (router == null) {
+			return;
+		}
+		List<PolylineConnection> invalidConnections = new ArrayList<>();
+		for (IFigure child : getChildren()) {
+			if (child instanceof PolylineConnection conn && !conn.isValid() && conn.isRoutableBy(router)) {
+				invalidConnections.add(conn);
+			}
+		}
+		if (invalidConnections.isEmpty()) {
+			return;
+		}
+		router.routeAll(invalidConnections);
+		invalidConnections.forEach(PolylineConnection::markRouted);
+	}
+
 	/**
 	 * @see IFigure#paint(Graphics)
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.Collection;
+
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 
@@ -47,6 +49,22 @@ public interface ConnectionRouter {
 	 */
 	void route(Connection connection);
 
+	/**
+	 * Routes all of the given Connections within a single update cycle. This
+	 * method is called by the {@link ConnectionLayer} with all of its invalid
+	 * connections before they are validated, so that routers which solve all
+	 * connections at once only have to do so a single time. The connections are
+	 * not routed again during their own layout, unless they are invalidated after
+	 * this method has returned. The default implementation calls
+	 * {@link #route(Connection)} for each connection, in the given order.
+	 *
+	 * @param connections The Connections to route
+	 * @since 3.18
+	 */
+	default void routeAll(Collection<? extends Connection> connections) {
+		connections.forEach(this::route);
+	}
+
 	/**
 	 * Removes the Connection from this router.
 	 *
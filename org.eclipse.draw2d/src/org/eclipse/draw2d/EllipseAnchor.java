@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -44,31 +44,52 @@ public class EllipseAnchor extends AbstractConnectionAnchor {
 	 */
 	@Override
 	public Point getLocation(Point reference) {
+		return getLocation(reference, new Point());
+	}
+
+	/**
+	 * Same as {@link #getLocation(Point)}, but stores the anchor location in the
+	 * given <i>result</i> Point instead of allocating a new one.
+	 * {@link #getLocation(Point)} delegates to this method, so subclasses which
+	 * calculate a different location should override this method.
+	 *
+	 * @see org.eclipse.draw2d.ConnectionAnchor#getLocation(Point, Point)
+	 * @since 3.18
+	 */
+	@Override
+	public Point getLocation(Point reference, Point result) {
+		return calculateLocation(reference.x, reference.y, result);
+	}
+
+	private Point calculateLocation(int refX, int refY, Point result) {
 		Rectangle r = Rectangle.SINGLETON;
 		r.setBounds(getOwner().getBounds());
 		r.translate(-1, -1);
 		r.resize(1, 1);
 		getOwner().translateToAbsolute(r);
 
-		Point ref = r.getCenter().negate().translate(reference);
+		int centerX = r.x + r.width / 2;
+		int centerY = r.y + r.height / 2;
+		int x = refX - centerX;
+		int y = refY - centerY;
 
-		if (ref.x == 0) {
-			return new Point(reference.x, (ref.y > 0) ? r.bottom() : r.y);
+		if (x == 0) {
+			return result.setLocation(refX, (y > 0) ? r.bottom() : r.y);
 		}
-		if (ref.y == 0) {
-			return new Point((ref.x > 0) ? r.right() : r.x, reference.y);
+		if (y == 0) {
+			return result.setLocation((x > 0) ? r.right() : r.x, refY);
 		}
 
-		float dx = (ref.x > 0) ? 0.5f : -0.5f;
-		float dy = (ref.y > 0) ? 0.5f : -0.5f;
+		float dx = (x > 0) ? 0.5f : -0.5f;
+		float dy = (y > 0) ? 0.5f : -0.5f;
 
-		// ref.x, ref.y, r.width, r.height != 0 => safe to proceed
+		// x, y, r.width, r.height != 0 => safe to proceed
 
-		float k = (float) (ref.y * r.width) / (ref.x * r.height);
+		float k = (float) (y * r.width) / (x * r.height);
 		k = k * k;
 
-		return r.getCenter().translate((int) (r.width * dx / Math.sqrt(1 + k)),
-				(int) (r.height * dy / Math.sqrt(1 + 1 / k)));
+		return result.setLocation(centerX + (int) (r.width * dx / Math.sqrt(1 + k)),
+				centerY + (int) (r.height * dy / Math.sqrt(1 + 1 / k)));
 	}
 
 	/**
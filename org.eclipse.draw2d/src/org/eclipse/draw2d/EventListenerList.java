@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,83 +12,70 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * This class is intended for internal use only. TODO: If this is for internal
  * use only, we should move it to the internal package.
+ * <P>
+ * The listeners are grouped by their type. Each group is an immutable array,
+ * which is replaced whenever a listener of that type is added or removed. Only
+ * modifications are synchronized. Reading the listeners of a type only requires
+ * a volatile read and does not allocate if there are none.
  */
 public final class EventListenerList {
 
-	private volatile Object[] array;
-
 	/**
-	 * Adds a listener of type <i>c</i> to the list.
-	 *
-	 * @param c        the class
-	 * @param listener the listener
+	 * An immutable group of listeners of the same type. The instance is handed out
+	 * by {@link EventListenerList#getListenersIterable(Class)} as is, so that
+	 * iterating it with {@link #forEach(Consumer)} does not allocate.
 	 */
-	public synchronized <T> void addListener(Class<T> c, Object listener) {
-		if (listener == null || c == null) {
-			throw new IllegalArgumentException();
-		}
+	private static final class Listeners<T> implements Iterable<T> {
+		private final Class<?> type;
+		private final Object[] items;
 
-		int oldSize = (array == null) ? 0 : array.length;
-		Object[] newArray = new Object[oldSize + 2];
-		if (oldSize != 0) {
-			System.arraycopy(array, 0, newArray, 0, oldSize);
+		Listeners(Class<?> type, Object[] items) {
+			this.type = type;
+			this.items = items;
 		}
-		newArray[oldSize] = c;
-		oldSize++;
-		newArray[oldSize] = listener;
-		array = newArray;
-	}
 
-	/**
-	 * Returns <code>true</code> if this list of listeners contains a listener of
-	 * type <i>c</i>.
-	 *
-	 * @param c the type
-	 * @return whether this list contains a listener of type <i>c</i>
-	 */
-	public synchronized <T> boolean containsListener(Class<T> c) {
-		if (array == null) {
-			return false;
-		}
-		for (int i = 0; i < array.length; i += 2) {
-			if (array[i] == c) {
-				return true;
+		@Override
+		@SuppressWarnings("unchecked") // only listeners of the type are added
+		public void forEach(Consumer<? super T> action) {
+			for (Object item : items) {
+				action.accept((T) item);
 			}
 		}
-		return false;
+
+		@Override
+		public Iterator<T> iterator() {
+			return new ArrayIterator<>(items);
+		}
 	}
 
-	static class TypeIterator<T> implements Iterator<T> {
+	private static final class ArrayIterator<T> implements Iterator<T> {
 		private final Object[] items;
-		private final Class<T> type;
 		private int index;
 
-		TypeIterator(Object[] items, Class<T> type) {
+		ArrayIterator(Object[] items) {
 			this.items = items;
-			this.type = type;
 		}
 
 		@Override
 		public T next() {
-			@SuppressWarnings("unchecked") // check is performed in hasNext
-			T result = (T) items[index + 1];
-			index += 2;
+			if (index == items.length) {
+				throw new NoSuchElementException();
+			}
+			@SuppressWarnings("unchecked") // only listeners of the type are added
+			T result = (T) items[index++];
 			return result;
 		}
 
 		@Override
 		public boolean hasNext() {
-			if (items == null) {
-				return false;
-			}
-			while (index < items.length && items[index] != type) {
-				index += 2;
-			}
 			return index < items.length;
 		}
 
@@ -98,25 +85,90 @@ public final class EventListenerList {
 		}
 	}
 
+	private static final Listeners<?>[] EMPTY = {};
+
+	private volatile Listeners<?>[] groups = EMPTY;
+
+	/**
+	 * Adds a listener of type <i>c</i> to the list.
+	 *
+	 * @param c        the class
+	 * @param listener the listener
+	 */
+	public synchronized <T> void addListener(Class<T> c, Object listener) {
+		if (listener == null || c == null) {
+			throw new IllegalArgumentException();
+		}
+
+		Listeners<?>[] current = groups;
+		int index = indexOf(current, c);
+		if (index == -1) {
+			Listeners<?>[] newGroups = new Listeners<?>[current.length + 1];
+			System.arraycopy(current, 0, newGroups, 0, current.length);
+			newGroups[current.length] = new Listeners<>(c, new Object[] { listener });
+			groups = newGroups;
+			return;
+		}
+
+		Object[] items = current[index].items;
+		Object[] newItems = new Object[items.length + 1];
+		System.arraycopy(items, 0, newItems, 0, items.length);
+		newItems[items.length] = listener;
+		replace(current, index, new Listeners<>(c, newItems));
+	}
+
+	/**
+	 * Returns <code>true</code> if this list of listeners contains a listener of
+	 * type <i>c</i>.
+	 *
+	 * @param c the type
+	 * @return whether this list contains a listener of type <i>c</i>
+	 */
+	public <T> boolean containsListener(Class<T> c) {
+		return indexOf(groups, c) != -1;
+	}
+
 	/**
 	 * Returns an Iterator of all the listeners of type <i>c</i>.
 	 *
 	 * @param listenerType the type
 	 * @return an Iterator of all the listeners of type <i>c</i>
 	 */
-	public synchronized <T> Iterator<T> getListeners(final Class<T> listenerType) {
-		return new TypeIterator<>(array, listenerType);
+	public <T> Iterator<T> getListeners(final Class<T> listenerType) {
+		Listeners<?>[] current = groups;
+		int index = indexOf(current, listenerType);
+		if (index == -1) {
+			return Collections.emptyIterator();
+		}
+		return new ArrayIterator<>(current[index].items);
 	}
 
 	/**
-	 * Returns a typed Iterable of all listeners of a of type <i>c</i>.
+	 * Returns a typed Iterable of all listeners of a of type <i>c</i>. The Iterable
+	 * is a snapshot, which is not affected by subsequent modifications of this
+	 * list.
 	 *
 	 * @param listenerType the type
 	 * @return an Iterable of all the listeners of type <i>c</i>
 	 * @since 3.13
 	 */
-	public synchronized <T> Iterable<T> getListenersIterable(final Class<T> listenerType) {
-		return () -> new TypeIterator<>(array, listenerType);
+	@SuppressWarnings("unchecked") // groups are keyed by their type
+	public <T> Iterable<T> getListenersIterable(final Class<T> listenerType) {
+		Listeners<?>[] current = groups;
+		int index = indexOf(current, listenerType);
+		if (index == -1) {
+			return Collections.emptyList();
+		}
+		return (Iterable<T>) current[index];
+	}
+
+	private static int indexOf(Listeners<?>[] groups, Class<?> type) {
+		for (int i = 0; i < groups.length; i++) {
+			if (groups[i].type == type) {
+				return i;
+			}
+		}
+		return -1;
 	}
 
 	/**
@@ -126,28 +178,45 @@ public final class EventListenerList {
 	 * @param listener the listener
 	 */
 	public synchronized <T> void removeListener(Class<T> c, Object listener) {
-		if (array == null || array.length == 0) {
+		Listeners<?>[] current = groups;
+		if (current.length == 0) {
 			return;
 		}
 		if (listener == null || c == null) {
 			throw new IllegalArgumentException();
 		}
 
-		int index = 0;
-		while (index < array.length) {
-			if (array[index] == c && array[index + 1] == listener) {
-				break;
-			}
-			index += 2;
+		int index = indexOf(current, c);
+		if (index == -1) {
+			return;
 		}
-		if (index == array.length) {
+		Object[] items = current[index].items;
+		int position = 0;
+		while (position < items.length && items[position] != listener) {
+			position++;
+		}
+		if (position == items.length) {
 			return; // listener was not found
 		}
 
-		Object[] newArray = new Object[array.length - 2];
-		System.arraycopy(array, 0, newArray, 0, index);
-		System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
-		array = newArray;
+		if (items.length == 1) {
+			Listeners<?>[] newGroups = current.length == 1 ? EMPTY : new Listeners<?>[current.length - 1];
+			System.arraycopy(current, 0, newGroups, 0, index);
+			System.arraycopy(current, index + 1, newGroups, index, current.length - index - 1);
+			groups = newGroups;
+			return;
+		}
+
+		Object[] newItems = new Object[items.length - 1];
+		System.arraycopy(items, 0, newItems, 0, position);
+		System.arraycopy(items, position + 1, newItems, position, items.length - position - 1);
+		replace(current, index, new Listeners<>(c, newItems));
+	}
+
+	private void replace(Listeners<?>[] current, int index, Listeners<?> group) {
+		Listeners<?>[] newGroups = current.clone();
+		newGroups[index] = group;
+		groups = newGroups;
 	}
 
 }
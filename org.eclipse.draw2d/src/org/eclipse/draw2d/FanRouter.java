@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,7 +15,6 @@ package org.eclipse.draw2d;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 import org.eclipse.draw2d.geometry.PrecisionPoint;
-import org.eclipse.draw2d.geometry.Ray;
 
 /**
  * Automatic router that spreads its {@link Connection Connections} in a
@@ -23,6 +22,10 @@ import org.eclipse.draw2d.geometry.Ray;
  */
 public class FanRouter extends AutomaticRouter {
 
+	private static final Point START = new Point();
+	private static final Point END = new Point();
+	private static final PrecisionPoint BEND_POINT = new PrecisionPoint();
+
 	private int separation = 10;
 
 	/**
@@ -45,35 +48,37 @@ public class FanRouter extends AutomaticRouter {
 	 */
 	@Override
 	protected void handleCollision(PointList points, int index) {
-		Point start = points.getFirstPoint();
-		Point end = points.getLastPoint();
+		Point start = points.getPoint(START, 0);
+		Point end = points.getPoint(END, points.size() - 1);
 
 		if (start.equals(end)) {
 			return;
 		}
 
-		Point midPoint = new Point((end.x + start.x) / 2, (end.y + start.y) / 2);
+		int midX = (end.x + start.x) / 2;
+		int midY = (end.y + start.y) / 2;
 		int position = end.getPosition(start);
-		Ray ray;
+		double rayX;
+		double rayY;
 		if (position == PositionConstants.SOUTH || position == PositionConstants.EAST) {
-			ray = new Ray(start, end);
+			rayX = end.x - start.x;
+			rayY = end.y - start.y;
 		} else {
-			ray = new Ray(end, start);
+			rayX = start.x - end.x;
+			rayY = start.y - end.y;
 		}
-		double length = ray.length();
-
-		double xSeparation = separation * ray.x / length * (index / 2);
-		double ySeparation = separation * ray.y / length * (index / 2);
+		double length = Math.sqrt(rayX * rayX + rayY * rayY);
 
-		Point bendPoint;
+		double xSeparation = separation * rayX / length * (index / 2);
+		double ySeparation = separation * rayY / length * (index / 2);
 
 		if (index % 2 == 0) {
-			bendPoint = new PrecisionPoint(midPoint.x + (-1 * ySeparation), midPoint.y + xSeparation);
+			BEND_POINT.setPreciseLocation(midX + (-1 * ySeparation), midY + xSeparation);
 		} else {
-			bendPoint = new PrecisionPoint(midPoint.x + ySeparation, midPoint.y + (-1 * xSeparation));
+			BEND_POINT.setPreciseLocation(midX + ySeparation, midY + (-1 * xSeparation));
 		}
-		if (!bendPoint.equals(midPoint)) {
-			points.insertPoint(bendPoint, 1);
+		if (!BEND_POINT.equals(midX, midY)) {
+			points.insertPoint(BEND_POINT.x, BEND_POINT.y, 1);
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -28,6 +28,7 @@ import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Cursor;
 import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.draw2d.geometry.Dimension;
@@ -44,6 +45,16 @@ public class Figure implements IFigure {
 	private static final Rectangle PRIVATE_RECT = new Rectangle();
 	private static final Point PRIVATE_POINT = new Point();
 
+	/*
+	 * The visual properties which children inherit from their parent, used as
+	 * indices into InheritedSources.
+	 */
+	private static final int INHERITED_BACKGROUND = 0;
+	private static final int INHERITED_CURSOR = 1;
+	private static final int INHERITED_FONT = 2;
+	private static final int INHERITED_FOREGROUND = 3;
+	private static final int INHERITED_ALL = (1 << 4) - 1;
+
 	private static final int FLAG_VALID = 1;
 	private static final int FLAG_OPAQUE = 1 << 1;
 	private static final int FLAG_VISIBLE = 1 << 2;
@@ -52,6 +63,8 @@ public class Figure implements IFigure {
 	private static final int FLAG_FOCUS_TRAVERSABLE = 1 << 5;
 
 	static final int FLAG_REALIZED = 1 << 31;
+	static final int FLAG_RENDER_CACHED = 1 << 30;
+	private static final int FLAG_RENDER_TRANSLATED = 1 << 29;
 
 	/**
 	 * The largest flag defined in this class. If subclasses define flags, they
@@ -131,6 +144,14 @@ public class Figure implements IFigure {
 
 	private AncestorHelper ancestorHelper;
 
+	/*
+	 * For each inherited property, the ancestor from which it is obtained: the
+	 * nearest ancestor which has a local value, computes its inherited properties,
+	 * or is the topmost figure. An entry of null has not been looked up since an ancestor
+	 * or the hierarchy has changed.
+	 */
+	private IFigure[] inheritedSources;
+
 	/**
 	 * Calls {@link #add(IFigure, Object, int)} with -1 as the index.
 	 *
@@ -601,7 +622,7 @@ public class Figure implements IFigure {
 	@Override
 	public Color getBackgroundColor() {
 		if (getLocalBackgroundColor() == null && getParent() != null) {
-			return getParent().getBackgroundColor();
+			return getInheritedSource(INHERITED_BACKGROUND).getBackgroundColor();
 		}
 		return getLocalBackgroundColor();
 	}
@@ -682,7 +703,7 @@ public class Figure implements IFigure {
 	@Override
 	public Cursor getCursor() {
 		if (cursor == null && getParent() != null) {
-			return getParent().getCursor();
+			return getInheritedSource(INHERITED_CURSOR).getCursor();
 		}
 		return cursor;
 	}
@@ -706,7 +727,7 @@ public class Figure implements IFigure {
 			return getLocalFont();
 		}
 		if (getParent() != null) {
-			return getParent().getFont();
+			return getInheritedSource(INHERITED_FONT).getFont();
 		}
 		return null;
 	}
@@ -717,11 +738,113 @@ public class Figure implements IFigure {
 	@Override
 	public Color getForegroundColor() {
 		if (getLocalForegroundColor() == null && getParent() != null) {
-			return getParent().getForegroundColor();
+			return getInheritedSource(INHERITED_FOREGROUND).getForegroundColor();
 		}
 		return getLocalForegroundColor();
 	}
 
+	/**
+	 * Returns the ancestor from which this figure inherits the given property. The
+	 * result is cached until the property is set on an ancestor or the hierarchy
+	 * above this figure changes. This figure must have a parent.
+	 */
+	private IFigure getInheritedSource(int property) {
+		if (inheritedSources == null) {
+			inheritedSources = new IFigure[4];
+		}
+		IFigure source = inheritedSources[property];
+		if (source == null) {
+			source = getParent();
+			while (source instanceof Figure figure && figure.getParent() != null
+					&& !figure.providesInherited(property)) {
+				source = figure.getParent();
+			}
+			inheritedSources[property] = source;
+		}
+		return source;
+	}
+
+	/**
+	 * Returns whether the descendants of this figure obtain the given property from
+	 * this figure rather than from one of its ancestors.
+	 */
+	private boolean providesInherited(int property) {
+		return getLocalProperty(property) != null || computesInheritedProperties();
+	}
+
+	/**
+	 * Returns whether this figure computes its font, colors or cursor in an
+	 * overridden getter, such as {@link #getFont()}, even if it has no local
+	 * value. The descendants of such a figure always call its getters instead of
+	 * those of an ancestor. The default implementation returns <code>false</code>.
+	 *
+	 * @return <code>true</code> if the descendants must call the getters of this
+	 *         figure
+	 * @see #invalidateInheritedProperties()
+	 * @since 3.18
+	 */
+	@SuppressWarnings("static-method")
+	protected boolean computesInheritedProperties() {
+		return false;
+	}
+
+	/**
+	 * Discards the ancestors from which the descendants of this figure obtain
+	 * their font, colors and cursor. This happens automatically when one of these
+	 * properties is set on this figure or the hierarchy changes. Subclasses must
+	 * call this method if the result of {@link #computesInheritedProperties()}
+	 * changes, or if they provide local values by other means than the setters,
+	 * for example by overriding {@link #getLocalFont()}, and these values change
+	 * between <code>null</code> and a non-null value.
+	 *
+	 * @since 3.18
+	 */
+	protected void invalidateInheritedProperties() {
+		invalidateInheritedSources(INHERITED_ALL);
+	}
+
+	/**
+	 * Discards the cached sources of the given properties of the descendants of
+	 * this figure. The walk stops at descendants which provide a property
+	 * themselves, since the sources below them are not affected.
+	 *
+	 * @param properties a bit mask of inherited properties
+	 */
+	private void invalidateInheritedSources(int properties) {
+		for (IFigure child : children) {
+			if (child instanceof Figure figure) {
+				figure.discardInheritedSources(properties);
+			}
+		}
+	}
+
+	private void discardInheritedSources(int properties) {
+		int remaining = properties;
+		for (int property = 0; property < 4; property++) {
+			if ((properties & (1 << property)) == 0) {
+				continue;
+			}
+			if (inheritedSources != null) {
+				inheritedSources[property] = null;
+			}
+			if (providesInherited(property)) {
+				remaining &= ~(1 << property);
+			}
+		}
+		if (remaining != 0) {
+			invalidateInheritedSources(remaining);
+		}
+	}
+
+	private Object getLocalProperty(int property) {
+		return switch (property) {
+		case INHERITED_BACKGROUND -> getLocalBackgroundColor();
+		case INHERITED_CURSOR -> cursor;
+		case INHERITED_FONT -> getLocalFont();
+		default -> getLocalForegroundColor();
+		};
+	}
+
 	/**
 	 * Returns the border's Insets if the border is set. Otherwise returns
 	 * NO_INSETS, an instance of Insets with all 0s. Returns Insets by reference. DO
@@ -1064,6 +1187,18 @@ public class Figure implements IFigure {
 		return null;
 	}
 
+	/**
+	 * Returns the render cache of the {@link LightweightSystem} this figure belongs
+	 * to, or <code>null</code> if it is not part of one. The cache is only created
+	 * if <code>create</code> is <code>true</code>.
+	 */
+	RenderCache internalGetRenderCache(boolean create) {
+		if (getParent() instanceof Figure figure) {
+			return figure.internalGetRenderCache(create);
+		}
+		return null;
+	}
+
 	/**
 	 * @see IFigure#intersects(Rectangle)
 	 */
@@ -1080,6 +1215,9 @@ public class Figure implements IFigure {
 		if (layoutManager != null) {
 			layoutManager.invalidate();
 		}
+		if (getFlag(FLAG_RENDER_CACHED)) {
+			discardRenderCache();
+		}
 		setValid(false);
 	}
 
@@ -1148,6 +1286,18 @@ public class Figure implements IFigure {
 		return (flags & FLAG_OPAQUE) != 0;
 	}
 
+	/**
+	 * Returns <code>true</code> if the rendering of this figure and its children is
+	 * cached.
+	 *
+	 * @return whether the render cache is enabled
+	 * @see #setRenderCacheEnabled(boolean)
+	 * @since 3.18
+	 */
+	public boolean isRenderCacheEnabled() {
+		return getFlag(FLAG_RENDER_CACHED);
+	}
+
 	/**
 	 * @see IFigure#isRequestFocusEnabled()
 	 */
@@ -1226,6 +1376,37 @@ public class Figure implements IFigure {
 			graphics.setFont(getLocalFont());
 		}
 
+		if (getFlag(FLAG_RENDER_CACHED) && paintRenderCache(graphics)) {
+			return;
+		}
+		paintUncached(graphics);
+	}
+
+	/**
+	 * Paints the cached image of this figure and its children, rendering it first
+	 * if necessary.
+	 *
+	 * @return <code>false</code> if there is no image to paint
+	 */
+	private boolean paintRenderCache(Graphics graphics) {
+		if (!isOpaque()) {
+			return false;
+		}
+		RenderCache cache = internalGetRenderCache(true);
+		if (cache == null) {
+			return false;
+		}
+		Image image = cache.getImage(this, graphics.getAbsoluteScale(), this::paintUncached);
+		if (image == null) {
+			return false;
+		}
+		org.eclipse.swt.graphics.Rectangle size = image.getBounds();
+		graphics.drawImage(image, 0, 0, size.width, size.height, getBounds().x, getBounds().y, getBounds().width,
+				getBounds().height);
+		return true;
+	}
+
+	private void paintUncached(Graphics graphics) {
 		graphics.pushState();
 		try {
 			paintFigure(graphics);
@@ -1498,6 +1679,9 @@ public class Figure implements IFigure {
 	 */
 	@Override
 	public void removeNotify() {
+		if (getFlag(FLAG_RENDER_CACHED)) {
+			discardRenderCache();
+		}
 		children.forEach(IFigure::removeNotify);
 		if (internalGetEventDispatcher() != null) {
 			internalGetEventDispatcher().requestRemoveFocus(this);
@@ -1541,6 +1725,12 @@ public class Figure implements IFigure {
 	@Override
 	public void repaint(int x, int y, int w, int h) {
 		if (isVisible()) {
+			if (RenderCache.hasImages()) {
+				RenderCache cache = internalGetRenderCache(false);
+				if (cache != null) {
+					cache.invalidate(this, !getFlag(FLAG_RENDER_TRANSLATED));
+				}
+			}
 			getUpdateManager().addDirtyRegion(this, x, y, w, h);
 		}
 	}
@@ -1603,7 +1793,11 @@ public class Figure implements IFigure {
 		} catch (SWTException e) {
 			highContrastClr = null;
 		}
+		Color oldColor = bgColor;
 		bgColor = highContrastClr == null ? bg : highContrastClr;
+		if ((oldColor == null) != (bgColor == null)) {
+			invalidateInheritedSources(1 << INHERITED_BACKGROUND);
+		}
 		repaint();
 	}
 
@@ -1655,7 +1849,13 @@ public class Figure implements IFigure {
 				invalidate();
 			}
 			fireFigureMoved();
-			repaint();
+			// A cached image is drawn at the bounds, so it survives a translation
+			setFlag(FLAG_RENDER_TRANSLATED, !resize);
+			try {
+				repaint();
+			} finally {
+				setFlag(FLAG_RENDER_TRANSLATED, false);
+			}
 		}
 	}
 
@@ -1737,7 +1937,11 @@ public class Figure implements IFigure {
 		if (this.cursor == cursor) {
 			return;
 		}
+		boolean inherited = this.cursor == null;
 		this.cursor = cursor;
+		if (inherited != (cursor == null)) {
+			invalidateInheritedSources(1 << INHERITED_CURSOR);
+		}
 		EventDispatcher dispatcher = internalGetEventDispatcher();
 		if (dispatcher != null) {
 			dispatcher.updateCursor();
@@ -1787,7 +1991,11 @@ public class Figure implements IFigure {
 	@Override
 	public void setFont(Font f) {
 		if (getLocalFont() != f) {
+			Font oldFont = font;
 			font = f;
+			if ((oldFont == null) != (f == null)) {
+				invalidateInheritedSources(1 << INHERITED_FONT);
+			}
 			revalidate();
 			repaint();
 		}
@@ -1815,7 +2023,11 @@ public class Figure implements IFigure {
 		} catch (SWTException e) {
 			highContrastClr = null;
 		}
+		Color oldColor = fgColor;
 		fgColor = highContrastClr == null ? fg : highContrastClr;
+		if ((oldColor == null) != (fgColor == null)) {
+			invalidateInheritedSources(1 << INHERITED_FOREGROUND);
+		}
 		repaint();
 	}
 
@@ -1888,6 +2100,7 @@ public class Figure implements IFigure {
 	public void setParent(IFigure p) {
 		IFigure oldParent = parent;
 		parent = p;
+		discardInheritedSources(INHERITED_ALL);
 		firePropertyChange("parent", oldParent, p);//$NON-NLS-1$
 	}
 
@@ -1915,6 +2128,47 @@ public class Figure implements IFigure {
 		setPreferredSize(new Dimension(w, h));
 	}
 
+	/**
+	 * Sets whether the rendering of this figure and its children is cached. If
+	 * enabled, the figure is painted into an offscreen image, which is drawn
+	 * instead for as long as neither this figure nor any of its descendants is
+	 * repainted or revalidated. Moving the figure without resizing it keeps its
+	 * image. An image is kept for each of the recently used zoom levels.
+	 * <P>
+	 * The cache is only used for {@link #isOpaque() opaque} figures, as the image
+	 * has no transparency. It should be enabled for complex subtrees which rarely
+	 * change. All images of a {@link LightweightSystem} share a memory budget, see
+	 * {@link LightweightSystem#setRenderCacheBudget(long)}. The images of the least
+	 * recently painted figures are disposed when it is exceeded.
+	 * <P>
+	 * The render cache is disabled by default.
+	 *
+	 * @param value <code>true</code> to cache the rendering of this figure
+	 * @since 3.18
+	 */
+	public void setRenderCacheEnabled(boolean value) {
+		if (getFlag(FLAG_RENDER_CACHED) == value) {
+			return;
+		}
+		if (!value) {
+			discardRenderCache();
+		}
+		setFlag(FLAG_RENDER_CACHED, value);
+	}
+
+	/**
+	 * Disposes the cached images of this figure.
+	 */
+	private void discardRenderCache() {
+		if (!RenderCache.hasImages()) {
+			return;
+		}
+		RenderCache cache = internalGetRenderCache(false);
+		if (cache != null) {
+			cache.remove(this);
+		}
+	}
+
 	/**
 	 * @see IFigure#setRequestFocusEnabled(boolean)
 	 */
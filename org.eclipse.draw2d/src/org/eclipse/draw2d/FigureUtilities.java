@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -283,30 +283,15 @@ public class FigureUtilities {
 		Rectangle clip = g.getClip(Rectangle.SINGLETON);
 
 		if (distanceX > 0) {
-			if (origin.x >= clip.x) {
-				while (origin.x - distanceX >= clip.x) {
-					origin.x -= distanceX;
-				}
-			} else {
-				while (origin.x < clip.x) {
-					origin.x += distanceX;
-				}
-			}
+			// the first grid line at or after the left edge of the clip
+			origin.x = clip.x + Math.floorMod(origin.x - clip.x, distanceX);
 			for (int i = origin.x; i < clip.x + clip.width; i += distanceX) {
 				g.drawLine(i, clip.y, i, clip.y + clip.height);
 			}
 		}
 
 		if (distanceY > 0) {
-			if (origin.y >= clip.y) {
-				while (origin.y - distanceY >= clip.y) {
-					origin.y -= distanceY;
-				}
-			} else {
-				while (origin.y < clip.y) {
-					origin.y += distanceY;
-				}
-			}
+			origin.y = clip.y + Math.floorMod(origin.y - clip.y, distanceY);
 			for (int i = origin.y; i < clip.y + clip.height; i += distanceY) {
 				g.drawLine(clip.x, i, clip.x + clip.width, i);
 			}
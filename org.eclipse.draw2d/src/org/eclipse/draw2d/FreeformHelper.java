@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.draw2d.geometry.Insets;
 import org.eclipse.draw2d.geometry.Rectangle;
 
@@ -20,7 +23,9 @@ class FreeformHelper implements FreeformListener {
 	class ChildTracker implements FigureListener {
 		@Override
 		public void figureMoved(IFigure source) {
-			invalidate();
+			if (!updateChildExtent(source)) {
+				invalidate();
+			}
 		}
 	}
 
@@ -28,6 +33,24 @@ class FreeformHelper implements FreeformListener {
 	private Rectangle freeformExtent;
 	private final FigureListener figureListener = new ChildTracker();
 
+	/**
+	 * The union of all children's extents is maintained incrementally. For each
+	 * edge, the number of children lying on that edge is counted, so that the
+	 * union only has to be recalculated when the last child on one of its edges
+	 * moves inwards or is removed.
+	 */
+	private final Map<IFigure, Rectangle> childExtents = new HashMap<>();
+	private boolean childExtentsValid;
+	private int count;
+	private int left;
+	private int top;
+	private int right;
+	private int bottom;
+	private int leftCount;
+	private int topCount;
+	private int rightCount;
+	private int bottomCount;
+
 	FreeformHelper(FreeformFigure host) {
 		this.host = host;
 	}
@@ -36,30 +59,134 @@ class FreeformHelper implements FreeformListener {
 		if (freeformExtent != null) {
 			return freeformExtent;
 		}
-		Rectangle r;
-		for (IFigure child : host.getChildren()) {
-			if (child instanceof FreeformFigure freeFormFig) {
-				r = freeFormFig.getFreeformExtent();
-			} else {
-				r = child.getBounds();
-			}
-			if (freeformExtent == null) {
-				freeformExtent = r.getCopy();
-			} else {
-				freeformExtent.union(r);
-			}
+		if (!childExtentsValid) {
+			calculateChildExtents();
 		}
 		Insets insets = host.getInsets();
-		if (freeformExtent == null) {
+		if (count == 0) {
 			freeformExtent = new Rectangle(0, 0, insets.getWidth(), insets.getHeight());
 		} else {
+			freeformExtent = new Rectangle(left, top, right - left, bottom - top);
 			host.translateToParent(freeformExtent);
 			freeformExtent.expand(insets);
 		}
 		return freeformExtent;
 	}
 
+	private void calculateChildExtents() {
+		childExtents.clear();
+		count = 0;
+		for (IFigure child : host.getChildren()) {
+			Rectangle r = getExtent(child).getCopy();
+			childExtents.put(child, r);
+			if (contributes(child, r)) {
+				include(r);
+			}
+		}
+		childExtentsValid = true;
+	}
+
+	/**
+	 * The first child always contributes to the union, even if it is empty.
+	 */
+	private boolean contributes(IFigure child, Rectangle r) {
+		return !r.isEmpty() || host.getChildren().get(0) == child;
+	}
+
+	private static Rectangle getExtent(IFigure child) {
+		if (child instanceof FreeformFigure freeFormFig) {
+			return freeFormFig.getFreeformExtent();
+		}
+		return child.getBounds();
+	}
+
+	private void include(Rectangle r) {
+		int x = r.x;
+		int y = r.y;
+		int x2 = r.x + r.width;
+		int y2 = r.y + r.height;
+		if (count++ == 0) {
+			left = x;
+			top = y;
+			right = x2;
+			bottom = y2;
+			leftCount = topCount = rightCount = bottomCount = 1;
+			return;
+		}
+		if (x < left) {
+			left = x;
+			leftCount = 1;
+		} else if (x == left) {
+			leftCount++;
+		}
+		if (y < top) {
+			top = y;
+			topCount = 1;
+		} else if (y == top) {
+			topCount++;
+		}
+		if (x2 > right) {
+			right = x2;
+			rightCount = 1;
+		} else if (x2 == right) {
+			rightCount++;
+		}
+		if (y2 > bottom) {
+			bottom = y2;
+			bottomCount = 1;
+		} else if (y2 == bottom) {
+			bottomCount++;
+		}
+	}
+
+	private void exclude(Rectangle r) {
+		if (--count == 0) {
+			return;
+		}
+		if ((r.x == left && --leftCount == 0) || (r.y == top && --topCount == 0)
+				|| (r.x + r.width == right && --rightCount == 0) || (r.y + r.height == bottom && --bottomCount == 0)) {
+			// The last child on one of the edges is gone
+			childExtentsValid = false;
+		}
+	}
+
+	/**
+	 * Updates the union of the children's extents after the given child has
+	 * moved.
+	 *
+	 * @return <code>true</code> if the freeform extent is known to be unchanged
+	 */
+	private boolean updateChildExtent(IFigure child) {
+		Rectangle previous = childExtents.get(child);
+		if (!childExtentsValid || previous == null) {
+			return false;
+		}
+		int oldLeft = left, oldTop = top, oldRight = right, oldBottom = bottom;
+		if (contributes(child, previous)) {
+			exclude(previous);
+		}
+		previous.setBounds(getExtent(child));
+		if (!childExtentsValid) {
+			return false;
+		}
+		if (contributes(child, previous)) {
+			include(previous);
+		}
+		return count > 0 && left == oldLeft && top == oldTop && right == oldRight && bottom == oldBottom;
+	}
+
 	public void hookChild(IFigure child) {
+		if (childExtentsValid) {
+			if (host.getChildren().get(0) == child) {
+				childExtentsValid = false;
+			} else {
+				Rectangle r = getExtent(child).getCopy();
+				childExtents.put(child, r);
+				if (contributes(child, r)) {
+					include(r);
+				}
+			}
+		}
 		invalidate();
 		if (child instanceof FreeformFigure freeFormFig) {
 			freeFormFig.addFreeformListener(this);
@@ -82,6 +209,7 @@ class FreeformHelper implements FreeformListener {
 	public void notifyFreeformExtentChanged() {
 		// A childs freeform extent has changed, therefore this extent must be
 		// recalculated
+		childExtentsValid = false;
 		invalidate();
 	}
 
@@ -97,6 +225,14 @@ class FreeformHelper implements FreeformListener {
 	}
 
 	public void unhookChild(IFigure child) {
+		if (childExtentsValid) {
+			Rectangle previous = childExtents.remove(child);
+			if (previous == null || host.getChildren().get(0) == child) {
+				childExtentsValid = false;
+			} else if (contributes(child, previous)) {
+				exclude(previous);
+			}
+		}
 		invalidate();
 		if (child instanceof FreeformFigure freeFormFig) {
 			freeFormFig.removeFreeformListener(this);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,6 +15,7 @@ package org.eclipse.draw2d;
 
 import java.text.MessageFormat;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.swt.SWT;
@@ -68,6 +69,12 @@ import org.eclipse.draw2d.internal.Messages;
  * <code>GridLayout</code>. Widgets are laid out in columns from left to right,
  * and a new row is created when <code>numColumns</code>+ 1 figures are added to
  * the <code>Figure<code> parent container.
+ * <p>
+ * The sizes of the children and the preferred sizes calculated for the most
+ * recently used hints are cached until the layout is invalidated, i.e. until
+ * the container, a child or a constraint is invalidated. Nested grids therefore
+ * compute each of their sizes only once per validation, no matter how often
+ * their parents ask for them.
  *
  * @see GridData
  *
@@ -75,6 +82,8 @@ import org.eclipse.draw2d.internal.Messages;
 public class GridLayout extends AbstractHintLayout {
 	private static final Logger LOGGER = Logger.getLogger(GridLayout.class);
 
+	private static final int PREFERRED_SIZE_CACHE_SIZE = 4;
+
 	/**
 	 * numColumns specifies the number of cell columns in the layout.
 	 *
@@ -125,6 +134,24 @@ public class GridLayout extends AbstractHintLayout {
 	/** The layout contraints */
 	protected Map<IFigure, Object> constraints = new HashMap<>();
 
+	/**
+	 * The preferred sizes calculated since the last invalidation, mapped by their
+	 * hints, in access order.
+	 */
+	@SuppressWarnings("serial")
+	private final Map<Dimension, Dimension> preferredSizes = new LinkedHashMap<>(8, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Dimension, Dimension> eldest) {
+			return size() > PREFERRED_SIZE_CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Whether the sizes cached by the {@link GridData} of the children have to be
+	 * flushed by the next calculation.
+	 */
+	private boolean flushChildSizes = true;
+
 	/**
 	 * Default Constructor
 	 */
@@ -190,6 +217,16 @@ public class GridLayout extends AbstractHintLayout {
 	 */
 	@Override
 	protected Dimension calculatePreferredSize(IFigure container, int wHint, int hHint) {
+		Dimension hints = new Dimension(wHint, hHint);
+		Dimension size = preferredSizes.get(hints);
+		if (size == null) {
+			size = calculatePreferredSize0(container, wHint, hHint);
+			preferredSizes.put(hints, size);
+		}
+		return size.getCopy();
+	}
+
+	private Dimension calculatePreferredSize0(IFigure container, int wHint, int hHint) {
 		// Remove the size of the border from the wHint and hHint in case a size
 		// different to the preferred size is used
 		int borderWidth = container.getInsets().getWidth();
@@ -202,8 +239,7 @@ public class GridLayout extends AbstractHintLayout {
 			hHint -= borderHeight;
 		}
 
-		Dimension size = layout(container, false, 0, 0, wHint, hHint, /* flushCache */
-				true);
+		Dimension size = layout(container, false, 0, 0, wHint, hHint, takeFlushChildSizes());
 		if (wHint != SWT.DEFAULT) {
 			size.width = wHint;
 		}
@@ -230,8 +266,7 @@ public class GridLayout extends AbstractHintLayout {
 	public void layout(IFigure container) {
 		// initChildren( container);
 		Rectangle rect = container.getClientArea();
-		layout(container, true, rect.x, rect.y, rect.width, rect.height, /* flushCache */
-				true);
+		layout(container, true, rect.x, rect.y, rect.width, rect.height, takeFlushChildSizes());
 
 	}
 
@@ -760,6 +795,25 @@ public class GridLayout extends AbstractHintLayout {
 		return new Dimension(totalDefaultWidth, totalDefaultHeight);
 	}
 
+	/**
+	 * Extends the superclass implementation to flush the cached preferred sizes
+	 * and the cached sizes of the children.
+	 *
+	 * @see org.eclipse.draw2d.LayoutManager#invalidate()
+	 */
+	@Override
+	public void invalidate() {
+		preferredSizes.clear();
+		flushChildSizes = true;
+		super.invalidate();
+	}
+
+	private boolean takeFlushChildSizes() {
+		boolean flush = flushChildSizes;
+		flushChildSizes = false;
+		return flush;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2010 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,7 +13,9 @@
 
 package org.eclipse.draw2d;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.draw2d.geometry.Rectangle;
@@ -39,8 +41,18 @@ import org.eclipse.draw2d.geometry.Rectangle;
  */
 public class LayoutAnimator extends Animator implements LayoutListener {
 
+	/**
+	 * The initial and final bounds of the animated children, stored as
+	 * consecutive x, y, width and height values so that playing back a frame
+	 * requires neither map lookups nor allocations.
+	 */
+	private static record Keyframes(IFigure[] children, int[] initial, int[] ending) {
+	}
+
 	static final LayoutAnimator INSTANCE = new LayoutAnimator();
 
+	private static final Rectangle FRAME = new Rectangle();
+
 	/**
 	 * Constructs a new Animator. The default instance ({@link #getDefault()}) can
 	 * be used on all figures being animated.
@@ -105,32 +117,69 @@ public class LayoutAnimator extends Animator implements LayoutListener {
 	 *
 	 * @see Animator#playback(IFigure)
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	protected boolean playback(IFigure container) {
-		Map<IFigure, Rectangle> initial = (Map<IFigure, Rectangle>) Animation.getInitialState(this, container);
-		Map<IFigure, Rectangle> ending = (Map<IFigure, Rectangle>) Animation.getFinalState(this, container);
-		if (initial == null) {
-			return false;
+		Keyframes keyframes = (Keyframes) Animation.getPlaybackState(this, container);
+		if (keyframes == null) {
+			keyframes = createKeyframes(container);
+			if (keyframes == null) {
+				return false;
+			}
+			Animation.putPlaybackState(this, container, keyframes);
 		}
 
 		float progress = Animation.getProgress();
 		float ssergorp = 1 - progress;
 
-		for (IFigure child : container.getChildren()) {
+		IFigure[] children = keyframes.children;
+		int[] initial = keyframes.initial;
+		int[] ending = keyframes.ending;
+		for (int i = 0, j = 0; i < children.length; i++, j += 4) {
+			IFigure child = children[i];
+			if (child.getParent() != container) {
+				continue;
+			}
+			FRAME.setBounds(Math.round(progress * ending[j] + ssergorp * initial[j]),
+					Math.round(progress * ending[j + 1] + ssergorp * initial[j + 1]),
+					Math.round(progress * ending[j + 2] + ssergorp * initial[j + 2]),
+					Math.round(progress * ending[j + 3] + ssergorp * initial[j + 3]));
+			child.setBounds(FRAME);
+		}
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Keyframes createKeyframes(IFigure container) {
+		Map<IFigure, Rectangle> initial = (Map<IFigure, Rectangle>) Animation.getInitialState(this, container);
+		Map<IFigure, Rectangle> ending = (Map<IFigure, Rectangle>) Animation.getFinalState(this, container);
+		if (initial == null) {
+			return null;
+		}
+
+		List<? extends IFigure> children = container.getChildren();
+		List<IFigure> animated = new ArrayList<>(children.size());
+		int[] initialBounds = new int[children.size() * 4];
+		int[] endingBounds = new int[children.size() * 4];
+		for (IFigure child : children) {
 			Rectangle rect1 = initial.get(child);
-			Rectangle rect2 = ending.get(child);
+			Rectangle rect2 = ending != null ? ending.get(child) : null;
 
 			// TODO need to change this to hide the figure until the end.
-			if (rect1 == null) {
+			if (rect1 == null || rect2 == null) {
 				continue;
 			}
-			child.setBounds(new Rectangle(Math.round(progress * rect2.x + ssergorp * rect1.x),
-					Math.round(progress * rect2.y + ssergorp * rect1.y),
-					Math.round(progress * rect2.width + ssergorp * rect1.width),
-					Math.round(progress * rect2.height + ssergorp * rect1.height)));
+			int j = animated.size() * 4;
+			initialBounds[j] = rect1.x;
+			initialBounds[j + 1] = rect1.y;
+			initialBounds[j + 2] = rect1.width;
+			initialBounds[j + 3] = rect1.height;
+			endingBounds[j] = rect2.x;
+			endingBounds[j + 1] = rect2.y;
+			endingBounds[j + 2] = rect2.width;
+			endingBounds[j + 3] = rect2.height;
+			animated.add(child);
 		}
-		return true;
+		return new Keyframes(animated.toArray(new IFigure[animated.size()]), initialBounds, endingBounds);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -61,6 +61,8 @@ public class LightweightSystem {
 	private EventDispatcher dispatcher;
 	private UpdateManager manager = new DeferredUpdateManager();
 	private int ignoreResize;
+	private RenderCache renderCache;
+	private long renderCacheBudget = RenderCache.DEFAULT_BUDGET;
 
 	/**
 	 * Constructs a LightweightSystem on Canvas <i>c</i>.
@@ -180,6 +182,17 @@ public class LightweightSystem {
 		return manager;
 	}
 
+	/**
+	 * Returns the cache for the rendering of figures, creating it if necessary.
+	 */
+	RenderCache getRenderCache() {
+		if (renderCache == null) {
+			renderCache = new RenderCache();
+			renderCache.setBudget(renderCacheBudget);
+		}
+		return renderCache;
+	}
+
 	/**
 	 * Initializes this LightweightSystem by setting the root figure.
 	 */
@@ -255,6 +268,21 @@ public class LightweightSystem {
 		dispatcher.setControl(canvas);
 	}
 
+	/**
+	 * Sets the maximum number of bytes occupied by the images of all figures whose
+	 * render cache is enabled. The default budget is 32 MB.
+	 *
+	 * @param bytes the memory budget in bytes
+	 * @see Figure#setRenderCacheEnabled(boolean)
+	 * @since 3.18
+	 */
+	public void setRenderCacheBudget(long bytes) {
+		renderCacheBudget = bytes;
+		if (renderCache != null) {
+			renderCache.setBudget(bytes);
+		}
+	}
+
 	void setIgnoreResize(boolean value) {
 		if (value) {
 			ignoreResize++;
@@ -338,6 +366,11 @@ public class LightweightSystem {
 			return getEventDispatcher();
 		}
 
+		@Override
+		RenderCache internalGetRenderCache(boolean create) {
+			return create ? getRenderCache() : renderCache;
+		}
+
 		/**
 		 * @see IFigure#isMirrored()
 		 */
@@ -602,6 +635,9 @@ public class LightweightSystem {
 		@Override
 		public void widgetDisposed(DisposeEvent e) {
 			getUpdateManager().dispose();
+			if (renderCache != null) {
+				renderCache.clear();
+			}
 		}
 	}
 
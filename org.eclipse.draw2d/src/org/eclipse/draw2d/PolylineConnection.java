@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -39,6 +39,7 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 	private ConnectionRouter connectionRouter = ConnectionRouter.NULL;
 	private RotatableDecoration startArrow;
 	private RotatableDecoration endArrow;
+	private boolean isRouted;
 
 	{
 		setLayoutManager(new DelegatingLayout());
@@ -178,7 +179,9 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 	 */
 	@Override
 	public void layout() {
-		if (getSourceAnchor() != null && getTargetAnchor() != null) {
+		if (isRouted) {
+			isRouted = false;
+		} else if (getSourceAnchor() != null && getTargetAnchor() != null) {
 			connectionRouter.route(this);
 		}
 
@@ -195,6 +198,27 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 		fireFigureMoved();
 	}
 
+	/**
+	 * Returns whether this connection can be routed by the given router as part of
+	 * a batch. This is not the case if routing listeners are registered, as they
+	 * have to be notified for each connection individually.
+	 *
+	 * @param router the router of the connection layer
+	 * @return <code>true</code> if this connection can be routed in a batch
+	 */
+	boolean isRoutableBy(ConnectionRouter router) {
+		return connectionRouter == router && getSourceAnchor() != null && getTargetAnchor() != null;
+	}
+
+	/**
+	 * Marks this connection as already routed, so that the next {@link #layout()}
+	 * does not route it again. The mark is cleared when this connection is
+	 * revalidated.
+	 */
+	void markRouted() {
+		isRouted = true;
+	}
+
 	/**
 	 * Called just before the receiver is being removed from its parent. Results in
 	 * removing itself from the connection router.
@@ -229,6 +253,7 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 	 */
 	@Override
 	public void revalidate() {
+		isRouted = false;
 		super.revalidate();
 		connectionRouter.invalidate(this);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,15 +13,37 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.printing.Printer;
 import org.eclipse.swt.widgets.Display;
 
+import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
 
 /**
  * Class responsible for printing Figures.
+ * <p>
+ * The figures of the print source are collected once into a grid of pages.
+ * While a page is printed, only the figures on that page are painted, by
+ * {@link IClippingStrategy clipping strategies} which are set on the print
+ * source and its layers for the duration of the print job. By default, the
+ * pages are painted one after another on the printer graphics. With an
+ * {@link #setOffscreenExecutor(Executor) offscreen executor}, each page is
+ * rendered into an image while the previous page is printed.
  *
  * @author Dan Lee
  * @author Eric Bordeau
@@ -50,9 +72,140 @@ public class PrintFigureOperation extends PrintOperation {
 	 */
 	public static final int FIT_HEIGHT = 4;
 
+	/**
+	 * Is notified whenever a page has been printed and may cancel the print job.
+	 *
+	 * @since 3.18
+	 */
+	@FunctionalInterface
+	public interface ProgressMonitor {
+
+		/**
+		 * Called after a page has been printed.
+		 *
+		 * @param printed the number of pages printed so far
+		 * @param total   the total number of pages
+		 * @return <code>false</code> to cancel the print job
+		 */
+		boolean pagePrinted(int printed, int total);
+	}
+
+	/**
+	 * The figures on each page of a grid of pages, which are not layers. Page
+	 * culling clipping strategies hide all other figures of the print source and
+	 * its layers.
+	 */
+	private final class PageIndex {
+
+		private final Rectangle bounds;
+		private final Dimension pageSize;
+		private final int columns;
+		private final int rows;
+		private final List<Set<IFigure>> pages;
+		private final List<IFigure> containers = new ArrayList<>();
+		private final List<IClippingStrategy> strategies = new ArrayList<>();
+		private Set<IFigure> selected;
+
+		PageIndex(Rectangle bounds, Dimension pageSize) {
+			this.bounds = bounds;
+			this.pageSize = pageSize;
+			columns = (bounds.width + pageSize.width - 1) / pageSize.width;
+			rows = (bounds.height + pageSize.height - 1) / pageSize.height;
+			pages = new ArrayList<>(columns * rows);
+			for (int i = 0; i < columns * rows; i++) {
+				pages.add(Collections.newSetFromMap(new IdentityHashMap<>()));
+			}
+			add(getPrintSource());
+		}
+
+		/**
+		 * Adds the content of the given figure to the pages it intersects. Layers
+		 * are descended into, all other visible figures are content.
+		 */
+		private void add(IFigure figure) {
+			containers.add(figure);
+			IFigure source = getPrintSource();
+			Rectangle r = new Rectangle();
+			for (IFigure child : figure.getChildren()) {
+				if (!child.isVisible()) {
+					continue;
+				}
+				if (child instanceof Layer) {
+					add(child);
+					continue;
+				}
+				r.setBounds(child.getBounds());
+				for (IFigure f = figure; f != source.getParent(); f = f.getParent()) {
+					f.translateToParent(r);
+				}
+				r.intersect(bounds);
+				if (r.isEmpty()) {
+					continue;
+				}
+				int firstColumn = (r.x - bounds.x) / pageSize.width;
+				int lastColumn = (r.right() - 1 - bounds.x) / pageSize.width;
+				int firstRow = (r.y - bounds.y) / pageSize.height;
+				int lastRow = (r.bottom() - 1 - bounds.y) / pageSize.height;
+				for (int row = firstRow; row <= lastRow; row++) {
+					for (int column = firstColumn; column <= lastColumn; column++) {
+						pages.get(row * columns + column).add(child);
+					}
+				}
+			}
+		}
+
+		boolean isGrid(Rectangle bounds, Dimension pageSize) {
+			return this.bounds.equals(bounds) && this.pageSize.equals(pageSize);
+		}
+
+		boolean isEmpty(int row, int column) {
+			return pages.get(row * columns + column).isEmpty();
+		}
+
+		/**
+		 * Lets the print source and its layers paint only the figures on the given
+		 * page, or all figures if the page is not one of the grid.
+		 */
+		void select(Rectangle page) {
+			selected = null;
+			if (page.width == pageSize.width && page.height == pageSize.height
+					&& (page.x - bounds.x) % pageSize.width == 0 && (page.y - bounds.y) % pageSize.height == 0) {
+				int column = (page.x - bounds.x) / pageSize.width;
+				int row = (page.y - bounds.y) / pageSize.height;
+				if (column >= 0 && column < columns && row >= 0 && row < rows) {
+					selected = pages.get(row * columns + column);
+				}
+			}
+		}
+
+		void install() {
+			for (IFigure container : containers) {
+				IClippingStrategy strategy = container.getClippingStrategy();
+				strategies.add(strategy);
+				container.setClippingStrategy(child -> {
+					if (selected != null && !(child instanceof Layer) && !selected.contains(child)) {
+						return new Rectangle[0];
+					}
+					return strategy != null ? strategy.getClip(child) : new Rectangle[] { child.getBounds() };
+				});
+			}
+		}
+
+		void uninstall() {
+			for (int i = 0; i < containers.size(); i++) {
+				containers.get(i).setClippingStrategy(strategies.get(i));
+			}
+			strategies.clear();
+		}
+	}
+
 	private IFigure printSource;
 	private Color oldBGColor;
 	private int printMode = TILE;
+	private boolean skipEmptyPages;
+	private ProgressMonitor progressMonitor;
+	private Executor offscreenExecutor;
+	private PageIndex pageIndex;
 
 	/**
 	 * Constructor for PrintFigureOperation.
@@ -87,6 +240,42 @@ public class PrintFigureOperation extends PrintOperation {
 		return getPrintSource().isMirrored() ? SWT.RIGHT_TO_LEFT : SWT.LEFT_TO_RIGHT;
 	}
 
+	/**
+	 * Returns the pages the print source is printed on, in the order they are
+	 * printed. The pages tile the bounds of the print source row by row. If empty
+	 * pages are skipped, pages which do not intersect any figure apart from layers
+	 * are omitted. The figures are collected once into a grid of pages, so that
+	 * the print source is not traversed for each page.
+	 *
+	 * @param pageSize the size of a page in the coordinates of the print source
+	 * @return the bounds of the pages, in the coordinates of the print source
+	 * @see #setSkipEmptyPages(boolean)
+	 * @since 3.18
+	 */
+	protected List<Rectangle> getPages(Dimension pageSize) {
+		List<Rectangle> pages = new ArrayList<>();
+		Rectangle bounds = getPrintSource().getBounds();
+		if (pageSize.isEmpty() || bounds.isEmpty()) {
+			return pages;
+		}
+		int columns = (bounds.width + pageSize.width - 1) / pageSize.width;
+		int rows = (bounds.height + pageSize.height - 1) / pageSize.height;
+		PageIndex index = null;
+		if (skipEmptyPages) {
+			index = pageIndex != null && pageIndex.isGrid(bounds, pageSize) ? pageIndex
+					: new PageIndex(bounds, pageSize);
+		}
+		for (int row = 0; row < rows; row++) {
+			for (int column = 0; column < columns; column++) {
+				if (index == null || !index.isEmpty(row, column)) {
+					pages.add(new Rectangle(bounds.x + column * pageSize.width, bounds.y + row * pageSize.height,
+							pageSize.width, pageSize.height));
+				}
+			}
+		}
+		return pages;
+	}
+
 	/**
 	 * Returns the current print mode. The print mode is one of:
 	 * {@link #FIT_HEIGHT}, {@link #FIT_PAGE}, or {@link #FIT_WIDTH}.
@@ -106,6 +295,13 @@ public class PrintFigureOperation extends PrintOperation {
 		return printSource;
 	}
 
+	/**
+	 * Returns the scale from display to printer resolution.
+	 */
+	private double getDPIScale() {
+		return (double) getPrinter().getDPI().x / Display.getCurrent().getDPI().x;
+	}
+
 	/**
 	 * @see org.eclipse.draw2d.PrintOperation#preparePrintSource()
 	 */
@@ -116,7 +312,29 @@ public class PrintFigureOperation extends PrintOperation {
 	}
 
 	/**
-	 * Prints the pages based on the current print mode.
+	 * Paints the part of the print source which is on the given page. While the
+	 * pages are printed or rendered, only the figures on the page are painted.
+	 * The graphics is left in the state it was passed in.
+	 *
+	 * @param graphics the graphics, set up for the print source
+	 * @param page     the page, in the coordinates of the print source
+	 * @see #getPages(Dimension)
+	 * @since 3.18
+	 */
+	protected void printPage(Graphics graphics, Rectangle page) {
+		if (pageIndex != null) {
+			pageIndex.select(page);
+		}
+		graphics.pushState();
+		graphics.translate(-page.x, -page.y);
+		graphics.clipRect(page);
+		getPrintSource().paint(graphics);
+		graphics.popState();
+	}
+
+	/**
+	 * Prints the pages based on the current print mode. The progress monitor is
+	 * notified after each page and may cancel the print job.
 	 *
 	 * @see org.eclipse.draw2d.PrintOperation#printPages()
 	 */
@@ -125,24 +343,152 @@ public class PrintFigureOperation extends PrintOperation {
 		Graphics graphics = getFreshPrinterGraphics();
 		IFigure figure = getPrintSource();
 		setupPrinterGraphicsFor(graphics, figure);
-		Rectangle bounds = figure.getBounds();
-		int x = bounds.x, y = bounds.y;
 		Rectangle clipRect = new Rectangle();
-		while (y < bounds.y + bounds.height) {
-			while (x < bounds.x + bounds.width) {
-				graphics.pushState();
+		graphics.getClip(clipRect);
+		Dimension pageSize = clipRect.getSize();
+		beginPages(pageSize);
+		try {
+			List<Rectangle> pages = getPages(pageSize);
+			if (offscreenExecutor != null) {
+				double scale = graphics.getAbsoluteScale() / getDPIScale();
+				if (!renderPages(pages, scale, this::printImage)) {
+					cancelJob();
+				}
+				return;
+			}
+			for (int i = 0; i < pages.size(); i++) {
 				getPrinter().startPage();
-				graphics.translate(-x, -y);
-				graphics.getClip(clipRect);
-				clipRect.setLocation(x, y);
-				graphics.clipRect(clipRect);
-				figure.paint(graphics);
+				printPage(graphics, pages.get(i));
 				getPrinter().endPage();
-				graphics.popState();
-				x += clipRect.width;
+				if (progressMonitor != null && !progressMonitor.pagePrinted(i + 1, pages.size())) {
+					cancelJob();
+					return;
+				}
 			}
-			x = bounds.x;
-			y += clipRect.height;
+		} finally {
+			endPages();
+		}
+	}
+
+	/**
+	 * Prints the rendered image of a page, on fresh printer graphics.
+	 */
+	private void printImage(Rectangle page, ImageData data) {
+		getPrinter().startPage();
+		Graphics graphics = getFreshPrinterGraphics();
+		setupPrinterGraphicsFor(graphics, getPrintSource());
+		Image image = new Image(getPrinter(), data);
+		try {
+			graphics.drawImage(image, 0, 0, data.width, data.height, 0, 0, page.width, page.height);
+		} finally {
+			image.dispose();
+		}
+		getPrinter().endPage();
+	}
+
+	/**
+	 * Renders the given pages into images and passes them to the given consumer,
+	 * in order and on the calling thread. Each page is rendered by a
+	 * {@link RasterGraphics} on the {@link #setOffscreenExecutor(Executor)
+	 * offscreen executor}, or on the calling thread if there is none. On an
+	 * executor, the next page is rendered while the consumer processes the
+	 * current one, but the print source is never painted by two threads at
+	 * once. The progress monitor
+	 * is notified after each page and may cancel the rendering.
+	 *
+	 * @param pages    the pages, in the coordinates of the print source
+	 * @param scale    the scale of the images relative to the print source
+	 * @param consumer receives each page with its image
+	 * @return <code>false</code> if the rendering has been canceled by the
+	 *         progress monitor
+	 * @see #getPages(Dimension)
+	 * @since 3.18
+	 */
+	protected boolean renderPages(List<Rectangle> pages, double scale, BiConsumer<Rectangle, ImageData> consumer) {
+		if (pages.isEmpty()) {
+			return true;
+		}
+		Executor executor = offscreenExecutor != null ? offscreenExecutor : Runnable::run;
+		boolean began = beginPages(pages.get(0).getSize());
+		CompletableFuture<ImageData> next = null;
+		try {
+			next = CompletableFuture.supplyAsync(() -> renderPage(pages.get(0), scale), executor);
+			for (int i = 0; i < pages.size(); i++) {
+				ImageData data = next.join();
+				next = null;
+				if (i + 1 < pages.size()) {
+					Rectangle page = pages.get(i + 1);
+					next = CompletableFuture.supplyAsync(() -> renderPage(page, scale), executor);
+				}
+				consumer.accept(pages.get(i), data);
+				if (progressMonitor != null && !progressMonitor.pagePrinted(i + 1, pages.size())) {
+					return false;
+				}
+			}
+		} finally {
+			if (next != null) {
+				// the print source must not be painted after returning
+				next.handle((data, e) -> null).join();
+			}
+			if (began) {
+				endPages();
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Renders the given page into an image of the given scale.
+	 */
+	private ImageData renderPage(Rectangle page, double scale) {
+		int width = Math.max(1, (int) Math.ceil(page.width * scale));
+		int height = Math.max(1, (int) Math.ceil(page.height * scale));
+		RasterGraphics graphics = new RasterGraphics(width, height);
+		graphics.setBackgroundColor(ColorConstants.white);
+		graphics.fillRectangle(0, 0, width, height);
+		graphics.scale(scale);
+		IFigure figure = getPrintSource();
+		graphics.setForegroundColor(figure.getForegroundColor());
+		graphics.setBackgroundColor(figure.getBackgroundColor());
+		Font font = figure.getFont();
+		if (font != null) {
+			graphics.setFont(font);
+		}
+		printPage(graphics, page);
+		graphics.dispose();
+
+		int[] pixels = graphics.getPixels();
+		ImageData data = new ImageData(width, height, 24, new PaletteData(0xff0000, 0xff00, 0xff));
+		for (int y = 0; y < height; y++) {
+			for (int x = y * width; x < (y + 1) * width; x++) {
+				pixels[x] &= 0xffffff;
+			}
+			data.setPixels(0, y, width, pixels, y * width);
+		}
+		return data;
+	}
+
+	/**
+	 * Indexes the figures of the print source by page and lets the print source
+	 * paint only the figures on the page being printed.
+	 *
+	 * @return <code>false</code> if the pages have already begun or there are no
+	 *         pages
+	 */
+	private boolean beginPages(Dimension pageSize) {
+		Rectangle bounds = getPrintSource().getBounds();
+		if (pageIndex != null || pageSize.isEmpty() || bounds.isEmpty()) {
+			return false;
+		}
+		pageIndex = new PageIndex(bounds, pageSize);
+		pageIndex.install();
+		return true;
+	}
+
+	private void endPages() {
+		if (pageIndex != null) {
+			pageIndex.uninstall();
+			pageIndex = null;
 		}
 	}
 
@@ -174,6 +520,47 @@ public class PrintFigureOperation extends PrintOperation {
 		this.printSource = printSource;
 	}
 
+	/**
+	 * Sets the executor on which the pages are rendered into images, which are
+	 * then printed in order. The next page is rendered while the current one is
+	 * printed. Pages are rendered by a {@link RasterGraphics} at the resolution
+	 * of the display, so the figures of the print source must be paintable
+	 * without a display on the threads of the executor, and text is drawn as
+	 * bars. By default, the pages are painted on the printer graphics.
+	 *
+	 * @param executor the executor, or <code>null</code> to paint on the printer
+	 *                 graphics
+	 * @see #renderPages(List, double, BiConsumer)
+	 * @since 3.18
+	 */
+	public void setOffscreenExecutor(Executor executor) {
+		offscreenExecutor = executor;
+	}
+
+	/**
+	 * Sets the monitor which is notified after each printed page. If the monitor
+	 * returns <code>false</code>, the print job is canceled.
+	 *
+	 * @param monitor the monitor or <code>null</code>
+	 * @since 3.18
+	 */
+	public void setProgressMonitor(ProgressMonitor monitor) {
+		progressMonitor = monitor;
+	}
+
+	/**
+	 * Sets whether pages without any content are skipped. A page is empty if it
+	 * does not intersect any visible figure of the print source apart from
+	 * {@link Layer layers}. The default is <code>false</code>, so that all pages
+	 * of a tiled print can be put together.
+	 *
+	 * @param skip <code>true</code> to skip empty pages
+	 * @since 3.18
+	 */
+	public void setSkipEmptyPages(boolean skip) {
+		skipEmptyPages = skip;
+	}
+
 	/**
 	 * Sets up Graphics object for the given IFigure.
 	 *
@@ -181,7 +568,7 @@ public class PrintFigureOperation extends PrintOperation {
 	 * @param figure   The IFigure used to setup graphics
 	 */
 	protected void setupPrinterGraphicsFor(Graphics graphics, IFigure figure) {
-		double dpiScale = (double) getPrinter().getDPI().x / Display.getCurrent().getDPI().x;
+		double dpiScale = getDPIScale();
 
 		Rectangle printRegion = getPrintRegion();
 		// put the print region in display coordinates
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -33,6 +33,7 @@ public abstract class PrintOperation {
 	private Printer printer;
 	private PrinterGraphics printerGraphics;
 	private SWTGraphics g;
+	private boolean canceled;
 
 	/**
 	 * Creates a new PrintOperation
@@ -49,6 +50,17 @@ public abstract class PrintOperation {
 		setPrinter(p);
 	}
 
+	/**
+	 * Cancels the running print job. May be called from {@link #printPages()},
+	 * which should return without printing further pages. The job is then
+	 * canceled instead of ended, so that no output is produced.
+	 *
+	 * @since 3.18
+	 */
+	protected void cancelJob() {
+		canceled = true;
+	}
+
 	/**
 	 * Disposes the PrinterGraphics and GC objects associated with this
 	 * PrintOperation.
@@ -152,10 +164,15 @@ public abstract class PrintOperation {
 	 */
 	public void run(String jobName) {
 		preparePrintSource();
+		canceled = false;
 		if (printer.startJob(jobName)) {
 			printerGC = new GC(getPrinter(), getGraphicsOrientation());
 			printPages();
-			printer.endJob();
+			if (canceled) {
+				printer.cancelJob();
+			} else {
+				printer.endJob();
+			}
 		}
 		restorePrintSource();
 		cleanup();
@@ -0,0 +1,1296 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontMetrics;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.LineAttributes;
+import org.eclipse.swt.graphics.TextLayout;
+
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * A Graphics which rasterizes into an array of <code>0xAARRGGBB</code> pixels
+ * instead of painting on an SWT device. It neither needs a display nor has to be
+ * used on the UI thread, so that several figure trees can be rendered
+ * concurrently, each into its own RasterGraphics. The pixels can for instance be
+ * encoded using {@link TiledImageExporter#createPNGConsumer(java.io.OutputStream)}.
+ * <p>
+ * Lines, rectangles, ovals, arcs, polygons, gradients and images are
+ * rasterized without anti-aliasing. Clipping, translation, uniform scaling,
+ * alpha, XOR mode and the line attributes are honored, except that all line
+ * joins are drawn round. As fonts cannot be rasterized without a device, text
+ * is drawn as bars covering the extent of its words estimated by
+ * {@link RasterTextUtilities}, which is what thumbnails usually show anyway.
+ * Labels and text flows which are rendered without a display have to measure
+ * their text with the same estimate, by returning
+ * {@link RasterTextUtilities#INSTANCE} from {@link Label#getTextUtilities()},
+ * and {@link org.eclipse.draw2d.text.RasterFlowUtilities} from the text flow.
+ * Paths, patterns, rotation and non-uniform scaling are not supported.
+ * <p>
+ * Colors, fonts and images passed to this Graphics are only read. Colors can be
+ * created without a device using {@link Color#Color(int, int, int)}. The pixels
+ * of an image are read once per RasterGraphics, so an image must not change
+ * while it is painted by the same RasterGraphics.
+ *
+ * @since 3.18
+ */
+public class RasterGraphics extends Graphics {
+
+	/**
+	 * The metrics of the fonts, which are measured once per font.
+	 */
+	private static final Map<Font, FontMetrics> FONT_METRICS = new WeakHashMap<>();
+
+	private static final float[] DASH = { 18, 6 };
+	private static final float[] DOT = { 3, 3 };
+	private static final float[] DASH_DOT = { 9, 6, 3, 6 };
+	private static final float[] DASH_DOT_DOT = { 9, 3, 3, 3, 3, 3 };
+
+	private static final class State implements Cloneable {
+		double scale = 1;
+		double dx;
+		double dy;
+		int clipX;
+		int clipY;
+		int clipRight;
+		int clipBottom;
+		Color foreground;
+		Color background;
+		Font font;
+		int alpha = 255;
+		int antialias = SWT.DEFAULT;
+		int textAntialias = SWT.DEFAULT;
+		int interpolation = SWT.DEFAULT;
+		int fillRule = SWT.FILL_EVEN_ODD;
+		boolean advanced;
+		boolean xor;
+		LineAttributes line = new LineAttributes(1);
+
+		State copy() {
+			try {
+				State copy = (State) clone();
+				copy.line = new LineAttributes(line.width, line.cap, line.join, line.style, line.dash, line.dashOffset,
+						line.miterLimit);
+				return copy;
+			} catch (CloneNotSupportedException e) {
+				throw new AssertionError(e);
+			}
+		}
+	}
+
+	/**
+	 * A growable list of points in device coordinates.
+	 */
+	private static final class Points {
+		double[] xs = new double[32];
+		double[] ys = new double[32];
+		int size;
+
+		void add(double x, double y) {
+			if (size == xs.length) {
+				xs = Arrays.copyOf(xs, size * 2);
+				ys = Arrays.copyOf(ys, size * 2);
+			}
+			xs[size] = x;
+			ys[size] = y;
+			size++;
+		}
+
+		/**
+		 * Adds points on the elliptic arc with the given center and radii. Angles are
+		 * in degrees, counter-clockwise from three o'clock.
+		 */
+		void addArc(double cx, double cy, double rx, double ry, double start, double extent) {
+			int steps = (int) Math.min(10000,
+					Math.max(2, Math.ceil(Math.abs(extent) / 360 * Math.PI * (rx + ry) / 2)));
+			for (int i = 0; i <= steps; i++) {
+				double angle = Math.toRadians(start + extent * i / steps);
+				add(cx + rx * Math.cos(angle), cy - ry * Math.sin(angle));
+			}
+		}
+
+		void addRoundRectangle(double x0, double y0, double x1, double y1, double arcWidth, double arcHeight) {
+			double rx = Math.min(Math.abs(arcWidth), x1 - x0) / 2;
+			double ry = Math.min(Math.abs(arcHeight), y1 - y0) / 2;
+			if (rx <= 0 || ry <= 0) {
+				add(x0, y0);
+				add(x1, y0);
+				add(x1, y1);
+				add(x0, y1);
+				return;
+			}
+			addArc(x1 - rx, y0 + ry, rx, ry, 0, 90);
+			addArc(x0 + rx, y0 + ry, rx, ry, 90, 90);
+			addArc(x0 + rx, y1 - ry, rx, ry, 180, 90);
+			addArc(x1 - rx, y1 - ry, rx, ry, 270, 90);
+		}
+	}
+
+	private final int[] pixels;
+	private final int width;
+	private final int height;
+	private State state = new State();
+	private final Deque<State> stack = new ArrayDeque<>();
+	private final Map<Image, ImageData> imageData = new IdentityHashMap<>();
+
+	/**
+	 * Creates a RasterGraphics with a new, transparent pixel buffer of the given
+	 * size.
+	 *
+	 * @param width  the width in pixels
+	 * @param height the height in pixels
+	 */
+	public RasterGraphics(int width, int height) {
+		this(new int[width * height], width, height);
+	}
+
+	/**
+	 * Creates a RasterGraphics which paints on the given pixel buffer. The pixels
+	 * are stored row by row as <code>0xAARRGGBB</code>.
+	 *
+	 * @param pixels the pixel buffer
+	 * @param width  the width in pixels
+	 * @param height the height in pixels
+	 */
+	public RasterGraphics(int[] pixels, int width, int height) {
+		if (width < 0 || height < 0 || pixels.length < width * height) {
+			throw new IllegalArgumentException();
+		}
+		this.pixels = pixels;
+		this.width = width;
+		this.height = height;
+		state.clipRight = width;
+		state.clipBottom = height;
+		state.foreground = new Color(0, 0, 0);
+		state.background = new Color(255, 255, 255);
+	}
+
+	/**
+	 * Returns the height of the pixel buffer.
+	 *
+	 * @return the height in pixels
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Returns the pixel buffer, row by row as <code>0xAARRGGBB</code>.
+	 *
+	 * @return the pixels
+	 */
+	public int[] getPixels() {
+		return pixels;
+	}
+
+	/**
+	 * Returns the width of the pixel buffer.
+	 *
+	 * @return the width in pixels
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * @see Graphics#clipRect(Rectangle)
+	 */
+	@Override
+	public void clipRect(Rectangle r) {
+		State s = state;
+		s.clipX = Math.max(s.clipX, round(deviceX(r.x)));
+		s.clipY = Math.max(s.clipY, round(deviceY(r.y)));
+		s.clipRight = Math.min(s.clipRight, round(deviceX(r.x + r.width)));
+		s.clipBottom = Math.min(s.clipBottom, round(deviceY(r.y + r.height)));
+	}
+
+	/**
+	 * @see Graphics#dispose()
+	 */
+	@Override
+	public void dispose() {
+		stack.clear();
+		imageData.clear();
+	}
+
+	/**
+	 * @see Graphics#drawArc(int, int, int, int, int, int)
+	 */
+	@Override
+	public void drawArc(int x, int y, int w, int h, int offset, int length) {
+		double x0 = deviceX(x);
+		double y0 = deviceY(y);
+		double x1 = deviceX(x + w);
+		double y1 = deviceY(y + h);
+		Points points = new Points();
+		points.addArc((x0 + x1) / 2, (y0 + y1) / 2, Math.abs(x1 - x0) / 2, Math.abs(y1 - y0) / 2, offset, length);
+		stroke(points, false, getDash());
+	}
+
+	/**
+	 * @see Graphics#drawFocus(int, int, int, int)
+	 */
+	@Override
+	public void drawFocus(int x, int y, int w, int h) {
+		stroke(rectangle(x, y, x + w - 1, y + h - 1), true, new double[] { 1, 1 });
+	}
+
+	/**
+	 * @see Graphics#drawImage(Image, int, int)
+	 */
+	@Override
+	public void drawImage(Image srcImage, int x, int y) {
+		ImageData data = getImageData(srcImage);
+		drawImageData(data, 0, 0, data.width, data.height, x, y, data.width, data.height);
+	}
+
+	/**
+	 * @see Graphics#drawImage(Image, int, int, int, int, int, int, int, int)
+	 */
+	@Override
+	public void drawImage(Image srcImage, int x1, int y1, int w1, int h1, int x2, int y2, int w2, int h2) {
+		drawImageData(getImageData(srcImage), x1, y1, w1, h1, x2, y2, w2, h2);
+	}
+
+	/**
+	 * @see Graphics#drawLine(int, int, int, int)
+	 */
+	@Override
+	public void drawLine(int x1, int y1, int x2, int y2) {
+		Points points = new Points();
+		points.add(deviceX(x1), deviceY(y1));
+		points.add(deviceX(x2), deviceY(y2));
+		stroke(points, false, getDash());
+	}
+
+	/**
+	 * @see Graphics#drawOval(int, int, int, int)
+	 */
+	@Override
+	public void drawOval(int x, int y, int w, int h) {
+		drawArc(x, y, w, h, 0, 360);
+	}
+
+	/**
+	 * @see Graphics#drawPoint(int, int)
+	 */
+	@Override
+	public void drawPoint(int x, int y) {
+		plot(round(deviceX(x)), round(deviceY(y)), rgb(state.foreground), state.alpha);
+	}
+
+	/**
+	 * @see Graphics#drawPolygon(PointList)
+	 */
+	@Override
+	public void drawPolygon(PointList points) {
+		stroke(toDevice(points), true, getDash());
+	}
+
+	/**
+	 * @see Graphics#drawPolyline(PointList)
+	 */
+	@Override
+	public void drawPolyline(PointList points) {
+		stroke(toDevice(points), false, getDash());
+	}
+
+	/**
+	 * @see Graphics#drawRectangle(int, int, int, int)
+	 */
+	@Override
+	public void drawRectangle(int x, int y, int width, int height) {
+		stroke(rectangle(x, y, x + width, y + height), true, getDash());
+	}
+
+	/**
+	 * @see Graphics#drawRoundRectangle(Rectangle, int, int)
+	 */
+	@Override
+	public void drawRoundRectangle(Rectangle r, int arcWidth, int arcHeight) {
+		Points points = new Points();
+		points.addRoundRectangle(deviceX(r.x), deviceY(r.y), deviceX(r.x + r.width), deviceY(r.y + r.height),
+				arcWidth * state.scale, arcHeight * state.scale);
+		stroke(points, true, getDash());
+	}
+
+	/**
+	 * @see Graphics#drawString(String, int, int)
+	 */
+	@Override
+	public void drawString(String s, int x, int y) {
+		drawGreekedText(s, x, y, false, false);
+	}
+
+	/**
+	 * @see Graphics#drawText(String, int, int)
+	 */
+	@Override
+	public void drawText(String s, int x, int y) {
+		drawGreekedText(s, x, y, false, true);
+	}
+
+	/**
+	 * @see Graphics#drawText(String, int, int, int)
+	 */
+	@Override
+	public void drawText(String s, int x, int y, int style) {
+		drawGreekedText(s, x, y, (style & SWT.DRAW_TRANSPARENT) == 0, (style & SWT.DRAW_DELIMITER) != 0);
+	}
+
+	/**
+	 * Draws a bar for each line of the layout.
+	 *
+	 * @see Graphics#drawTextLayout(TextLayout, int, int, int, int, Color, Color)
+	 */
+	@Override
+	public void drawTextLayout(TextLayout layout, int x, int y, int selectionStart, int selectionEnd,
+			Color selectionForeground, Color selectionBackground) {
+		int color = rgb(state.foreground);
+		for (int i = 0; i < layout.getLineCount(); i++) {
+			org.eclipse.swt.graphics.Rectangle line = layout.getLineBounds(i);
+			fillBar(x + line.x, y + line.y, line.width, line.height, color);
+		}
+	}
+
+	/**
+	 * @see Graphics#fillArc(int, int, int, int, int, int)
+	 */
+	@Override
+	public void fillArc(int x, int y, int w, int h, int offset, int length) {
+		double x0 = deviceX(x);
+		double y0 = deviceY(y);
+		double x1 = deviceX(x + w);
+		double y1 = deviceY(y + h);
+		double cx = (x0 + x1) / 2;
+		double cy = (y0 + y1) / 2;
+		Points points = new Points();
+		if (Math.abs(length) < 360) {
+			points.add(cx, cy);
+		}
+		points.addArc(cx, cy, Math.abs(x1 - x0) / 2, Math.abs(y1 - y0) / 2, offset, length);
+		fill(points, rgb(state.background));
+	}
+
+	/**
+	 * @see Graphics#fillGradient(int, int, int, int, boolean)
+	 */
+	@Override
+	public void fillGradient(int x, int y, int w, int h, boolean vertical) {
+		int x0 = round(deviceX(Math.min(x, x + w)));
+		int y0 = round(deviceY(Math.min(y, y + h)));
+		int x1 = round(deviceX(Math.max(x, x + w)));
+		int y1 = round(deviceY(Math.max(y, y + h)));
+		int from = rgb(state.foreground);
+		int to = rgb(state.background);
+		int steps = Math.max(1, (vertical ? y1 - y0 : x1 - x0) - 1);
+		for (int py = Math.max(y0, state.clipY); py < Math.min(y1, state.clipBottom); py++) {
+			if (vertical) {
+				span(py, x0, x1, interpolate(from, to, py - y0, steps));
+			} else {
+				for (int px = Math.max(x0, state.clipX); px < Math.min(x1, state.clipRight); px++) {
+					blend(py * width + px, interpolate(from, to, px - x0, steps), state.alpha);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @see Graphics#fillOval(int, int, int, int)
+	 */
+	@Override
+	public void fillOval(int x, int y, int w, int h) {
+		fillArc(x, y, w, h, 0, 360);
+	}
+
+	/**
+	 * @see Graphics#fillPolygon(PointList)
+	 */
+	@Override
+	public void fillPolygon(PointList points) {
+		fill(toDevice(points), rgb(state.background));
+	}
+
+	/**
+	 * @see Graphics#fillRectangle(int, int, int, int)
+	 */
+	@Override
+	public void fillRectangle(int x, int y, int width, int height) {
+		fillArea(Math.min(x, x + width), Math.min(y, y + height), Math.abs(width), Math.abs(height),
+				rgb(state.background));
+	}
+
+	/**
+	 * @see Graphics#fillRoundRectangle(Rectangle, int, int)
+	 */
+	@Override
+	public void fillRoundRectangle(Rectangle r, int arcWidth, int arcHeight) {
+		Points points = new Points();
+		points.addRoundRectangle(deviceX(r.x), deviceY(r.y), deviceX(r.x + r.width), deviceY(r.y + r.height),
+				arcWidth * state.scale, arcHeight * state.scale);
+		fill(points, rgb(state.background));
+	}
+
+	/**
+	 * @see Graphics#fillString(String, int, int)
+	 */
+	@Override
+	public void fillString(String s, int x, int y) {
+		drawGreekedText(s, x, y, true, false);
+	}
+
+	/**
+	 * @see Graphics#fillText(String, int, int)
+	 */
+	@Override
+	public void fillText(String s, int x, int y) {
+		drawGreekedText(s, x, y, true, true);
+	}
+
+	/**
+	 * @see Graphics#getAbsoluteScale()
+	 */
+	@Override
+	public double getAbsoluteScale() {
+		return state.scale;
+	}
+
+	/**
+	 * @see Graphics#getAdvanced()
+	 */
+	@Override
+	public boolean getAdvanced() {
+		return state.advanced;
+	}
+
+	/**
+	 * @see Graphics#getAlpha()
+	 */
+	@Override
+	public int getAlpha() {
+		return state.alpha;
+	}
+
+	/**
+	 * @see Graphics#getAntialias()
+	 */
+	@Override
+	public int getAntialias() {
+		return state.antialias;
+	}
+
+	/**
+	 * @see Graphics#getBackgroundColor()
+	 */
+	@Override
+	public Color getBackgroundColor() {
+		return state.background;
+	}
+
+	/**
+	 * @see Graphics#getClip(Rectangle)
+	 */
+	@Override
+	public Rectangle getClip(Rectangle rect) {
+		State s = state;
+		int x = (int) Math.floor((s.clipX - s.dx) / s.scale);
+		int y = (int) Math.floor((s.clipY - s.dy) / s.scale);
+		int right = (int) Math.ceil((s.clipRight - s.dx) / s.scale);
+		int bottom = (int) Math.ceil((s.clipBottom - s.dy) / s.scale);
+		rect.setBounds(x, y, Math.max(0, right - x), Math.max(0, bottom - y));
+		return rect;
+	}
+
+	/**
+	 * @see Graphics#getFillRule()
+	 */
+	@Override
+	public int getFillRule() {
+		return state.fillRule;
+	}
+
+	/**
+	 * @see Graphics#getFont()
+	 */
+	@Override
+	public Font getFont() {
+		return state.font;
+	}
+
+	/**
+	 * Returns the metrics of the current font, which are measured once on the
+	 * device of the font. Returns <code>null</code> if no font has been set, as
+	 * there is no device to measure the default font on. Text is drawn with the
+	 * extents estimated by {@link RasterTextUtilities}, which do not depend on
+	 * these metrics.
+	 *
+	 * @see Graphics#getFontMetrics()
+	 */
+	@Override
+	public FontMetrics getFontMetrics() {
+		Font font = state.font;
+		if (font == null) {
+			return null;
+		}
+		synchronized (FONT_METRICS) {
+			FontMetrics metrics = FONT_METRICS.get(font);
+			if (metrics == null) {
+				Image image = new Image(font.getDevice(), 1, 1);
+				GC gc = new GC(image);
+				try {
+					gc.setFont(font);
+					metrics = gc.getFontMetrics();
+				} finally {
+					gc.dispose();
+					image.dispose();
+				}
+				FONT_METRICS.put(font, metrics);
+			}
+			return metrics;
+		}
+	}
+
+	/**
+	 * @see Graphics#getForegroundColor()
+	 */
+	@Override
+	public Color getForegroundColor() {
+		return state.foreground;
+	}
+
+	/**
+	 * @see Graphics#getInterpolation()
+	 */
+	@Override
+	public int getInterpolation() {
+		return state.interpolation;
+	}
+
+	/**
+	 * @see Graphics#getLineCap()
+	 */
+	@Override
+	public int getLineCap() {
+		return state.line.cap;
+	}
+
+	/**
+	 * @see Graphics#getLineJoin()
+	 */
+	@Override
+	public int getLineJoin() {
+		return state.line.join;
+	}
+
+	/**
+	 * @see Graphics#getLineMiterLimit()
+	 */
+	@Override
+	public float getLineMiterLimit() {
+		return state.line.miterLimit;
+	}
+
+	/**
+	 * @see Graphics#getLineStyle()
+	 */
+	@Override
+	public int getLineStyle() {
+		return state.line.style;
+	}
+
+	/**
+	 * @see Graphics#getLineWidth()
+	 */
+	@Override
+	public int getLineWidth() {
+		return (int) state.line.width;
+	}
+
+	/**
+	 * @see Graphics#getLineWidthFloat()
+	 */
+	@Override
+	public float getLineWidthFloat() {
+		return state.line.width;
+	}
+
+	/**
+	 * @see Graphics#getTextAntialias()
+	 */
+	@Override
+	public int getTextAntialias() {
+		return state.textAntialias;
+	}
+
+	/**
+	 * @see Graphics#getXORMode()
+	 */
+	@Override
+	public boolean getXORMode() {
+		return state.xor;
+	}
+
+	/**
+	 * @see Graphics#popState()
+	 */
+	@Override
+	public void popState() {
+		state = stack.pop();
+	}
+
+	/**
+	 * @see Graphics#pushState()
+	 */
+	@Override
+	public void pushState() {
+		stack.push(state.copy());
+	}
+
+	/**
+	 * @see Graphics#restoreState()
+	 */
+	@Override
+	public void restoreState() {
+		state = stack.peek().copy();
+	}
+
+	/**
+	 * @see Graphics#scale(double)
+	 */
+	@Override
+	public void scale(double amount) {
+		state.scale *= amount;
+	}
+
+	/**
+	 * Only uniform scaling is supported.
+	 *
+	 * @see Graphics#scale(float, float)
+	 */
+	@Override
+	public void scale(float horizontal, float vertical) {
+		if (horizontal != vertical) {
+			super.scale(horizontal, vertical);
+		}
+		scale(horizontal);
+	}
+
+	/**
+	 * @see Graphics#setAdvanced(boolean)
+	 */
+	@Override
+	public void setAdvanced(boolean advanced) {
+		state.advanced = advanced;
+	}
+
+	/**
+	 * @see Graphics#setAlpha(int)
+	 */
+	@Override
+	public void setAlpha(int alpha) {
+		state.alpha = Math.max(0, Math.min(255, alpha));
+	}
+
+	/**
+	 * @see Graphics#setAntialias(int)
+	 */
+	@Override
+	public void setAntialias(int value) {
+		state.antialias = value;
+	}
+
+	/**
+	 * @see Graphics#setBackgroundColor(Color)
+	 */
+	@Override
+	public void setBackgroundColor(Color rgb) {
+		state.background = rgb;
+	}
+
+	/**
+	 * @see Graphics#setClip(Rectangle)
+	 */
+	@Override
+	public void setClip(Rectangle r) {
+		State s = state;
+		s.clipX = Math.max(0, round(deviceX(r.x)));
+		s.clipY = Math.max(0, round(deviceY(r.y)));
+		s.clipRight = Math.min(width, round(deviceX(r.x + r.width)));
+		s.clipBottom = Math.min(height, round(deviceY(r.y + r.height)));
+	}
+
+	/**
+	 * @see Graphics#setFillRule(int)
+	 */
+	@Override
+	public void setFillRule(int rule) {
+		state.fillRule = rule;
+	}
+
+	/**
+	 * @see Graphics#setFont(Font)
+	 */
+	@Override
+	public void setFont(Font f) {
+		state.font = f;
+	}
+
+	/**
+	 * @see Graphics#setForegroundColor(Color)
+	 */
+	@Override
+	public void setForegroundColor(Color rgb) {
+		state.foreground = rgb;
+	}
+
+	/**
+	 * @see Graphics#setInterpolation(int)
+	 */
+	@Override
+	public void setInterpolation(int interpolation) {
+		state.interpolation = interpolation;
+	}
+
+	/**
+	 * @see Graphics#setLineAttributes(LineAttributes)
+	 */
+	@Override
+	public void setLineAttributes(LineAttributes attributes) {
+		state.line = new LineAttributes(attributes.width, attributes.cap, attributes.join, attributes.style,
+				attributes.dash, attributes.dashOffset, attributes.miterLimit);
+	}
+
+	/**
+	 * @see Graphics#setLineCap(int)
+	 */
+	@Override
+	public void setLineCap(int cap) {
+		state.line.cap = cap;
+	}
+
+	/**
+	 * @see Graphics#setLineDash(int[])
+	 */
+	@Override
+	public void setLineDash(int[] dash) {
+		float[] value = null;
+		if (dash != null) {
+			value = new float[dash.length];
+			for (int i = 0; i < dash.length; i++) {
+				value[i] = dash[i];
+			}
+		}
+		setLineDash(value);
+	}
+
+	/**
+	 * @see Graphics#setLineDash(float[])
+	 */
+	@Override
+	public void setLineDash(float[] value) {
+		state.line.dash = (value != null) ? value.clone() : null;
+		state.line.style = (value != null) ? SWT.LINE_CUSTOM : SWT.LINE_SOLID;
+	}
+
+	/**
+	 * @see Graphics#setLineDashOffset(float)
+	 */
+	@Override
+	public void setLineDashOffset(float value) {
+		state.line.dashOffset = value;
+	}
+
+	/**
+	 * @see Graphics#setLineJoin(int)
+	 */
+	@Override
+	public void setLineJoin(int join) {
+		state.line.join = join;
+	}
+
+	/**
+	 * @see Graphics#setLineMiterLimit(float)
+	 */
+	@Override
+	public void setLineMiterLimit(float miterLimit) {
+		state.line.miterLimit = miterLimit;
+	}
+
+	/**
+	 * @see Graphics#setLineStyle(int)
+	 */
+	@Override
+	public void setLineStyle(int style) {
+		state.line.style = style;
+	}
+
+	/**
+	 * @see Graphics#setLineWidth(int)
+	 */
+	@Override
+	public void setLineWidth(int width) {
+		state.line.width = width;
+	}
+
+	/**
+	 * @see Graphics#setLineWidthFloat(float)
+	 */
+	@Override
+	public void setLineWidthFloat(float width) {
+		state.line.width = width;
+	}
+
+	/**
+	 * @see Graphics#setTextAntialias(int)
+	 */
+	@Override
+	public void setTextAntialias(int value) {
+		state.textAntialias = value;
+	}
+
+	/**
+	 * @see Graphics#setXORMode(boolean)
+	 */
+	@Override
+	public void setXORMode(boolean b) {
+		state.xor = b;
+	}
+
+	/**
+	 * @see Graphics#translate(int, int)
+	 */
+	@Override
+	public void translate(int dx, int dy) {
+		translate((float) dx, (float) dy);
+	}
+
+	/**
+	 * @see Graphics#translate(float, float)
+	 */
+	@Override
+	public void translate(float dx, float dy) {
+		state.dx += dx * state.scale;
+		state.dy += dy * state.scale;
+	}
+
+	private double deviceX(double x) {
+		return x * state.scale + state.dx;
+	}
+
+	private double deviceY(double y) {
+		return y * state.scale + state.dy;
+	}
+
+	private static int round(double value) {
+		return (int) Math.floor(value + 0.5);
+	}
+
+	private static int rgb(Color color) {
+		return (color.getRed() << 16) | (color.getGreen() << 8) | color.getBlue();
+	}
+
+	private static int interpolate(int from, int to, int step, int steps) {
+		int result = 0;
+		for (int shift = 0; shift <= 16; shift += 8) {
+			int a = (from >> shift) & 0xff;
+			int b = (to >> shift) & 0xff;
+			result |= (a + (b - a) * Math.min(step, steps) / steps) << shift;
+		}
+		return result;
+	}
+
+	private Points toDevice(PointList points) {
+		Points result = new Points();
+		for (int i = 0; i < points.size(); i++) {
+			result.add(deviceX(points.getPoint(i).x), deviceY(points.getPoint(i).y));
+		}
+		return result;
+	}
+
+	private Points rectangle(int x0, int y0, int x1, int y1) {
+		Points points = new Points();
+		points.add(deviceX(x0), deviceY(y0));
+		points.add(deviceX(x1), deviceY(y0));
+		points.add(deviceX(x1), deviceY(y1));
+		points.add(deviceX(x0), deviceY(y1));
+		return points;
+	}
+
+	/**
+	 * Returns the dash pattern of the current line style in device units, or
+	 * <code>null</code> for solid lines.
+	 */
+	private double[] getDash() {
+		LineAttributes line = state.line;
+		float[] pattern;
+		double factor = state.scale;
+		switch (line.style) {
+		case SWT.LINE_DASH -> pattern = DASH;
+		case SWT.LINE_DOT -> pattern = DOT;
+		case SWT.LINE_DASHDOT -> pattern = DASH_DOT;
+		case SWT.LINE_DASHDOTDOT -> pattern = DASH_DOT_DOT;
+		case SWT.LINE_CUSTOM -> pattern = line.dash;
+		default -> pattern = null;
+		}
+		if (pattern == null || pattern.length == 0) {
+			return null;
+		}
+		if (line.style != SWT.LINE_CUSTOM) {
+			factor *= Math.max(1, line.width);
+		}
+		double[] dash = new double[pattern.length];
+		double total = 0;
+		for (int i = 0; i < pattern.length; i++) {
+			dash[i] = Math.max(0, pattern[i]) * factor;
+			total += dash[i];
+		}
+		return (total > 0) ? dash : null;
+	}
+
+	/**
+	 * Strokes the polyline through the given points with the foreground color.
+	 * Points are in device coordinates, where integral values denote the centers
+	 * of pixels.
+	 */
+	private void stroke(Points points, boolean closed, double[] dash) {
+		int n = points.size;
+		if (n == 0) {
+			return;
+		}
+		int color = rgb(state.foreground);
+		double lineWidth = state.line.width * state.scale;
+		boolean thin = lineWidth <= 1;
+		int segments = closed ? n : n - 1;
+		if (segments == 0 || (closed && n == 1)) {
+			if (thin) {
+				plot(round(points.xs[0]), round(points.ys[0]), color, state.alpha);
+			} else {
+				fillDisc(points.xs[0], points.ys[0], lineWidth / 2, color);
+			}
+			return;
+		}
+
+		int index = 0;
+		boolean on = true;
+		double remaining = 0;
+		if (dash != null) {
+			remaining = dash[0];
+			double offset = state.line.dashOffset * state.scale;
+			while (offset > 0) {
+				double step = Math.min(offset, remaining);
+				offset -= step;
+				remaining -= step;
+				if (remaining <= 0) {
+					index = (index + 1) % dash.length;
+					on = !on;
+					remaining = dash[index];
+				}
+			}
+		}
+
+		for (int i = 0; i < segments; i++) {
+			double ax = points.xs[i];
+			double ay = points.ys[i];
+			double bx = points.xs[(i + 1) % n];
+			double by = points.ys[(i + 1) % n];
+			if (dash == null) {
+				boolean skipLast = closed && i == segments - 1;
+				strokeSegment(ax, ay, bx, by, lineWidth, color, i > 0, skipLast);
+				continue;
+			}
+			double length = Math.hypot(bx - ax, by - ay);
+			double t = 0;
+			while (t < length) {
+				double step = Math.min(remaining, length - t);
+				if (on && step > 0) {
+					double t0 = t / length;
+					double t1 = (t + step) / length;
+					strokeSegment(ax + (bx - ax) * t0, ay + (by - ay) * t0, ax + (bx - ax) * t1, ay + (by - ay) * t1,
+							lineWidth, color, false, true);
+				}
+				t += step;
+				remaining -= step;
+				if (remaining <= 0) {
+					index = (index + 1) % dash.length;
+					on = !on;
+					remaining = dash[index];
+				}
+			}
+		}
+
+		if (!thin && dash == null) {
+			for (int i = closed ? 0 : 1; i < (closed ? n : n - 1); i++) {
+				fillDisc(points.xs[i], points.ys[i], lineWidth / 2, color);
+			}
+		}
+	}
+
+	private void strokeSegment(double x0, double y0, double x1, double y1, double lineWidth, int color,
+			boolean skipFirst, boolean skipLast) {
+		if (lineWidth <= 1) {
+			line(round(x0), round(y0), round(x1), round(y1), color, skipFirst, skipLast);
+			return;
+		}
+		double length = Math.hypot(x1 - x0, y1 - y0);
+		if (length == 0) {
+			return;
+		}
+		double half = lineWidth / 2;
+		double nx = -(y1 - y0) / length * half;
+		double ny = (x1 - x0) / length * half;
+		double ex = 0;
+		double ey = 0;
+		if (state.line.cap != SWT.CAP_FLAT) {
+			ex = (x1 - x0) / length * half;
+			ey = (y1 - y0) / length * half;
+		}
+		// Pixel centers are at .5 in area coordinates
+		Points quad = new Points();
+		quad.add(x0 - ex + nx + 0.5, y0 - ey + ny + 0.5);
+		quad.add(x1 + ex + nx + 0.5, y1 + ey + ny + 0.5);
+		quad.add(x1 + ex - nx + 0.5, y1 + ey - ny + 0.5);
+		quad.add(x0 - ex - nx + 0.5, y0 - ey - ny + 0.5);
+		fill(quad, color);
+	}
+
+	private void fillDisc(double x, double y, double radius, int color) {
+		Points disc = new Points();
+		disc.addArc(x + 0.5, y + 0.5, radius, radius, 0, 360);
+		fill(disc, color);
+	}
+
+	/**
+	 * Draws a line of single pixels using Bresenham's algorithm.
+	 */
+	private void line(int x0, int y0, int x1, int y1, int color, boolean skipFirst, boolean skipLast) {
+		int dx = Math.abs(x1 - x0);
+		int dy = -Math.abs(y1 - y0);
+		int sx = (x0 < x1) ? 1 : -1;
+		int sy = (y0 < y1) ? 1 : -1;
+		int error = dx + dy;
+		boolean first = true;
+		while (true) {
+			boolean last = x0 == x1 && y0 == y1;
+			if (!(first && skipFirst) && !(last && skipLast)) {
+				plot(x0, y0, color, state.alpha);
+			}
+			if (last) {
+				return;
+			}
+			first = false;
+			int e2 = 2 * error;
+			if (e2 >= dy) {
+				error += dy;
+				x0 += sx;
+			}
+			if (e2 <= dx) {
+				error += dx;
+				y0 += sy;
+			}
+		}
+	}
+
+	/**
+	 * Fills the polygon through the given points. Points are in device
+	 * coordinates, where integral values denote the edges between pixels. A pixel
+	 * is filled if its center is inside the polygon according to the fill rule.
+	 */
+	private void fill(Points points, int color) {
+		int n = points.size;
+		if (n < 3) {
+			return;
+		}
+		double minY = Double.POSITIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			minY = Math.min(minY, points.ys[i]);
+			maxY = Math.max(maxY, points.ys[i]);
+		}
+		int y0 = Math.max(state.clipY, (int) Math.ceil(minY - 0.5));
+		int y1 = Math.min(state.clipBottom, (int) Math.ceil(maxY - 0.5));
+		boolean winding = state.fillRule == SWT.FILL_WINDING;
+		double[] crossings = new double[n];
+		int[] directions = new int[n];
+		for (int y = y0; y < y1; y++) {
+			double center = y + 0.5;
+			int count = 0;
+			for (int i = 0, j = n - 1; i < n; j = i++) {
+				double ya = points.ys[j];
+				double yb = points.ys[i];
+				if ((ya <= center) == (yb <= center)) {
+					continue;
+				}
+				double x = points.xs[j] + (center - ya) * (points.xs[i] - points.xs[j]) / (yb - ya);
+				int k = count++;
+				while (k > 0 && crossings[k - 1] > x) {
+					crossings[k] = crossings[k - 1];
+					directions[k] = directions[k - 1];
+					k--;
+				}
+				crossings[k] = x;
+				directions[k] = (ya < yb) ? 1 : -1;
+			}
+			int inside = 0;
+			for (int k = 0; k < count - 1; k++) {
+				inside += winding ? directions[k] : 1;
+				if (winding ? inside != 0 : (inside & 1) != 0) {
+					span(y, (int) Math.ceil(crossings[k] - 0.5), (int) Math.ceil(crossings[k + 1] - 0.5), color);
+				}
+			}
+		}
+	}
+
+	private void fillArea(double x, double y, double w, double h, int color) {
+		int x0 = round(deviceX(x));
+		int x1 = round(deviceX(x + w));
+		for (int py = Math.max(round(deviceY(y)), state.clipY); py < Math.min(round(deviceY(y + h)),
+				state.clipBottom); py++) {
+			span(py, x0, x1, color);
+		}
+	}
+
+	/**
+	 * Fills the pixels from <code>x0</code> inclusive to <code>x1</code> exclusive
+	 * in the given row.
+	 */
+	private void span(int y, int x0, int x1, int color) {
+		State s = state;
+		if (y < s.clipY || y >= s.clipBottom) {
+			return;
+		}
+		int offset = y * width;
+		for (int x = Math.max(x0, s.clipX); x < Math.min(x1, s.clipRight); x++) {
+			blend(offset + x, color, s.alpha);
+		}
+	}
+
+	private void plot(int x, int y, int color, int alpha) {
+		State s = state;
+		if (x >= s.clipX && x < s.clipRight && y >= s.clipY && y < s.clipBottom) {
+			blend(y * width + x, color, alpha);
+		}
+	}
+
+	/**
+	 * Composites the given color with the given alpha over the pixel at the given
+	 * index.
+	 */
+	private void blend(int index, int color, int alpha) {
+		if (state.xor) {
+			pixels[index] ^= color & 0xffffff;
+			return;
+		}
+		if (alpha >= 255) {
+			pixels[index] = 0xff000000 | color;
+			return;
+		}
+		if (alpha <= 0) {
+			return;
+		}
+		int destination = pixels[index];
+		int destinationAlpha = (destination >>> 24) * (255 - alpha) / 255;
+		int resultAlpha = alpha + destinationAlpha;
+		int result = resultAlpha << 24;
+		for (int shift = 0; shift <= 16; shift += 8) {
+			int source = (color >> shift) & 0xff;
+			int target = (destination >> shift) & 0xff;
+			result |= ((source * alpha + target * destinationAlpha) / resultAlpha) << shift;
+		}
+		pixels[index] = result;
+	}
+
+	private void drawImageData(ImageData data, int sx, int sy, int sw, int sh, int x, int y, int w, int h) {
+		if (sw <= 0 || sh <= 0 || w <= 0 || h <= 0) {
+			return;
+		}
+		int x0 = round(deviceX(x));
+		int y0 = round(deviceY(y));
+		int x1 = round(deviceX(x + w));
+		int y1 = round(deviceY(y + h));
+		if (x1 <= x0 || y1 <= y0) {
+			return;
+		}
+		ImageData mask = (data.getTransparencyType() == SWT.TRANSPARENCY_MASK) ? data.getTransparencyMask() : null;
+		for (int py = Math.max(y0, state.clipY); py < Math.min(y1, state.clipBottom); py++) {
+			int iy = Math.min(data.height - 1, sy + (int) ((py - y0 + 0.5) * sh / (y1 - y0)));
+			for (int px = Math.max(x0, state.clipX); px < Math.min(x1, state.clipRight); px++) {
+				int ix = Math.min(data.width - 1, sx + (int) ((px - x0 + 0.5) * sw / (x1 - x0)));
+				int pixel = data.getPixel(ix, iy);
+				if (pixel == data.transparentPixel || (mask != null && mask.getPixel(ix, iy) == 0)) {
+					continue;
+				}
+				int alpha = (data.alpha != -1) ? data.alpha : data.getAlpha(ix, iy);
+				blend(py * width + px, TiledImageExporter.toRGB(data.palette, pixel), alpha * state.alpha / 255);
+			}
+		}
+	}
+
+	/**
+	 * Returns the pixels of the given image, which are read from the image when it
+	 * is painted for the first time.
+	 */
+	private ImageData getImageData(Image image) {
+		return imageData.computeIfAbsent(image, Image::getImageData);
+	}
+
+	/**
+	 * Draws a bar for each word of the given text, as wide as the word is
+	 * estimated to be in the current font.
+	 */
+	private void drawGreekedText(String s, int x, int y, boolean fillBackground, boolean delimiters) {
+		double size = RasterTextUtilities.getPixelSize(state.font);
+		int lineHeight = RasterTextUtilities.getLineHeight(size);
+		double charWidth = size / 2;
+		int foreground = rgb(state.foreground);
+		int background = rgb(state.background);
+
+		String[] lines = delimiters ? s.split("\n", -1) : new String[] { s }; //$NON-NLS-1$
+		for (int l = 0; l < lines.length; l++) {
+			String line = lines[l];
+			double top = y + l * lineHeight;
+			if (fillBackground) {
+				fillArea(x, top, RasterTextUtilities.getColumns(line, line.length()) * charWidth, lineHeight, background);
+			}
+			int wordStart = -1;
+			for (int i = 0; i <= line.length(); i++) {
+				boolean space = i == line.length() || Character.isWhitespace(line.charAt(i));
+				if (wordStart < 0 && !space) {
+					wordStart = i;
+				} else if (wordStart >= 0 && space) {
+					double left = RasterTextUtilities.getColumns(line, wordStart) * charWidth;
+					fillBar(x + left, top, RasterTextUtilities.getColumns(line, i) * charWidth - left, lineHeight, foreground);
+					wordStart = -1;
+				}
+			}
+		}
+	}
+
+	private void fillBar(double x, double y, double w, double h, int color) {
+		fillArea(x, y + h / 3, w, Math.max(1 / state.scale, h / 3), color);
+	}
+
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
+
+import org.eclipse.draw2d.geometry.Dimension;
+
+/**
+ * TextUtilities which estimate the extent of text from the height of the font
+ * instead of measuring it on a device. Every character is half as wide as the
+ * font size, and a tab is as wide as eight characters. These are the extents
+ * {@link RasterGraphics} draws text with, so figures which are rendered by it,
+ * possibly without a display, should measure their text with this instance.
+ * See {@link Label#getTextUtilities()} and
+ * {@link org.eclipse.draw2d.text.RasterFlowUtilities}.
+ *
+ * @since 3.18
+ */
+public class RasterTextUtilities extends TextUtilities {
+
+	/**
+	 * a singleton default instance
+	 */
+	public static final RasterTextUtilities INSTANCE = new RasterTextUtilities();
+
+	/**
+	 * The resolution assumed to convert font sizes to pixels.
+	 */
+	private static final int DPI = 96;
+
+	/**
+	 * The font size assumed when no font is given.
+	 */
+	private static final int DEFAULT_HEIGHT = 9;
+
+	/**
+	 * Returns the size of the given font in pixels.
+	 */
+	static double getPixelSize(Font font) {
+		int height = DEFAULT_HEIGHT;
+		if (font != null) {
+			FontData[] data = font.getFontData();
+			if (data.length > 0) {
+				height = data[0].getHeight();
+			}
+		}
+		return DPI / 72.0 * height;
+	}
+
+	/**
+	 * Returns the height of a line in a font of the given size in pixels.
+	 */
+	static int getLineHeight(double size) {
+		return (int) Math.ceil(size * 1.25);
+	}
+
+	/**
+	 * Returns the number of columns the first characters of the given line take,
+	 * expanding tabs to eight columns.
+	 */
+	static int getColumns(String line, int end) {
+		int columns = 0;
+		for (int i = 0; i < end; i++) {
+			columns += (line.charAt(i) == '\t') ? 8 : 1;
+		}
+		return columns;
+	}
+
+	/**
+	 * Returns the estimated width of a character in the given font.
+	 *
+	 * @param font the font, or <code>null</code> for the default size
+	 * @return the average character width
+	 */
+	@SuppressWarnings("static-method")
+	public double getAverageCharacterWidth(Font font) {
+		return getPixelSize(font) / 2;
+	}
+
+	/**
+	 * @see TextUtilities#getStringExtents(String, Font)
+	 */
+	@Override
+	public Dimension getStringExtents(String s, Font f) {
+		double size = getPixelSize(f);
+		return new Dimension((int) Math.ceil(getColumns(s, s.length()) * size / 2), getLineHeight(size));
+	}
+
+	/**
+	 * @see TextUtilities#getTextExtents(String, Font)
+	 */
+	@Override
+	public Dimension getTextExtents(String s, Font f) {
+		double size = getPixelSize(f);
+		int columns = 0;
+		int lines = 0;
+		int start = 0;
+		while (start <= s.length()) {
+			int end = s.indexOf('\n', start);
+			if (end < 0) {
+				end = s.length();
+			}
+			int lineEnd = (end > start && s.charAt(end - 1) == '\r') ? end - 1 : end;
+			columns = Math.max(columns, getColumns(s.substring(start, lineEnd), lineEnd - start));
+			lines++;
+			start = end + 1;
+		}
+		return new Dimension((int) Math.ceil(columns * size / 2), lines * getLineHeight(size));
+	}
+
+	/**
+	 * @see TextUtilities#getAscent(Font)
+	 */
+	@Override
+	public int getAscent(Font font) {
+		return (int) Math.ceil(getPixelSize(font));
+	}
+
+	/**
+	 * @see TextUtilities#getDescent(Font)
+	 */
+	@Override
+	public int getDescent(Font font) {
+		double size = getPixelSize(font);
+		return getLineHeight(size) - (int) Math.ceil(size);
+	}
+
+	/**
+	 * @see TextUtilities#getLargestSubstringConfinedTo(String, Font, int)
+	 */
+	@Override
+	public int getLargestSubstringConfinedTo(String s, Font f, int availableWidth) {
+		double charWidth = getAverageCharacterWidth(f);
+		int columns = 0;
+		for (int i = 0; i < s.length(); i++) {
+			columns += (s.charAt(i) == '\t') ? 8 : 1;
+			if (columns * charWidth >= availableWidth) {
+				return i;
+			}
+		}
+		return s.length();
+	}
+
+}
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Stores the rendering of figures whose render cache is enabled as images. One
+ * image is kept for each of the most recently used zoom levels of a figure. The
+ * total size of all images is limited by a memory budget. If it is exceeded,
+ * the images of the least recently painted figures are disposed.
+ *
+ * @see Figure#setRenderCacheEnabled(boolean)
+ */
+final class RenderCache {
+
+	/**
+	 * The default memory budget in bytes.
+	 */
+	static final long DEFAULT_BUDGET = 32L << 20;
+
+	/**
+	 * The maximum number of zoom levels for which a figure is cached.
+	 */
+	private static final int MAX_ZOOM_BUCKETS = 3;
+
+	/*
+	 * The number of images held by all caches. Figures only look up their cache
+	 * when repainted if there is at least one image. Images are only created and
+	 * disposed on the UI thread.
+	 */
+	private static int imageCount;
+
+	/**
+	 * An image rendered for a zoom bucket and the size of the figure at the time.
+	 */
+	private record Bucket(int zoom, int width, int height, Image image) {
+		long cost() {
+			org.eclipse.swt.graphics.Rectangle r = image.getBounds();
+			return 4L * r.width * r.height;
+		}
+	}
+
+	/*
+	 * The buckets of each figure, the most recently used first. The map is in
+	 * access order, so that the least recently painted figure comes first.
+	 */
+	private final Map<IFigure, List<Bucket>> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long budget = DEFAULT_BUDGET;
+	private long size;
+
+	/**
+	 * Disposes all images.
+	 */
+	void clear() {
+		entries.values().forEach(buckets -> buckets.forEach(this::dispose));
+		entries.clear();
+	}
+
+	/**
+	 * Returns the image of the given figure for the given scale, rendering it with
+	 * the given painter if necessary.
+	 *
+	 * @param figure  the figure
+	 * @param scale   the absolute scale of the graphics the figure is painted on
+	 * @param painter paints the figure and its children, without consulting the
+	 *                cache
+	 * @return the image, or <code>null</code> if it could not be rendered or would
+	 *         exceed the budget on its own
+	 */
+	Image getImage(IFigure figure, double scale, Consumer<Graphics> painter) {
+		int zoom = (int) Math.round(scale * 100);
+		Rectangle bounds = figure.getBounds();
+		List<Bucket> buckets = entries.get(figure);
+		if (buckets != null) {
+			for (Iterator<Bucket> iter = buckets.iterator(); iter.hasNext();) {
+				Bucket bucket = iter.next();
+				if (bucket.zoom() != zoom) {
+					continue;
+				}
+				if (bucket.width() == bounds.width && bucket.height() == bounds.height) {
+					if (buckets.get(0) != bucket) {
+						iter.remove();
+						buckets.add(0, bucket);
+					}
+					return bucket.image();
+				}
+				iter.remove();
+				dispose(bucket);
+				break;
+			}
+		}
+
+		Image image = render(figure, scale, painter);
+		if (image == null) {
+			return null;
+		}
+		Bucket bucket = new Bucket(zoom, bounds.width, bounds.height, image);
+		if (buckets == null) {
+			buckets = new ArrayList<>(MAX_ZOOM_BUCKETS);
+			entries.put(figure, buckets);
+		}
+		buckets.add(0, bucket);
+		size += bucket.cost();
+		imageCount++;
+		if (buckets.size() > MAX_ZOOM_BUCKETS) {
+			dispose(buckets.remove(MAX_ZOOM_BUCKETS));
+		}
+		trim(figure);
+		return image;
+	}
+
+	/**
+	 * Returns whether any cache holds an image.
+	 */
+	static boolean hasImages() {
+		return imageCount > 0;
+	}
+
+	/**
+	 * Disposes the images of the ancestors of the given figure, and of the figure
+	 * itself unless only its location has changed.
+	 *
+	 * @param figure the figure whose rendering has changed
+	 * @param self   <code>false</code> if the images of the figure remain valid
+	 */
+	void invalidate(IFigure figure, boolean self) {
+		IFigure f = self ? figure : figure.getParent();
+		for (; f != null && !entries.isEmpty(); f = f.getParent()) {
+			remove(f);
+		}
+	}
+
+	/**
+	 * Disposes the images of the given figure.
+	 *
+	 * @param figure the figure
+	 */
+	void remove(IFigure figure) {
+		List<Bucket> buckets = entries.remove(figure);
+		if (buckets != null) {
+			buckets.forEach(this::dispose);
+		}
+	}
+
+	/**
+	 * Sets the maximum number of bytes occupied by all images.
+	 *
+	 * @param budget the budget in bytes
+	 */
+	void setBudget(long budget) {
+		this.budget = budget;
+		trim(null);
+	}
+
+	private void dispose(Bucket bucket) {
+		size -= bucket.cost();
+		imageCount--;
+		bucket.image().dispose();
+	}
+
+	private Image render(IFigure figure, double scale, Consumer<Graphics> painter) {
+		Display display = Display.getCurrent();
+		Rectangle bounds = figure.getBounds();
+		int width = (int) Math.ceil(bounds.width * scale);
+		int height = (int) Math.ceil(bounds.height * scale);
+		if (display == null || width <= 0 || height <= 0 || 4L * width * height > budget) {
+			return null;
+		}
+
+		Image image = new Image(display, width, height);
+		GC gc = new GC(image);
+		SWTGraphics graphics = new SWTGraphics(gc);
+		try {
+			if (scale != 1) {
+				graphics.scale(scale);
+			}
+			graphics.translate(-bounds.x, -bounds.y);
+			Color background = figure.getBackgroundColor();
+			if (background != null) {
+				graphics.setBackgroundColor(background);
+			}
+			Color foreground = figure.getForegroundColor();
+			if (foreground != null) {
+				graphics.setForegroundColor(foreground);
+			}
+			Font font = figure.getFont();
+			if (font != null) {
+				graphics.setFont(font);
+			}
+			painter.accept(graphics);
+		} finally {
+			graphics.dispose();
+			gc.dispose();
+		}
+		return image;
+	}
+
+	/**
+	 * Disposes the images of the least recently painted figures until the budget
+	 * is met. The images of the given figure are kept.
+	 */
+	private void trim(IFigure keep) {
+		for (Iterator<Map.Entry<IFigure, List<Bucket>>> iter = entries.entrySet().iterator(); size > budget
+				&& iter.hasNext();) {
+			Map.Entry<IFigure, List<Bucket>> entry = iter.next();
+			if (entry.getKey() != keep) {
+				iter.remove();
+				entry.getValue().forEach(this::dispose);
+			}
+		}
+	}
+
+}
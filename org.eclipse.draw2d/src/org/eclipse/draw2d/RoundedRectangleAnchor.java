@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010  itemis AG (http://www.itemis.de)
+ * Copyright (c) 2010, 2026 itemis AG (http://www.itemis.de) and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,7 +14,6 @@ package org.eclipse.draw2d;
 
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Point;
-import org.eclipse.draw2d.geometry.PrecisionPoint;
 import org.eclipse.draw2d.geometry.Rectangle;
 
 /**
@@ -69,11 +68,29 @@ public class RoundedRectangleAnchor extends ChopboxAnchor {
 	 */
 	@Override
 	public Point getLocation(final Point ref) {
+		return getLocation(ref, new Point());
+	}
+
+	/**
+	 * Same as {@link #getLocation(Point)}, but stores the anchor location in the
+	 * given <i>result</i> Point instead of allocating a new one.
+	 * {@link #getLocation(Point)} delegates to this method, so subclasses which
+	 * calculate a different location should override this method.
+	 *
+	 * @see org.eclipse.draw2d.ConnectionAnchor#getLocation(Point, Point)
+	 * @since 3.18
+	 */
+	@Override
+	public Point getLocation(final Point ref, final Point result) {
+		return calculateRoundedLocation(ref, result);
+	}
+
+	private Point calculateRoundedLocation(final Point ref, final Point location) {
 		Dimension corner = dimension;
 		if (getOwner() instanceof RoundedRectangle) {
 			corner = ((RoundedRectangle) getOwner()).getCornerDimensions();
 		}
-		final Point location = super.getLocation(ref);
+		super.getLocation(ref, location);
 		final Rectangle r = Rectangle.SINGLETON;
 		r.setBounds(getOwner().getBounds());
 		r.translate(-1, -1);
@@ -98,30 +115,29 @@ public class RoundedRectangleAnchor extends ChopboxAnchor {
 		} else {
 			pos += CENTER;
 		}
+		final Rectangle ownerBounds = getOwner().getBounds();
+		final int centerX = ownerBounds.x + ownerBounds.width / 2;
+		final int centerY = ownerBounds.y + ownerBounds.height / 2;
 		switch (pos) {
 		case TOP | MIDDLE:
 		case CENTER | LEFT:
 		case CENTER | RIGHT:
 		case BOTTOM | MIDDLE:
-			return new Point(location.x, location.y);
+			return location;
 		case TOP | LEFT:
-			return ellipseAnchorGetLocation(location, new Rectangle(r.x, r.y, corner.width, corner.height),
-					getOwner().getBounds().getCenter())[0];
+			return ellipseAnchorGetLocation(location, r.x, r.y, corner.width, corner.height, centerX, centerY, true);
 		case TOP | RIGHT:
-			return ellipseAnchorGetLocation(location,
-					new Rectangle(r.x + r.width - corner.width, r.y, corner.width, corner.height),
-					getOwner().getBounds().getCenter())[1];
+			return ellipseAnchorGetLocation(location, r.x + r.width - corner.width, r.y, corner.width, corner.height,
+					centerX, centerY, false);
 		case CENTER | MIDDLE:
 			// default for reference inside Figure
-			return new Point(r.x, r.y + r.height / 2);
+			return location.setLocation(r.x, r.y + r.height / 2);
 		case BOTTOM | LEFT:
-			return ellipseAnchorGetLocation(location,
-					new Rectangle(r.x, r.y + r.height - corner.height, corner.width, corner.height),
-					getOwner().getBounds().getCenter())[0];
+			return ellipseAnchorGetLocation(location, r.x, r.y + r.height - corner.height, corner.width,
+					corner.height, centerX, centerY, true);
 		case BOTTOM | RIGHT:
-			return ellipseAnchorGetLocation(location, new Rectangle(r.x + r.width - corner.width,
-					r.y + r.height - corner.height, corner.width, corner.height),
-					getOwner().getBounds().getCenter())[1];
+			return ellipseAnchorGetLocation(location, r.x + r.width - corner.width, r.y + r.height - corner.height,
+					corner.width, corner.height, centerX, centerY, false);
 		default:
 			throw new IllegalStateException("Calculation of RoundedRectangleAnchor missed. Rect: " + r //$NON-NLS-1$
 					+ " Point: " + location); //$NON-NLS-1$
@@ -129,28 +145,33 @@ public class RoundedRectangleAnchor extends ChopboxAnchor {
 	}
 
 	/**
-	 * Calculation of intersections points of one ellipse, represented by r, and the
-	 * line between ref and c.
+	 * Calculation of intersections points of one ellipse, represented by the
+	 * rectangle (x, y, width, height), and the line between ref and c. The first
+	 * or second intersection point, depending on <i>first</i>, is stored in
+	 * <i>ref</i>. Both points are equal, if the line only tangents.
 	 *
-	 * @param reference reference point for line end (end of the line)
-	 * @param r         the rectangle of the ellipse, where the intersection points
-	 *                  are wanted for
-	 * @param center    center of the figure (start of the line)
-	 * @return Two intersection points of circle with the line. They could be equal,
-	 *         if the line only tangents. Returns null, if no intersection was
-	 *         found.
+	 * @param ref    reference point for line end (end of the line), which is
+	 *               updated with the intersection point
+	 * @param x      the x coordinate of the ellipse's bounding rectangle
+	 * @param y      the y coordinate of the ellipse's bounding rectangle
+	 * @param width  the width of the ellipse's bounding rectangle
+	 * @param height the height of the ellipse's bounding rectangle
+	 * @param cx     x coordinate of the center of the figure (start of the line)
+	 * @param cy     y coordinate of the center of the figure (start of the line)
+	 * @param first  whether the first or the second intersection point is wanted
+	 * @return <code>ref</code> for convenience
 	 */
-	private static Point[] ellipseAnchorGetLocation(final Point ref, final Rectangle r, Point c) {
-
+	private static Point ellipseAnchorGetLocation(final Point ref, final int x, final int y, final int width,
+			final int height, final int cx, final int cy, final boolean first) {
+		final int ellipseCenterX = x + width / 2;
+		final int ellipseCenterY = y + height / 2;
 		// Move the coordinates so that the center of ellipse is in the origin.
-		final PrecisionPoint reference = new PrecisionPoint(r.getCenter().negate().translate(ref));
-		final PrecisionPoint center = new PrecisionPoint(r.getCenter().negate().translate(c));
 		// Transform the coordinate axis, to make the ellipse a circle with
 		// radius 1.
-		final double referenceX = reference.preciseX() * 2.0 / r.width;
-		final double referenceY = reference.preciseY() * 2.0 / r.height;
-		final double centerX = center.preciseX() * 2.0 / r.width;
-		final double centerY = center.preciseY() * 2.0 / r.height;
+		final double referenceX = (ref.x - ellipseCenterX) * 2.0 / width;
+		final double referenceY = (ref.y - ellipseCenterY) * 2.0 / height;
+		final double centerX = (cx - ellipseCenterX) * 2.0 / width;
+		final double centerY = (cy - ellipseCenterY) * 2.0 / height;
 
 		// the line is y=a*x+b detemine a and b
 		final double a = (referenceY - centerY) / (referenceX - centerX);
@@ -162,19 +183,20 @@ public class RoundedRectangleAnchor extends ChopboxAnchor {
 		// (a*b)/a*a+1
 		//
 		// y = a*x+b
-		final double bSqr = Math.pow(b, 2);
-		final double aSqr = Math.pow(a, 2);
-		final double xSqrt = Math.sqrt((1 - bSqr) / (aSqr + 1) + (aSqr * bSqr) / (Math.pow(aSqr + 1, 2)));
-		if (xSqrt == Double.NaN) {
-			// no intersection found
-			return null;
-		}
-		final double x1 = -xSqrt - (a * b) / (Math.pow(a, 2) + 1);
-		final double x2 = +xSqrt - (a * b) / (Math.pow(a, 2) + 1);
+		final double bSqr = b * b;
+		final double aSqr = a * a;
+		final double xSqrt = Math.sqrt((1 - bSqr) / (aSqr + 1) + (aSqr * bSqr) / ((aSqr + 1) * (aSqr + 1)));
+		final double x1 = (first ? -xSqrt : xSqrt) - (a * b) / (aSqr + 1);
 		final double y1 = a * x1 + b;
-		final double y2 = a * x2 + b;
-		final Point p1 = new PrecisionPoint(x1 * r.width / 2.0, y1 * r.height / 2.0);
-		final Point p2 = new PrecisionPoint(x2 * r.width / 2.0, y2 * r.height / 2.0);
-		return new Point[] { r.getCenter().translate(p1), r.getCenter().translate(p2) };
+		return ref.setLocation(ellipseCenterX + toInteger(x1 * width / 2.0),
+				ellipseCenterY + toInteger(y1 * height / 2.0));
+	}
+
+	/**
+	 * Rounds the given value the same way
+	 * {@link org.eclipse.draw2d.geometry.PrecisionPoint PrecisionPoint} does.
+	 */
+	private static int toInteger(final double value) {
+		return (int) Math.floor(value + 0.000000001);
 	}
-}
\ No newline at end of file
+}
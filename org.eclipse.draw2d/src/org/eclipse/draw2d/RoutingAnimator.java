@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2010 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -104,15 +104,13 @@ public class RoutingAnimator extends Animator implements RoutingListener {
 
 		float progress = Animation.getProgress();
 		if (list1.size() == list2.size()) {
-			Point pt1 = new Point(), pt2 = new Point();
+			int[] initial = list1.toIntArray();
+			int[] ending = list2.toIntArray();
 			PointList points = conn.getPoints();
 			points.removeAllPoints();
-			for (int i = 0; i < list1.size(); i++) {
-				list1.getPoint(pt2, i);
-				list2.getPoint(pt1, i);
-				pt1.x = Math.round(pt1.x * progress + (1 - progress) * pt2.x);
-				pt1.y = Math.round(pt1.y * progress + (1 - progress) * pt2.y);
-				points.addPoint(pt1);
+			for (int i = 0; i < initial.length; i += 2) {
+				points.addPoint(Math.round(ending[i] * progress + (1 - progress) * initial[i]),
+						Math.round(ending[i + 1] * progress + (1 - progress) * initial[i + 1]));
 			}
 			conn.setPoints(points);
 		}
@@ -0,0 +1,455 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Exports a figure as an image without allocating an image of the exported
+ * size. The figure is painted tile by tile into a single tile image. The pixels
+ * of a row of tiles are then passed as scanlines to a {@link ScanlineConsumer},
+ * which may for instance encode them as PNG using
+ * {@link #createPNGConsumer(OutputStream)}.
+ * <p>
+ * Apart from the figure itself, the memory used by an export is bounded by one
+ * tile image and one band of pixels, which is as wide as the exported image and
+ * as high as a tile.
+ * <p>
+ * The figure is painted as it is, so it should be validated before it is
+ * exported.
+ *
+ * @since 3.18
+ */
+public class TiledImageExporter {
+
+	/**
+	 * Receives the pixels of an exported image, from top to bottom.
+	 */
+	public interface ScanlineConsumer {
+
+		/**
+		 * Called once before the first scanline.
+		 *
+		 * @param width  the width of the image in pixels
+		 * @param height the height of the image in pixels
+		 * @throws IOException if the consumer fails
+		 */
+		void begin(int width, int height) throws IOException;
+
+		/**
+		 * Called with consecutive scanlines of the image. Each pixel is given as
+		 * <code>0xRRGGBB</code>. The array is reused after this method returns.
+		 *
+		 * @param pixels the pixels of the scanlines, one after another
+		 * @param rows   the number of scanlines
+		 * @throws IOException if the consumer fails
+		 */
+		void consume(int[] pixels, int rows) throws IOException;
+
+		/**
+		 * Called once after the last scanline. Not called if the export is
+		 * canceled.
+		 *
+		 * @throws IOException if the consumer fails
+		 */
+		void end() throws IOException;
+
+		/**
+		 * Called once when the export is over, whether it has completed, has been
+		 * canceled or has failed. Releases any resources held by the consumer. The
+		 * default implementation does nothing.
+		 */
+		default void dispose() {
+		}
+	}
+
+	/**
+	 * Is notified whenever a tile has been painted and may cancel the export.
+	 */
+	@FunctionalInterface
+	public interface ProgressMonitor {
+
+		/**
+		 * Called after a tile has been painted.
+		 *
+		 * @param painted the number of tiles painted so far
+		 * @param total   the total number of tiles
+		 * @return <code>false</code> to cancel the export
+		 */
+		boolean tilePainted(int painted, int total);
+	}
+
+	/**
+	 * The default width and height of a tile, in pixels.
+	 */
+	public static final int DEFAULT_TILE_SIZE = 512;
+
+	private final Device device;
+	private final IFigure figure;
+	private Rectangle region;
+	private double scale = 1;
+	private int tileSize = DEFAULT_TILE_SIZE;
+	private Color backgroundColor = ColorConstants.white;
+	private ProgressMonitor monitor;
+
+	/**
+	 * Creates an exporter for the given figure. The tile image is created on the
+	 * given device, so the export must run on the thread of that device if it is a
+	 * display.
+	 *
+	 * @param device the device the figure is painted on
+	 * @param figure the figure to export
+	 */
+	public TiledImageExporter(Device device, IFigure figure) {
+		this.device = device;
+		this.figure = figure;
+	}
+
+	/**
+	 * Returns a consumer which encodes the scanlines as a 24 bit PNG image and
+	 * writes it to the given stream. Unlike
+	 * {@link org.eclipse.swt.graphics.ImageLoader}, the consumer does not need all
+	 * pixels at once. The stream is not closed. The consumer can be used for a
+	 * single export only, as its compressor is released when it is disposed.
+	 *
+	 * @param out the stream the image is written to
+	 * @return the consumer
+	 */
+	public static ScanlineConsumer createPNGConsumer(OutputStream out) {
+		return new PNGConsumer(out);
+	}
+
+	/**
+	 * Paints the figure and passes its pixels to the given consumer. The consumer
+	 * is disposed when this method returns or throws.
+	 *
+	 * @param consumer the consumer of the pixels
+	 * @return <code>false</code> if the export has been canceled by the progress
+	 *         monitor
+	 * @throws IOException if the consumer fails
+	 */
+	public boolean export(ScanlineConsumer consumer) throws IOException {
+		Rectangle source = getRegion();
+		int width = (int) Math.ceil(source.width * scale);
+		int height = (int) Math.ceil(source.height * scale);
+		if (width <= 0 || height <= 0) {
+			throw new IllegalStateException("Nothing to export"); //$NON-NLS-1$
+		}
+
+		int tileWidth = Math.min(tileSize, width);
+		int tileHeight = Math.min(tileSize, height);
+		int columns = (width + tileWidth - 1) / tileWidth;
+		int rows = (height + tileHeight - 1) / tileHeight;
+		int[] band = new int[width * tileHeight];
+		int[] scanline = new int[tileWidth];
+		int painted = 0;
+
+		Image tile = null;
+		try {
+			tile = new Image(device, tileWidth, tileHeight);
+			consumer.begin(width, height);
+			for (int row = 0; row < rows; row++) {
+				int y = row * tileHeight;
+				int bandHeight = Math.min(tileHeight, height - y);
+				for (int column = 0; column < columns; column++) {
+					int x = column * tileWidth;
+					paintTile(tile, source, x, y);
+					copyPixels(tile.getImageData(), Math.min(tileWidth, width - x), bandHeight, scanline, band, x,
+							width);
+					painted++;
+					if (monitor != null && !monitor.tilePainted(painted, columns * rows)) {
+						return false;
+					}
+				}
+				consumer.consume(band, bandHeight);
+			}
+			consumer.end();
+		} finally {
+			if (tile != null) {
+				tile.dispose();
+			}
+			consumer.dispose();
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the region of the figure which is exported. Unless set explicitly,
+	 * this is the freeform extent of a {@link FreeformFigure} and the bounds of
+	 * any other figure.
+	 *
+	 * @return the exported region, in the coordinates of the figure
+	 */
+	public Rectangle getRegion() {
+		if (region != null) {
+			return region;
+		}
+		if (figure instanceof FreeformFigure freeformFigure) {
+			return freeformFigure.getFreeformExtent();
+		}
+		return figure.getBounds();
+	}
+
+	/**
+	 * Sets the color the tiles are filled with before the figure is painted. The
+	 * default is white.
+	 *
+	 * @param color the background color
+	 */
+	public void setBackgroundColor(Color color) {
+		backgroundColor = color;
+	}
+
+	/**
+	 * Sets the monitor which is notified about painted tiles.
+	 *
+	 * @param monitor the monitor or <code>null</code>
+	 */
+	public void setProgressMonitor(ProgressMonitor monitor) {
+		this.monitor = monitor;
+	}
+
+	/**
+	 * Sets the region of the figure which is exported.
+	 *
+	 * @param region the region in the coordinates of the figure, or
+	 *               <code>null</code> to export the whole figure
+	 * @see #getRegion()
+	 */
+	public void setRegion(Rectangle region) {
+		this.region = region;
+	}
+
+	/**
+	 * Sets the scale at which the figure is exported. The default is 1.
+	 *
+	 * @param scale the scale
+	 */
+	public void setScale(double scale) {
+		if (scale <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.scale = scale;
+	}
+
+	/**
+	 * Sets the width and height of the tiles the figure is painted in. Larger
+	 * tiles mean fewer passes over the figure but more memory.
+	 *
+	 * @param tileSize the tile size in pixels
+	 */
+	public void setTileSize(int tileSize) {
+		if (tileSize <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.tileSize = tileSize;
+	}
+
+	/**
+	 * Paints the part of the figure at the given location of the exported image
+	 * into the tile. A new GC is used for every tile, as some platforms do not
+	 * update the image data while a GC is attached.
+	 */
+	private void paintTile(Image tile, Rectangle source, int x, int y) {
+		org.eclipse.swt.graphics.Rectangle size = tile.getBounds();
+		GC gc = new GC(tile);
+		SWTGraphics graphics = new SWTGraphics(gc);
+		try {
+			graphics.setBackgroundColor(backgroundColor);
+			graphics.fillRectangle(0, 0, size.width, size.height);
+			graphics.translate((float) (-source.x * scale - x), (float) (-source.y * scale - y));
+			if (scale != 1) {
+				graphics.scale(scale);
+			}
+			Color foreground = figure.getForegroundColor();
+			if (foreground != null) {
+				graphics.setForegroundColor(foreground);
+			}
+			Font font = figure.getFont();
+			if (font != null) {
+				graphics.setFont(font);
+			}
+			figure.paint(graphics);
+		} finally {
+			graphics.dispose();
+			gc.dispose();
+		}
+	}
+
+	/**
+	 * Copies the top left pixels of the tile into the band at the given column,
+	 * converting them to <code>0xRRGGBB</code>.
+	 */
+	private static void copyPixels(ImageData data, int width, int height, int[] scanline, int[] band, int x,
+			int bandWidth) {
+		PaletteData palette = data.palette;
+		for (int y = 0; y < height; y++) {
+			data.getPixels(0, y, width, scanline, 0);
+			int offset = y * bandWidth + x;
+			for (int i = 0; i < width; i++) {
+				band[offset + i] = toRGB(palette, scanline[i]);
+			}
+		}
+	}
+
+	/**
+	 * Converts a pixel of an image with the given palette to
+	 * <code>0xRRGGBB</code>.
+	 */
+	static int toRGB(PaletteData palette, int pixel) {
+		if (palette.isDirect) {
+			return (shift(pixel & palette.redMask, palette.redShift) << 16)
+					| (shift(pixel & palette.greenMask, palette.greenShift) << 8)
+					| shift(pixel & palette.blueMask, palette.blueShift);
+		}
+		RGB rgb = palette.getRGB(pixel);
+		return (rgb.red << 16) | (rgb.green << 8) | rgb.blue;
+	}
+
+	private static int shift(int component, int shift) {
+		return (shift < 0) ? component >>> -shift : component << shift;
+	}
+
+	/**
+	 * Writes a PNG image with 8 bit RGB pixels. Each scanline is filtered with the
+	 * Sub filter and compressed right away, so that only the compressor's window
+	 * and one scanline are held in memory.
+	 */
+	private static final class PNGConsumer implements ScanlineConsumer {
+
+		private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n' };
+		private static final int FILTER_SUB = 1;
+		private static final int MAX_CHUNK_SIZE = 1 << 16;
+
+		private final DataOutputStream out;
+		private final Deflater deflater = new Deflater();
+		private DeflaterOutputStream data;
+		private byte[] scanline;
+		private int width;
+
+		PNGConsumer(OutputStream out) {
+			this.out = new DataOutputStream(out);
+		}
+
+		@Override
+		public void begin(int width, int height) throws IOException {
+			this.width = width;
+			scanline = new byte[1 + 3 * width];
+			scanline[0] = FILTER_SUB;
+			out.write(SIGNATURE);
+			byte[] header = new byte[13];
+			writeInt(header, 0, width);
+			writeInt(header, 4, height);
+			header[8] = 8; // bit depth
+			header[9] = 2; // color type RGB
+			writeChunk("IHDR", header, 0, header.length); //$NON-NLS-1$
+			data = new DeflaterOutputStream(new OutputStream() {
+				private final byte[] buffer = new byte[MAX_CHUNK_SIZE];
+				private int count;
+
+				@Override
+				public void write(int b) throws IOException {
+					write(new byte[] { (byte) b }, 0, 1);
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					while (len > 0) {
+						int n = Math.min(len, buffer.length - count);
+						System.arraycopy(b, off, buffer, count, n);
+						count += n;
+						off += n;
+						len -= n;
+						if (count == buffer.length) {
+							flush();
+						}
+					}
+				}
+
+				@Override
+				public void flush() throws IOException {
+					if (count > 0) {
+						writeChunk("IDAT", buffer, 0, count); //$NON-NLS-1$
+						count = 0;
+					}
+				}
+			}, deflater, 8192);
+		}
+
+		@Override
+		public void consume(int[] pixels, int rows) throws IOException {
+			for (int row = 0; row < rows; row++) {
+				int offset = row * width;
+				int previous = 0;
+				for (int i = 0; i < width; i++) {
+					int pixel = pixels[offset + i];
+					int index = 1 + 3 * i;
+					scanline[index] = (byte) ((pixel >> 16) - (previous >> 16));
+					scanline[index + 1] = (byte) ((pixel >> 8) - (previous >> 8));
+					scanline[index + 2] = (byte) (pixel - previous);
+					previous = pixel;
+				}
+				data.write(scanline);
+			}
+		}
+
+		@Override
+		public void end() throws IOException {
+			data.finish();
+			data.flush();
+			writeChunk("IEND", new byte[0], 0, 0); //$NON-NLS-1$
+			out.flush();
+		}
+
+		@Override
+		public void dispose() {
+			deflater.end();
+		}
+
+		private void writeChunk(String type, byte[] bytes, int offset, int length) throws IOException {
+			byte[] name = type.getBytes(StandardCharsets.US_ASCII);
+			CRC32 crc = new CRC32();
+			crc.update(name);
+			crc.update(bytes, offset, length);
+			out.writeInt(length);
+			out.write(name);
+			out.write(bytes, offset, length);
+			out.writeInt((int) crc.getValue());
+		}
+
+		private static void writeInt(byte[] bytes, int offset, int value) {
+			bytes[offset] = (byte) (value >>> 24);
+			bytes[offset + 1] = (byte) (value >>> 16);
+			bytes[offset + 2] = (byte) (value >>> 8);
+			bytes[offset + 3] = (byte) value;
+		}
+	}
+
+}
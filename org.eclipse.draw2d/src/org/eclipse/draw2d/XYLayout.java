@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,6 +13,8 @@
 package org.eclipse.draw2d;
 
 import java.text.MessageFormat;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Insets;
@@ -25,10 +27,33 @@ import org.eclipse.draw2d.internal.Messages;
  * This class implements the {@link org.eclipse.draw2d.LayoutManager} interface
  * using the XY Layout algorithm. This lays out the components using the layout
  * constraints as defined by each component.
+ * <p>
+ * By default, all children are laid out on every layout. If the layout is
+ * {@link #setIncremental(boolean) incremental}, only those children are laid
+ * out again whose constraint has been set since the previous layout, or whose
+ * constraint depends on their preferred size.
  */
 public class XYLayout extends AbstractConstraintLayout {
 	private static final Logger LOGGER = Logger.getLogger(XYLayout.class);
 
+	/**
+	 * The children whose constraint has been set since the last layout.
+	 */
+	private final Set<IFigure> invalidChildren = new LinkedHashSet<>();
+
+	/**
+	 * The children whose constraint depends on their preferred size.
+	 */
+	private final Set<IFigure> preferredSizeChildren = new LinkedHashSet<>();
+
+	/**
+	 * The container and origin of the last layout.
+	 */
+	private IFigure lastContainer;
+	private Point lastOrigin;
+
+	private boolean incremental;
+
 	/**
 	 * Calculates and returns the preferred size of the input figure. Since in
 	 * XYLayout the location of the child should be preserved, the preferred size
@@ -77,6 +102,38 @@ public class XYLayout extends AbstractConstraintLayout {
 		return parent.getClientArea().getLocation();
 	}
 
+	/**
+	 * Returns whether only changed children are laid out again.
+	 *
+	 * @return <code>true</code> if the layout is incremental
+	 * @see #setIncremental(boolean)
+	 * @since 3.18
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Sets whether only changed children are laid out again. After the first
+	 * layout of a container, an incremental layout only places those children
+	 * whose constraint has been set since, or whose constraint depends on their
+	 * preferred size. All children are laid out again if the
+	 * {@link #getOrigin(IFigure) origin} of the container changes.
+	 * <p>
+	 * Clients enabling this must set the constraint of a child again whenever
+	 * it changes. Modifying a constraint in place, or setting the bounds of a
+	 * child directly, has no effect until the constraint of that child is set
+	 * again. The default is <code>false</code>.
+	 *
+	 * @param incremental whether only changed children are laid out again
+	 * @since 3.18
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+		lastContainer = null;
+		lastOrigin = null;
+	}
+
 	/**
 	 * Implements the algorithm to layout the components of the given container
 	 * figure. Each component is laid out using its own layout constraint specifying
@@ -87,25 +144,47 @@ public class XYLayout extends AbstractConstraintLayout {
 	@Override
 	public void layout(IFigure parent) {
 		Point offset = getOrigin(parent);
-		for (IFigure f : parent.getChildren()) {
-			Rectangle bounds = (Rectangle) getConstraint(f);
-			if (bounds == null) {
-				continue;
+		if (!incremental || parent != lastContainer || !offset.equals(lastOrigin)) {
+			invalidChildren.clear();
+			parent.getChildren().forEach(f -> layoutChild(f, offset));
+			lastContainer = parent;
+			lastOrigin = offset.getCopy();
+			return;
+		}
+		// Setting the bounds of a child may cause further constraints to be set,
+		// which are then handled by the next layout.
+		IFigure[] children = invalidChildren.toArray(new IFigure[invalidChildren.size()]);
+		invalidChildren.clear();
+		for (IFigure f : children) {
+			if (f.getParent() == parent) {
+				layoutChild(f, offset);
 			}
+		}
+		for (IFigure f : preferredSizeChildren.toArray(new IFigure[preferredSizeChildren.size()])) {
+			if (f.getParent() == parent) {
+				layoutChild(f, offset);
+			}
+		}
+	}
 
-			if (bounds.width == -1 || bounds.height == -1) {
-				Dimension preferredSize = f.getPreferredSize(bounds.width, bounds.height);
-				bounds = bounds.getCopy();
-				if (bounds.width == -1) {
-					bounds.width = preferredSize.width;
-				}
-				if (bounds.height == -1) {
-					bounds.height = preferredSize.height;
-				}
+	private void layoutChild(IFigure f, Point offset) {
+		Rectangle bounds = (Rectangle) getConstraint(f);
+		if (bounds == null) {
+			return;
+		}
+
+		if (bounds.width == -1 || bounds.height == -1) {
+			Dimension preferredSize = f.getPreferredSize(bounds.width, bounds.height);
+			bounds = bounds.getCopy();
+			if (bounds.width == -1) {
+				bounds.width = preferredSize.width;
+			}
+			if (bounds.height == -1) {
+				bounds.height = preferredSize.height;
 			}
-			bounds = bounds.getTranslated(offset);
-			f.setBounds(bounds);
 		}
+		bounds = bounds.getTranslated(offset);
+		f.setBounds(bounds);
 	}
 
 	/**
@@ -124,6 +203,34 @@ public class XYLayout extends AbstractConstraintLayout {
 					Rectangle.class.getSimpleName()));
 		}
 		super.setConstraint(figure, newConstraint);
+		if (newConstraint instanceof Rectangle r) {
+			if (r.width == -1 || r.height == -1) {
+				preferredSizeChildren.add(figure);
+			} else {
+				preferredSizeChildren.remove(figure);
+			}
+		}
+	}
+
+	/**
+	 * Marks the given child to be laid out during the next layout.
+	 *
+	 * @see AbstractLayout#invalidate(IFigure)
+	 */
+	@Override
+	protected void invalidate(IFigure child) {
+		super.invalidate(child);
+		invalidChildren.add(child);
+	}
+
+	/**
+	 * @see LayoutManager#remove(IFigure)
+	 */
+	@Override
+	public void remove(IFigure figure) {
+		super.remove(figure);
+		invalidChildren.remove(figure);
+		preferredSizeChildren.remove(figure);
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -116,9 +116,9 @@ public class PointList implements java.io.Serializable, Translatable {
 		}
 		bounds = new Rectangle();
 		if (size > 0) {
-			bounds.setLocation(getPoint(0));
-			for (int i = 0; i < size; i++) {
-				bounds.union(getPoint(i));
+			bounds.setLocation(points[0], points[1]);
+			for (int i = 0; i < size * 2; i += 2) {
+				bounds.union(points[i], points[i + 1]);
 			}
 		}
 		return bounds;
@@ -224,24 +224,34 @@ public class PointList implements java.io.Serializable, Translatable {
 	 * @since 2.0
 	 */
 	public void insertPoint(Point p, int index) {
-		if (bounds != null && !bounds.contains(p)) {
+		insertPoint(p.x, p.y, index);
+	}
+
+	/**
+	 * Inserts the point (x, y) at a specified index. Unlike
+	 * {@link #insertPoint(Point, int)}, the internal array is only reallocated if
+	 * its capacity is exceeded.
+	 *
+	 * @param x     X value of the point to be inserted.
+	 * @param y     Y value of the point to be inserted.
+	 * @param index Position where the point is to be inserted.
+	 * @exception IndexOutOfBoundsException if the index is invalid
+	 * @since 3.18
+	 */
+	public void insertPoint(int x, int y, int index) {
+		if (bounds != null && !bounds.contains(x, y)) {
 			bounds = null;
 		}
-		if (index > size || index < 0)
-		 {
+		if (index > size || index < 0) {
 			throw new IndexOutOfBoundsException("Index: " + index + //$NON-NLS-1$
 					", Size: " + size); //$NON-NLS-1$
 		}
+		ensureCapacity(size + 1);
 		index *= 2;
+		System.arraycopy(points, index, points, index + 2, size * 2 - index);
 
-		int length = points.length;
-		int old[] = points;
-		points = new int[length + 2];
-		System.arraycopy(old, 0, points, 0, index);
-		System.arraycopy(old, index, points, index + 2, length - index);
-
-		points[index] = p.x;
-		points[index + 1] = p.y;
+		points[index] = x;
+		points[index + 1] = y;
 		size++;
 	}
 
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+/**
+ * A structure-of-arrays copy of the nodes and edges of a {@link DirectedGraph}.
+ * Nodes are identified by their index in the graph's node list. The outgoing and
+ * incoming edges of node <code>i</code> are stored in compressed sparse rows:
+ * they are the entries <code>outStart[i]</code> to
+ * <code>outStart[i + 1] - 1</code> of the <code>out</code> arrays, and likewise
+ * for the <code>in</code> arrays. Visitors can thereby walk the graph without
+ * dereferencing nodes, edges and their edge lists.
+ * <p>
+ * The copy does not follow changes of the graph. Results are written back to
+ * the graph by {@link #applyRanks()}. While the copy is in use, the first
+ * working int of each node holds its index.
+ *
+ * @since 3.18
+ */
+final class CompactGraph {
+
+	/**
+	 * The nodes of the graph, in the order of the graph's node list.
+	 */
+	final Node[] nodes;
+
+	/**
+	 * The first entry of each node's outgoing edges, followed by the number of
+	 * outgoing edges.
+	 */
+	final int[] outStart;
+
+	/**
+	 * The index of the target node of each outgoing edge.
+	 */
+	final int[] outTarget;
+
+	/**
+	 * The outgoing edges, by which visitors can flag them.
+	 */
+	final Edge[] outEdges;
+
+	/**
+	 * The first entry of each node's incoming edges, followed by the number of
+	 * incoming edges.
+	 */
+	final int[] inStart;
+
+	/**
+	 * The index of the source node of each incoming edge.
+	 */
+	final int[] inSource;
+
+	/**
+	 * The minimum rank difference of each incoming edge.
+	 */
+	final int[] inDelta;
+
+	/**
+	 * The rank of each node.
+	 */
+	final int[] ranks;
+
+	/**
+	 * Copies the nodes and edges of the given graph. All edges of the nodes must
+	 * connect nodes of the graph.
+	 *
+	 * @param graph the graph
+	 */
+	CompactGraph(DirectedGraph graph) {
+		int size = graph.nodes.size();
+		nodes = new Node[size];
+		outStart = new int[size + 1];
+		inStart = new int[size + 1];
+		ranks = new int[size];
+		for (int i = 0; i < size; i++) {
+			Node node = graph.nodes.get(i);
+			nodes[i] = node;
+			node.workingInts[0] = i;
+			outStart[i + 1] = outStart[i] + node.outgoing.size();
+			inStart[i + 1] = inStart[i] + node.incoming.size();
+			ranks[i] = node.rank;
+		}
+		outTarget = new int[outStart[size]];
+		outEdges = new Edge[outStart[size]];
+		inSource = new int[inStart[size]];
+		inDelta = new int[inStart[size]];
+		for (int i = 0; i < size; i++) {
+			Node node = nodes[i];
+			for (int j = 0; j < node.outgoing.size(); j++) {
+				Edge e = node.outgoing.get(j);
+				outTarget[outStart[i] + j] = e.target.workingInts[0];
+				outEdges[outStart[i] + j] = e;
+			}
+			for (int j = 0; j < node.incoming.size(); j++) {
+				Edge e = node.incoming.get(j);
+				inSource[inStart[i] + j] = e.source.workingInts[0];
+				inDelta[inStart[i] + j] = e.getDelta();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of nodes.
+	 *
+	 * @return the number of nodes
+	 */
+	int size() {
+		return nodes.length;
+	}
+
+	/**
+	 * Writes the ranks back to the nodes of the graph.
+	 */
+	void applyRanks() {
+		for (int i = 0; i < nodes.length; i++) {
+			nodes[i].rank = ranks[i];
+		}
+	}
+
+}
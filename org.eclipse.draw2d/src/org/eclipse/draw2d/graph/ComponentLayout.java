@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.draw2d.PositionConstants;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Insets;
+import org.eclipse.draw2d.geometry.PointList;
+
+/**
+ * Lays out the connected components of a graph independently of each other and
+ * places them side by side. Two nodes belong to the same component if they are
+ * connected by an edge, or if one of them is the parent subgraph of the other.
+ * The components are laid out in parallel on the common fork-join pool, each by
+ * its own layout. They are placed in the order of their first node in the
+ * graph's node list, so that the result does not depend on the order in which
+ * the layouts finish. Each rank of the graph holds the nodes of that rank of
+ * all components.
+ *
+ * @since 3.18
+ */
+class ComponentLayout {
+
+	private static class Component {
+		final DirectedGraph graph;
+		final NodeList nodes = new NodeList();
+		final EdgeList edges = new EdgeList();
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+
+		Component(DirectedGraph graph) {
+			this.graph = graph;
+		}
+
+		void layout(DirectedGraphLayout layout) {
+			graph.nodes.addAll(nodes);
+			graph.edges.addAll(edges);
+			layout.visit(graph);
+		}
+
+		/**
+		 * Computes the extent of the nodes and bend points along the axis in which
+		 * the components are placed next to each other.
+		 */
+		void computeExtent(boolean horizontal) {
+			for (Node node : nodes) {
+				include(horizontal ? node.x : node.y, horizontal ? node.width : node.height);
+			}
+			for (Edge edge : edges) {
+				PointList points = edge.getPoints();
+				for (int i = 0; points != null && i < points.size(); i++) {
+					include(horizontal ? points.getPoint(i).x : points.getPoint(i).y, 0);
+				}
+			}
+		}
+
+		private void include(int location, int length) {
+			min = Math.min(min, location);
+			max = Math.max(max, location + length);
+		}
+
+		void translate(int dx, int dy) {
+			for (Node node : nodes) {
+				translate(node, dx, dy);
+				if (node instanceof Subgraph s) {
+					// The boundaries added by the layout are members, too
+					for (Node member : s.members) {
+						if (member instanceof SubgraphBoundary) {
+							translate(member, dx, dy);
+						}
+					}
+				}
+			}
+			for (Edge edge : edges) {
+				PointList points = edge.getPoints();
+				if (points != null) {
+					points.translate(dx, dy);
+					// refreshes the end points copied from the points
+					edge.setPoints(points);
+				}
+				if (edge.vNodes != null) {
+					for (Node node : edge.vNodes) {
+						translate(node, dx, dy);
+					}
+				}
+			}
+		}
+
+		private static void translate(Node node, int dx, int dy) {
+			node.x += dx;
+			node.y += dy;
+		}
+	}
+
+	private final DirectedGraph graph;
+	private final Supplier<DirectedGraphLayout> layouts;
+
+	/**
+	 * @param graph   the graph to lay out
+	 * @param layouts creates the layout of each component
+	 */
+	ComponentLayout(DirectedGraph graph, Supplier<DirectedGraphLayout> layouts) {
+		this.graph = graph;
+		this.layouts = layouts;
+	}
+
+	private DirectedGraph createGraph() {
+		DirectedGraph result = graph instanceof CompoundDirectedGraph ? new CompoundDirectedGraph()
+				: new DirectedGraph();
+		result.setDirection(graph.getDirection());
+		result.setDefaultPadding(graph.getDefaultPadding());
+		result.setMargin(graph.getMargin());
+		result.tensorSize = graph.tensorSize;
+		result.tensorStrength = graph.tensorStrength;
+		return result;
+	}
+
+	private List<Component> findComponents() {
+		int size = graph.nodes.size();
+		int[] parents = new int[size];
+		for (int i = 0; i < size; i++) {
+			graph.nodes.get(i).workingInts[0] = i;
+			parents[i] = i;
+		}
+		for (Node node : graph.nodes) {
+			if (node.getParent() != null) {
+				union(parents, node.workingInts[0], node.getParent().workingInts[0]);
+			}
+		}
+		for (Edge edge : graph.edges) {
+			union(parents, edge.source.workingInts[0], edge.target.workingInts[0]);
+		}
+
+		Component[] roots = new Component[size];
+		List<Component> components = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			int root = find(parents, i);
+			if (roots[root] == null) {
+				roots[root] = new Component(createGraph());
+				components.add(roots[root]);
+			}
+			roots[root].nodes.add(graph.nodes.get(i));
+		}
+		for (Edge edge : graph.edges) {
+			roots[find(parents, edge.source.workingInts[0])].edges.add(edge);
+		}
+		return components;
+	}
+
+	private static int find(int[] parents, int i) {
+		while (parents[i] != i) {
+			parents[i] = parents[parents[i]];
+			i = parents[i];
+		}
+		return i;
+	}
+
+	private static void union(int[] parents, int i, int j) {
+		i = find(parents, i);
+		j = find(parents, j);
+		// The smaller index becomes the root, which keeps the roots in node order
+		if (i < j) {
+			parents[j] = i;
+		} else {
+			parents[i] = j;
+		}
+	}
+
+	/**
+	 * Lays out the graph if it consists of more than one component.
+	 *
+	 * @return <code>false</code> if the graph is connected and was not laid out
+	 */
+	boolean visit() {
+		List<Component> components = findComponents();
+		if (components.size() < 2) {
+			return false;
+		}
+		components.parallelStream().forEach(component -> component.layout(layouts.get()));
+
+		// Components are placed next to each other across the layout direction
+		boolean horizontal = graph.getDirection() == PositionConstants.SOUTH;
+		Insets padding = graph.getDefaultPadding();
+		int gap = horizontal ? padding.left + padding.right : padding.top + padding.bottom;
+		int trailing = horizontal ? padding.right + graph.getMargin().right
+				: padding.bottom + graph.getMargin().bottom;
+		int length = 0;
+		int breadth = 0;
+		int next = Integer.MIN_VALUE;
+		for (Component component : components) {
+			component.computeExtent(horizontal);
+			int offset = next == Integer.MIN_VALUE ? 0 : Math.max(0, next - component.min);
+			Dimension size = component.graph.size;
+			if (horizontal) {
+				component.translate(offset, 0);
+				breadth = Math.max(breadth, size.height);
+			} else {
+				component.translate(0, offset);
+				breadth = Math.max(breadth, size.width);
+			}
+			length = Math.max(length, component.max + offset + trailing);
+			next = component.max + offset + gap;
+		}
+		graph.size.width = horizontal ? length : breadth;
+		graph.size.height = horizontal ? breadth : length;
+		mergeRanks(components);
+		return true;
+	}
+
+	/**
+	 * Fills the ranks of the graph with the ranks of the components, in the order
+	 * of the components, so that the rank of every node is an index into them.
+	 */
+	private void mergeRanks(List<Component> components) {
+		graph.ranks = new RankList();
+		for (Component component : components) {
+			RankList ranks = component.graph.ranks;
+			for (int i = 0; i < ranks.size(); i++) {
+				graph.ranks.getRank(i).addAll(ranks.getRank(i));
+			}
+		}
+	}
+
+}
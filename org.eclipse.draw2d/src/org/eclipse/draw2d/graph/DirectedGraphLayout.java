@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2023 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -73,6 +73,8 @@ import java.util.Deque;
 public class DirectedGraphLayout {
 
 	Deque<GraphVisitor> steps = new ArrayDeque<>();
+	private boolean incremental;
+	private boolean parallel;
 
 	/**
 	 * @since 3.1
@@ -95,6 +97,57 @@ public class DirectedGraphLayout {
 		steps.add(new HorizontalPlacement());
 	}
 
+	/**
+	 * Sets whether ranks are assigned by a network simplex which updates cut
+	 * values incrementally after each pivot. Its cost per pivot depends on the
+	 * size of the affected sub-tree rather than on the size of the graph, which
+	 * makes it the better choice for graphs with thousands of nodes. It is not
+	 * used by default. Both solvers minimize the total weighted length of the
+	 * edges, but may pick different ranks if several assignments are optimal.
+	 *
+	 * @param incremental <code>true</code> to use the incremental solver
+	 * @since 3.18
+	 */
+	public void setIncrementalRankAssignment(boolean incremental) {
+		this.incremental = incremental;
+		Deque<GraphVisitor> replaced = new ArrayDeque<>(steps.size());
+		for (GraphVisitor step : steps) {
+			if (step instanceof RankAssignmentSolver) {
+				step = incremental ? new NetworkSimplexRankSolver() : new RankAssignmentSolver();
+			}
+			replaced.add(step);
+		}
+		steps = replaced;
+	}
+
+	/**
+	 * Sets whether the connected components of a graph are laid out separately
+	 * and in parallel on the common fork-join pool. The components are then
+	 * placed side by side, across the layout direction, in the order of their
+	 * first node in the graph's node list. For a {@link CompoundDirectedGraph},
+	 * a subgraph and its members always belong to the same component. The result
+	 * is the same for every invocation, no matter in which order the components
+	 * are finished. Unlike the sequential layout, the ranks of different
+	 * components are not aligned with each other. Each rank of the graph holds
+	 * the nodes of that rank of all components, in the order of the components,
+	 * so that {@link DirectedGraph#getNode(int, int)} can be used as after a
+	 * sequential layout. It is not used by default.
+	 *
+	 * @param parallel <code>true</code> to lay out the components in parallel
+	 * @since 3.18
+	 */
+	public void setParallelComponentLayout(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Creates the layout which is used for a single component, if components are
+	 * laid out in parallel.
+	 */
+	DirectedGraphLayout createComponentLayout() {
+		return new DirectedGraphLayout();
+	}
+
 	/**
 	 * Lays out the given graph
 	 *
@@ -104,6 +157,13 @@ public class DirectedGraphLayout {
 		if (graph.nodes.isEmpty()) {
 			return;
 		}
+		if (parallel && new ComponentLayout(graph, () -> {
+			DirectedGraphLayout layout = createComponentLayout();
+			layout.setIncrementalRankAssignment(incremental);
+			return layout;
+		}).visit()) {
+			return;
+		}
 		steps.iterator().forEachRemaining(visitor -> visitor.visit(graph));
 		steps.descendingIterator().forEachRemaining(visitor -> visitor.revisit(graph));
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2023 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -61,7 +61,11 @@ public class EdgeList extends ArrayList<Edge> {
 	 * @return the minimum slack for this edge list
 	 */
 	public int getSlack() {
-		return stream().mapToInt(Edge::getSlack).min().orElse(Integer.MAX_VALUE);
+		int slack = Integer.MAX_VALUE;
+		for (int i = 0; i < size(); i++) {
+			slack = Math.min(slack, get(i).getSlack());
+		}
+		return slack;
 	}
 
 	/**
@@ -70,7 +74,11 @@ public class EdgeList extends ArrayList<Edge> {
 	 * @return the total weight of all edges
 	 */
 	public int getWeight() {
-		return stream().mapToInt(e -> e.weight).sum();
+		int weight = 0;
+		for (int i = 0; i < size(); i++) {
+			weight += get(i).weight;
+		}
+		return weight;
 	}
 
 	/**
@@ -79,7 +87,12 @@ public class EdgeList extends ArrayList<Edge> {
 	 * @return <code>true</code> if completely flagged
 	 */
 	public boolean isCompletelyFlagged() {
-		return stream().allMatch(e -> e.flag);
+		for (int i = 0; i < size(); i++) {
+			if (!get(i).flag) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -88,12 +101,13 @@ public class EdgeList extends ArrayList<Edge> {
 	 * @param resetTree internal
 	 */
 	public void resetFlags(boolean resetTree) {
-		forEach(e -> {
+		for (int i = 0; i < size(); i++) {
+			Edge e = get(i);
 			e.flag = false;
 			if (resetTree) {
 				e.tree = false;
 			}
-		});
+		}
 	}
 
 	/**
@@ -102,7 +116,9 @@ public class EdgeList extends ArrayList<Edge> {
 	 * @param value value
 	 */
 	public void setFlags(boolean value) {
-		forEach(e -> e.flag = value);
+		for (int i = 0; i < size(); i++) {
+			get(i).flag = value;
+		}
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2023 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -128,7 +128,7 @@ class HorizontalPlacement extends SpanningTreeVisitor {
 		}
 	}
 
-	static int step;
+	int step;
 	private List<NodeCluster> allClusters;
 	private final Map<Node, NodeCluster> clusterMap = new HashMap<>();
 	ClusterSet clusterset = new ClusterSet();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2023 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,11 +12,6 @@
  *******************************************************************************/
 package org.eclipse.draw2d.graph;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.List;
-
 /**
  * Assigns a valid rank assignment to all nodes based on their edges. The
  * assignment is not optimal in that it does not provide the minimum global
@@ -39,81 +34,94 @@ class InitialRankSolver extends GraphVisitor {
 		solve();
 	}
 
+	/**
+	 * Ranks the nodes in topological order, on a {@link CompactGraph} of the
+	 * graph. Each node counts its incoming edges whose source has not been ranked
+	 * yet, and is ranked once that count drops to zero. This visits every node
+	 * and edge once.
+	 */
 	protected void solve() {
 		if (graph.nodes.isEmpty()) {
 			return;
 		}
-		NodeList unranked = new NodeList(graph.nodes);
-		NodeList rankMe = new NodeList();
-		while (!unranked.isEmpty()) {
-			rankMe.clear();
-			for (int i = 0; i < unranked.size();) {
-				Node node = unranked.get(i);
-				if (node.incoming.isCompletelyFlagged()) {
-					rankMe.add(node);
-					unranked.remove(i);
-				} else {
-					i++;
-				}
+		CompactGraph compact = new CompactGraph(graph);
+		int size = compact.size();
+		int[] unranked = new int[size];
+		int[] ready = new int[size];
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			unranked[i] = compact.inStart[i + 1] - compact.inStart[i];
+			if (unranked[i] == 0) {
+				ready[count++] = i;
 			}
-			if (rankMe.isEmpty()) {
-				throw new RuntimeException("Cycle detected in graph"); //$NON-NLS-1$
+		}
+		for (int i = 0; i < count; i++) {
+			int node = ready[i];
+			int rank = 0;
+			for (int j = compact.inStart[node]; j < compact.inStart[node + 1]; j++) {
+				rank = Math.max(rank, compact.inDelta[j] + compact.ranks[compact.inSource[j]]);
 			}
-			for (Node node : rankMe) {
-				assignMinimumRank(node);
-				node.outgoing.setFlags(true);
+			compact.ranks[node] = rank;
+			for (int j = compact.outStart[node]; j < compact.outStart[node + 1]; j++) {
+				compact.outEdges[j].flag = true;
+				int target = compact.outTarget[j];
+				if (--unranked[target] == 0) {
+					ready[count++] = target;
+				}
 			}
 		}
+		if (count < size) {
+			throw new RuntimeException("Cycle detected in graph"); //$NON-NLS-1$
+		}
+		compact.applyRanks();
 
-		connectForest();
+		connectForest(compact);
 	}
 
-	private void connectForest() {
-		List<NodeList> forest = new ArrayList<>();
-		Deque<Node> stack = new ArrayDeque<>();
-		graph.nodes.resetFlags();
-		for (Node n : graph.nodes) {
-			if (n.flag) {
+	/**
+	 * Connects the trees of the graph by edges from a common root, which are
+	 * added to the graph. Each tree is connected at its first node.
+	 */
+	private void connectForest(CompactGraph compact) {
+		int size = compact.size();
+		boolean[] visited = new boolean[size];
+		int[] stack = new int[compact.outTarget.length + compact.inSource.length + 1];
+		int[] roots = new int[size];
+		int trees = 0;
+		for (int i = 0; i < size; i++) {
+			if (visited[i]) {
 				continue;
 			}
-			NodeList tree = new NodeList();
-			stack.push(n);
-			while (!stack.isEmpty()) {
-				n = stack.pop();
-				n.flag = true;
-				tree.add(n);
-				for (Edge e : n.incoming) {
-					Node neighbor = e.source;
-					if (!neighbor.flag) {
-						stack.push(neighbor);
+			roots[trees++] = i;
+			int top = 0;
+			stack[top++] = i;
+			while (top > 0) {
+				int node = stack[--top];
+				if (visited[node]) {
+					continue;
+				}
+				visited[node] = true;
+				for (int j = compact.inStart[node]; j < compact.inStart[node + 1]; j++) {
+					if (!visited[compact.inSource[j]]) {
+						stack[top++] = compact.inSource[j];
 					}
 				}
-				for (Edge e : n.outgoing) {
-					Node neighbor = e.target;
-					if (!neighbor.flag) {
-						stack.push(neighbor);
+				for (int j = compact.outStart[node]; j < compact.outStart[node + 1]; j++) {
+					if (!visited[compact.outTarget[j]]) {
+						stack[top++] = compact.outTarget[j];
 					}
 				}
 			}
-			forest.add(tree);
 		}
 
-		if (forest.size() > 1) {
+		if (trees > 1) {
 			// connect the forest
 			graph.forestRoot = new Node("the forest root"); //$NON-NLS-1$
 			graph.nodes.add(graph.forestRoot);
-			for (NodeList tree : forest) {
-				graph.edges.add(new Edge(graph.forestRoot, tree.get(0), 0, 0));
+			for (int i = 0; i < trees; i++) {
+				graph.edges.add(new Edge(graph.forestRoot, compact.nodes[roots[i]], 0, 0));
 			}
 		}
 	}
 
-	private static void assignMinimumRank(Node node) {
-		int rank = 0;
-		for (Edge e : node.incoming) {
-			rank = Math.max(rank, e.getDelta() + e.source.rank);
-		}
-		node.rank = rank;
-	}
-
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2010 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,6 +14,13 @@ package org.eclipse.draw2d.graph;
 
 /**
  * Sweeps up and down the ranks rearranging them so as to reduce edge crossings.
+ * The crossings are counted after each pair of sweeps, and the ordering with
+ * the fewest crossings is kept. The sweeps stop early once there are no
+ * crossings left, or once {@link #PATIENCE} pairs of sweeps in a row did not
+ * reduce the crossings of that ordering by more than 0.5 percent. If that
+ * happens before the {@link #FINAL_PHASE}, in which the {@link RankSorter}
+ * sorts by the median instead of the barycenter, the sweeps continue with the
+ * final phase, so that it is never skipped.
  *
  * @author Randy Hudson
  * @since 2.1.2
@@ -21,6 +28,9 @@ package org.eclipse.draw2d.graph;
 class MinCross extends GraphVisitor {
 
 	static final int MAX = 45;
+	static final int PATIENCE = 8;
+	static final double CONVERGENCE = 0.995;
+	static final int FINAL_PHASE = (int) Math.ceil(0.8 * MAX);
 
 	private DirectedGraph g;
 	private RankSorter sorter = new RankSorter();
@@ -39,19 +49,51 @@ class MinCross extends GraphVisitor {
 		this.sorter = sorter;
 	}
 
+	private Node[][] getOrder() {
+		Node[][] order = new Node[g.ranks.size()][];
+		for (int row = 0; row < order.length; row++) {
+			order[row] = g.ranks.getRank(row).toArray(new Node[0]);
+		}
+		return order;
+	}
+
 	void solve() {
 		Rank rank;
-		for (int loop = 0; loop < MAX; loop++) {
+		int fewest = GraphUtilities.numberOfCrossingsInGraph(g);
+		Node[][] best = getOrder();
+		boolean isBest = true;
+		int unchanged = 0;
+		for (int loop = 0; loop < MAX && fewest > 0 && unchanged < PATIENCE; loop++) {
 			for (int row = 1; row < g.ranks.size(); row++) {
 				rank = g.ranks.getRank(row);
 				sorter.sortRankIncoming(g, rank, row, (double) loop / MAX);
 			}
-			if (loop == MAX - 1) {
-				continue;
+			if (loop < MAX - 1) {
+				for (int row = g.ranks.size() - 2; row >= 0; row--) {
+					rank = g.ranks.getRank(row);
+					sorter.sortRankOutgoing(g, rank, row, (double) loop / MAX);
+				}
 			}
-			for (int row = g.ranks.size() - 2; row >= 0; row--) {
-				rank = g.ranks.getRank(row);
-				sorter.sortRankOutgoing(g, rank, row, (double) loop / MAX);
+
+			int crossings = GraphUtilities.numberOfCrossingsInGraph(g);
+			isBest = crossings <= fewest;
+			if (crossings < CONVERGENCE * fewest) {
+				unchanged = 0;
+			} else {
+				unchanged++;
+			}
+			if (crossings < fewest) {
+				fewest = crossings;
+				best = getOrder();
+			}
+			if (unchanged == PATIENCE && loop + 1 < FINAL_PHASE) {
+				loop = FINAL_PHASE - 1;
+				unchanged = 0;
+			}
+		}
+		if (!isBest) {
+			for (int row = 0; row < best.length; row++) {
+				sorter.reorderRank(g.ranks.getRank(row), row, best[row]);
 			}
 		}
 	}
@@ -0,0 +1,275 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+/**
+ * A network simplex rank assignment in the style of Gansner et al. Nodes are
+ * numbered in postorder so that every sub-tree occupies the contiguous range
+ * [min, max] of that numbering. Sub-tree membership is therefore a constant time
+ * test, and the entering edge is searched among the nodes of the cut sub-tree
+ * only. After each pivot, cut values are updated along the tree path between
+ * the endpoints of the entering edge, and only the sub-tree below their common
+ * ancestor is renumbered. Leaving edges are searched cyclically, so that
+ * consecutive searches continue where the previous one stopped.
+ *
+ * @since 3.18
+ */
+class NetworkSimplexRankSolver extends RankAssignmentSolver {
+
+	/**
+	 * The number of negative cut values which are compared before a leaving edge
+	 * is chosen.
+	 */
+	private static final int SEARCH_SIZE = 30;
+
+	/**
+	 * Bounds the number of pivots, which may be large for graphs with many long
+	 * edges, to this many per node.
+	 */
+	private static final int PIVOTS_PER_NODE = 10;
+
+	private Node[] postorder;
+	private Node[] numbering;
+	private Node[] stack;
+	private int[] cursor;
+	private int searchIndex;
+
+	/**
+	 * Returns the edge entering the spanning tree in place of the parent edge
+	 * of <code>branch</code>, looking only at the nodes of its sub-tree.
+	 */
+	@Override
+	Edge enter(Node branch) {
+		boolean incoming = getParentEdge(branch).target != branch;
+		int min = getTreeMin(branch);
+		int max = getTreeMax(branch);
+		if (isLarger(branch)) {
+			// Search the other side of the cut, which has fewer nodes
+			Edge result = enter(branch, 0, min - 1, !incoming, null);
+			if (result == null || result.getSlack() > 0) {
+				result = enter(branch, max + 1, postorder.length - 1, !incoming, result);
+			}
+			return result;
+		}
+		return enter(branch, min, max, incoming, null);
+	}
+
+	private Edge enter(Node branch, int from, int to, boolean incoming, Edge result) {
+		int minSlack = result == null ? Integer.MAX_VALUE : result.getSlack();
+		for (int i = from; i <= to; i++) {
+			Node n = postorder[i];
+			EdgeList edges = incoming ? n.incoming : n.outgoing;
+			for (Edge e : edges) {
+				if (!e.tree && e.getSlack() < minSlack
+						&& subtreeContains(branch, n) != subtreeContains(branch, e.opposite(n))) {
+					result = e;
+					minSlack = e.getSlack();
+					if (minSlack == 0) {
+						return result;
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	void initCutValues() {
+		int size = graph.nodes.size();
+		postorder = new Node[size];
+		numbering = new Node[size];
+		stack = new Node[size];
+		cursor = new int[size];
+		searchIndex = 0;
+		for (Node n : graph.nodes) {
+			n.flag = true;
+		}
+		updateMinMax(graph.nodes.get(0), 0);
+		for (Node n : postorder) {
+			Edge parent = getParentEdge(n);
+			if (parent != null) {
+				parent.cut = cutValue(parent);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the sub-tree of <code>node</code> contains more than half
+	 * of the nodes.
+	 */
+	private boolean isLarger(Node node) {
+		return 2 * (getTreeMax(node) - getTreeMin(node) + 1) > postorder.length;
+	}
+
+	@Override
+	Edge leave() {
+		int size = graph.nodes.size();
+		Edge result = null;
+		int found = 0;
+		for (int i = 0; i < size && found < SEARCH_SIZE; i++) {
+			Edge e = getParentEdge(graph.nodes.get(searchIndex));
+			searchIndex = (searchIndex + 1) % size;
+			if (e != null && e.cut < 0) {
+				found++;
+				if (result == null || e.cut < result.cut || (e.cut == result.cut && e.weight > result.weight)) {
+					result = e;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Moves the unchanged sub-tree of <code>node</code> to the numbers starting
+	 * at <code>count</code>.
+	 *
+	 * @return the next number
+	 */
+	private int move(Node node, int count) {
+		int min = getTreeMin(node);
+		int max = getTreeMax(node);
+		int offset = count - min;
+		for (int i = min; i <= max; i++) {
+			Node n = postorder[i];
+			setTreeMin(n, getTreeMin(n) + offset);
+			setTreeMax(n, getTreeMax(n) + offset);
+			numbering[i + offset] = n;
+		}
+		return max + offset + 1;
+	}
+
+	@Override
+	void networkSimplexLoop() {
+		int limit = Math.max(900, PIVOTS_PER_NODE * graph.nodes.size());
+		Edge leave;
+		for (int count = 0; count < limit && (leave = leave()) != null; count++) {
+			Node branch = getTreeTail(leave);
+			Edge enter = enter(branch);
+			if (enter == null) {
+				break;
+			}
+
+			// Move the smaller side of the cut so that the entering edge is tight
+			int delta = enter.getSlack();
+			if (delta != 0) {
+				if (leave.source == branch) {
+					delta = -delta;
+				}
+				int min = getTreeMin(branch);
+				int max = getTreeMax(branch);
+				if (isLarger(branch)) {
+					for (int i = 0; i < postorder.length; i++) {
+						if (i < min || i > max) {
+							postorder[i].rank -= delta;
+						}
+					}
+				} else {
+					for (int i = min; i <= max; i++) {
+						postorder[i].rank += delta;
+					}
+				}
+			}
+
+			int cutvalue = leave.cut;
+			Node commonAncestor = updatePath(enter.source, enter.target, cutvalue, true);
+			updatePath(enter.target, enter.source, cutvalue, false);
+			enter.cut = -cutvalue;
+			leave.cut = 0;
+			leave.tree = false;
+			enter.tree = true;
+			updateMinMax(commonAncestor, getTreeMin(commonAncestor));
+		}
+	}
+
+	/**
+	 * Adds the cut value of the leaving edge to the tree edges on the path from
+	 * <code>node</code> up to the first ancestor containing <code>end</code>,
+	 * with a sign depending on the orientation of each edge.
+	 *
+	 * @return the common ancestor
+	 */
+	private Node updatePath(Node node, Node end, int cutvalue, boolean forward) {
+		while (!subtreeContains(node, end)) {
+			node.flag = true;
+			Edge e = getParentEdge(node);
+			if ((node == e.source) == forward) {
+				e.cut += cutvalue;
+			} else {
+				e.cut -= cutvalue;
+			}
+			node = getTreeParent(node);
+		}
+		node.flag = true;
+		return node;
+	}
+
+	/**
+	 * Renumbers the sub-tree of <code>root</code> in postorder, starting at
+	 * <code>count</code>, and rebuilds the parent edges and children from the
+	 * tree flags of the edges. The parent edge of <code>root</code> is kept.
+	 * Only the nodes on the path of the last pivot are flagged, as no other node
+	 * changes its parent edge or children. The sub-tree of an unflagged node is
+	 * moved as a whole.
+	 */
+	@Override
+	int updateMinMax(Node root, int count) {
+		int start = count;
+		int depth = 0;
+		stack[0] = root;
+		cursor[0] = 0;
+		updateChildren(root);
+		setTreeMin(root, count);
+		while (depth >= 0) {
+			Node n = stack[depth];
+			EdgeList children = getSpanningTreeChildren(n);
+			if (cursor[depth] < children.size()) {
+				Node child = children.get(cursor[depth]++).opposite(n);
+				if (child.flag) {
+					depth++;
+					stack[depth] = child;
+					cursor[depth] = 0;
+					updateChildren(child);
+					setTreeMin(child, count);
+				} else {
+					count = move(child, count);
+				}
+			} else {
+				setTreeMax(n, count);
+				numbering[count++] = n;
+				depth--;
+			}
+		}
+		System.arraycopy(numbering, start, postorder, start, count - start);
+		return count;
+	}
+
+	private void updateChildren(Node node) {
+		node.flag = false;
+		EdgeList children = getSpanningTreeChildren(node);
+		children.clear();
+		Edge parent = getParentEdge(node);
+		for (Edge e : node.outgoing) {
+			if (e.tree && e != parent) {
+				setParentEdge(e.target, e);
+				children.add(e);
+			}
+		}
+		for (Edge e : node.incoming) {
+			if (e.tree && e != parent) {
+				setParentEdge(e.source, e);
+				children.add(e);
+			}
+		}
+	}
+
+}
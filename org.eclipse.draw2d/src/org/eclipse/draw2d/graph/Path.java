@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2023 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -53,9 +53,7 @@ public class Path {
 
 	}
 
-	private static final Point CURRENT = new Point();
 	private static final double EPSILON = 1.04;
-	private static final Point NEXT = new Point();
 	private static final double OVAL_CONSTANT = 1.13;
 
 	/**
@@ -849,13 +847,15 @@ public class Path {
 
 		Segment seg1 = new Segment(obs.topLeft, obs.bottomRight);
 		Segment seg2 = new Segment(obs.topRight, obs.bottomLeft);
+		Point current = new Point();
+		Point next = new Point();
 
 		for (int s = 0; s < points.size() - 1; s++) {
-			points.getPoint(CURRENT, s);
-			points.getPoint(NEXT, s + 1);
+			points.getPoint(current, s);
+			points.getPoint(next, s + 1);
 
-			if (seg1.intersects(CURRENT, NEXT) || seg2.intersects(CURRENT, NEXT) || obs.contains(CURRENT)
-					|| obs.contains(NEXT)) {
+			if (seg1.intersects(current, next) || seg2.intersects(current, next) || obs.contains(current)
+					|| obs.contains(next)) {
 				isDirty = true;
 				return true;
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2023 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -28,6 +28,35 @@ class RankAssignmentSolver extends SpanningTreeVisitor {
 	EdgeList spanningTree;
 	boolean searchDirection;
 
+	/**
+	 * Computes the cut value of the given tree edge from the edges incident to
+	 * its tree tail and the cut values of that node's other tree edges.
+	 *
+	 * @param edge a tree edge
+	 * @return the cut value
+	 */
+	int cutValue(Edge edge) {
+		Node n = getTreeTail(edge);
+		int cutvalue = 0;
+		int multiplier = (edge.target == n) ? 1 : -1;
+
+		for (Edge e : n.outgoing) {
+			if (e.tree && e != edge) {
+				cutvalue += (e.cut - e.weight) * multiplier;
+			} else {
+				cutvalue -= e.weight * multiplier;
+			}
+		}
+		for (Edge e : n.incoming) {
+			if (e.tree && e != edge) {
+				cutvalue -= (e.cut - e.weight) * multiplier;
+			} else {
+				cutvalue += e.weight * multiplier;
+			}
+		}
+		return cutvalue;
+	}
+
 	int depthFirstCutValue(Edge edge, int count) {
 		Node n = getTreeTail(edge);
 		setTreeMin(n, count);
@@ -198,27 +227,8 @@ class RankAssignmentSolver extends SpanningTreeVisitor {
 
 	void repairCutValues(Edge edge) {
 		spanningTree.remove(edge);
-		Node n = getTreeTail(edge);
-		int cutvalue = 0;
-		int multiplier = (edge.target == n) ? 1 : -1;
-
-		for (Edge e : n.outgoing) {
-			if (e.tree && e != edge) {
-				cutvalue += (e.cut - e.weight) * multiplier;
-			} else {
-				cutvalue -= e.weight * multiplier;
-			}
-		}
-		for (Edge e : n.incoming) {
-			if (e.tree && e != edge) {
-				cutvalue -= (e.cut - e.weight) * multiplier;
-			} else {
-				cutvalue += e.weight * multiplier;
-			}
-		}
-
-		edge.cut = cutvalue;
-		if (cutvalue < 0) {
+		edge.cut = cutValue(edge);
+		if (edge.cut < 0) {
 			spanningTree.add(edge);
 		}
 	}
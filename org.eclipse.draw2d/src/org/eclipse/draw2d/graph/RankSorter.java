@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2023 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -171,6 +171,18 @@ class RankSorter {
 		rank.assignIndices();
 	}
 
+	/**
+	 * Puts the nodes of the given rank into the given order, as if it had been
+	 * sorted.
+	 */
+	void reorderRank(Rank rank, int row, Node[] order) {
+		this.currentRow = row;
+		this.rank = rank;
+		rank.clear();
+		Collections.addAll(rank, order);
+		postSort();
+	}
+
 	void sort() {
 		boolean change;
 		do {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2010 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -55,7 +55,7 @@ class VirtualNodeCreation extends RevertableChange {
 		Subgraph s = GraphUtilities.getCommonAncestor(edge.source, edge.target);
 
 		for (int i = 0; i < size; i++) {
-			nodes[i] = currentNode = new VirtualNode("Virtual" + i + ':' + edge, s); //$NON-NLS-1$
+			nodes[i] = currentNode = new VirtualNode(edge, s);
 			currentNode.width = edge.getWidth();
 			if (s != null) {
 				currentNode.nestingIndex = s.nestingIndex;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -46,7 +46,7 @@ public class FlowUtilities {
 	private static final BreakIterator INTERNAL_LINE_BREAK = getLineInstance();
 	private static TextLayout layout;
 
-	static final BreakIterator LINE_BREAK = getLineInstance();
+	private static final BreakIterator LINE_BREAK = getLineInstance();
 
 	/**
 	 * Creates a new {@link BreakIterator} instance for {@code line breaks} using
@@ -56,25 +56,53 @@ public class FlowUtilities {
 	 *
 	 * @return A break iterator for line breaks
 	 */
-	private static BreakIterator getLineInstance() {
+	static BreakIterator getLineInstance() {
 		return ServiceLoader.load(BreakIteratorProvider.class) //
 				.findFirst() //
 				.map(provider -> provider.getLineInstance(Locale.getDefault())) //
 				.orElseGet(BreakIterator::getLineInstance);
 	}
 
-	static boolean canBreakAfter(char c) {
+	boolean canBreakAfter(char c) {
 		boolean result = Character.isWhitespace(c) || c == '-';
 		if (!result && (c < 'a' || c > 'z')) {
 			// chinese characters and such would be caught in here
-			// LINE_BREAK is used here because INTERNAL_LINE_BREAK might be in
-			// use
-			LINE_BREAK.setText(c + "a"); //$NON-NLS-1$
-			result = LINE_BREAK.isBoundary(1);
+			// the look ahead iterator is used here because the line break
+			// iterator might be in use
+			BreakIterator lineBreak = getLookAheadBreakIterator();
+			lineBreak.setText(c + "a"); //$NON-NLS-1$
+			result = lineBreak.isBoundary(1);
 		}
 		return result;
 	}
 
+	/**
+	 * Returns the line break iterator on which fragments are wrapped. By default,
+	 * the iterator is shared by all instances, so that text flows must not be
+	 * laid out on several threads at the same time. Subclasses may return an
+	 * iterator per thread instead.
+	 *
+	 * @return the line break iterator
+	 * @since 3.18
+	 */
+	@SuppressWarnings("static-method")
+	protected BreakIterator getLineBreakIterator() {
+		return INTERNAL_LINE_BREAK;
+	}
+
+	/**
+	 * Returns the line break iterator on which the breaks next to a fragment are
+	 * found, while the iterator returned by {@link #getLineBreakIterator()} is in
+	 * use. By default, the iterator is shared by all instances.
+	 *
+	 * @return the line break iterator for looking ahead
+	 * @since 3.18
+	 */
+	@SuppressWarnings("static-method")
+	protected BreakIterator getLookAheadBreakIterator() {
+		return LINE_BREAK;
+	}
+
 	private static int findFirstDelimeter(String string) {
 		int macNL = string.indexOf('\r');
 		int unixNL = string.indexOf('\n');
@@ -226,7 +254,8 @@ public class FlowUtilities {
 			return 0;
 		}
 
-		INTERNAL_LINE_BREAK.setText(string);
+		BreakIterator lineBreak = getLineBreakIterator();
+		lineBreak.setText(string);
 
 		initBidi(frag, string, font);
 		float avgCharWidth = getAverageCharWidth(frag, font);
@@ -238,7 +267,7 @@ public class FlowUtilities {
 		int absoluteMin = 0;
 		int max, min = 1;
 		if (wrapping == ParagraphTextLayout.WORD_WRAP_HARD) {
-			absoluteMin = INTERNAL_LINE_BREAK.next();
+			absoluteMin = lineBreak.next();
 			while (absoluteMin > 0 && Character.isWhitespace(string.charAt(absoluteMin - 1))) {
 				absoluteMin--;
 			}
@@ -330,7 +359,7 @@ public class FlowUtilities {
 				result++;
 			}
 		} else if (string.charAt(min) == ' ' || canBreakAfter(string.charAt(min - 1))
-				|| INTERNAL_LINE_BREAK.isBoundary(min)) {
+				|| lineBreak.isBoundary(min)) {
 			frag.length = min;
 			if (string.charAt(min) == ' ') {
 				result++;
@@ -341,7 +370,7 @@ public class FlowUtilities {
 		} else {
 			out: {
 				// In the middle of an unbreakable offset
-				result = INTERNAL_LINE_BREAK.preceding(min);
+				result = lineBreak.preceding(min);
 				if (result == 0) {
 					switch (wrapping) {
 					case ParagraphTextLayout.WORD_WRAP_TRUNCATE:
@@ -361,7 +390,7 @@ public class FlowUtilities {
 							frag.length = 0;
 						}
 						frag.setTruncated(true);
-						result = INTERNAL_LINE_BREAK.following(max - 1);
+						result = lineBreak.following(max - 1);
 						break out;
 
 					default:
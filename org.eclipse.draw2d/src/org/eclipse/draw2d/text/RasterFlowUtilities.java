@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.text;
+
+import java.text.BreakIterator;
+
+import org.eclipse.swt.graphics.Font;
+
+import org.eclipse.draw2d.RasterTextUtilities;
+import org.eclipse.draw2d.TextUtilities;
+
+/**
+ * FlowUtilities which measure text with {@link RasterTextUtilities}, so that
+ * text flows can be laid out for a {@link org.eclipse.draw2d.RasterGraphics}
+ * without a display. A TextFlow uses them if it overrides
+ * {@link TextFlow#getFlowUtilities()} and {@link TextFlow#getTextUtilities()}.
+ * <p>
+ * Each thread uses its own line break iterators, so that text flows can be laid
+ * out on several threads at the same time. Bidirectional text still needs a
+ * display, as its levels are computed by an SWT TextLayout.
+ *
+ * @since 3.18
+ */
+public class RasterFlowUtilities extends FlowUtilities {
+
+	/**
+	 * a singleton default instance
+	 */
+	public static final RasterFlowUtilities INSTANCE = new RasterFlowUtilities();
+
+	private static final ThreadLocal<BreakIterator> LINE_BREAK = ThreadLocal
+			.withInitial(FlowUtilities::getLineInstance);
+
+	private static final ThreadLocal<BreakIterator> LOOK_AHEAD_BREAK = ThreadLocal
+			.withInitial(FlowUtilities::getLineInstance);
+
+	/**
+	 * @see FlowUtilities#getAverageCharWidth(TextFragmentBox, Font)
+	 */
+	@Override
+	protected float getAverageCharWidth(TextFragmentBox fragment, Font font) {
+		if (fragment.getWidth() > 0 && fragment.length != 0) {
+			return fragment.getWidth() / (float) fragment.length;
+		}
+		return (float) RasterTextUtilities.INSTANCE.getAverageCharacterWidth(font);
+	}
+
+	/**
+	 * @see FlowUtilities#getLineBreakIterator()
+	 */
+	@Override
+	protected BreakIterator getLineBreakIterator() {
+		return LINE_BREAK.get();
+	}
+
+	/**
+	 * @see FlowUtilities#getLookAheadBreakIterator()
+	 */
+	@Override
+	protected BreakIterator getLookAheadBreakIterator() {
+		return LOOK_AHEAD_BREAK.get();
+	}
+
+	/**
+	 * @see FlowUtilities#getTextUtilities()
+	 */
+	@Override
+	protected TextUtilities getTextUtilities() {
+		return RasterTextUtilities.INSTANCE;
+	}
+
+}
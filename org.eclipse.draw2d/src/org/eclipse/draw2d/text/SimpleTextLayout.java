@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -26,8 +26,8 @@ public class SimpleTextLayout extends TextLayout {
 			"\n", //$NON-NLS-1$
 			"\r" };//$NON-NLS-1$
 
-	private static int result;
-	private static int delimeterLength;
+	private int result;
+	private int delimeterLength;
 
 	/**
 	 * Creates a new SimpleTextLayout with the given TextFlow
@@ -72,7 +72,7 @@ public class SimpleTextLayout extends TextLayout {
 		}
 	}
 
-	private static int nextLineBreak(String text, int offset) {
+	private int nextLineBreak(String text, int offset) {
 		result = text.length();
 		delimeterLength = 0;
 		int current;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.draw2d.text;
 
+import java.text.BreakIterator;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
@@ -91,8 +92,9 @@ public class TextFlow extends InlineFlow {
 		}
 
 		text = 'a' + text + 'a';
-		FlowUtilities.LINE_BREAK.setText(text);
-		int index = FlowUtilities.LINE_BREAK.next() - 1;
+		BreakIterator lineBreak = getFlowUtilities().getLookAheadBreakIterator();
+		lineBreak.setText(text);
+		int index = lineBreak.next() - 1;
 		if (index == 0) {
 			return true;
 		}
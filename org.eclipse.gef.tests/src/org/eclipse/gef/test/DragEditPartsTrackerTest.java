@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2010 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -30,6 +30,7 @@ import org.eclipse.draw2d.IFigure;
 
 import org.eclipse.gef.DefaultEditDomain;
 import org.eclipse.gef.EditPart;
+import org.eclipse.gef.commands.Command;
 import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
 import org.eclipse.gef.tools.DragEditPartsTracker;
 
@@ -177,6 +178,56 @@ public class DragEditPartsTrackerTest extends Assert {
 		}
 	}
 
+	/**
+	 * A tracker which counts the created commands, with the targeting and the
+	 * feedback replaced, so that it can be updated without a viewer.
+	 */
+	private class CountingDragEditPartsTracker extends DragEditPartsTracker {
+
+		EditPart target;
+		Command command;
+		int commandRequests;
+
+		public CountingDragEditPartsTracker(EditPart sourceEditPart) {
+			super(sourceEditPart);
+		}
+
+		@Override
+		protected Command getCommand() {
+			commandRequests++;
+			return command;
+		}
+
+		@Override
+		protected EditPart getTargetEditPart() {
+			return target;
+		}
+
+		@Override
+		protected boolean updateTargetUnderMouse() {
+			return false;
+		}
+
+		@Override
+		protected void updateTargetRequest() {
+			// do nothing
+		}
+
+		@Override
+		protected void showSourceFeedback() {
+			// do nothing
+		}
+
+		@Override
+		protected void showTargetFeedback() {
+			// do nothing
+		}
+
+		void update() {
+			handleAutoexpose();
+		}
+	}
+
 	@Test
 	public void testCreateOperationSet() {
 		TestDragEditPartsTracker dept = new TestDragEditPartsTracker(new TestGraphicalEditPart());
@@ -188,4 +239,53 @@ public class DragEditPartsTrackerTest extends Assert {
 		dept.deactivate();
 	}
 
+	@Test
+	public void testDeferredCommandCreationCachesMissingCommand() {
+		CountingDragEditPartsTracker tracker = new CountingDragEditPartsTracker(new TestGraphicalEditPart());
+		tracker.setDeferredCommandCreation(true);
+		tracker.target = new TestGraphicalEditPart();
+
+		tracker.update();
+		tracker.update();
+		assertEquals(1, tracker.commandRequests);
+
+		tracker.target = new TestGraphicalEditPart();
+		tracker.update();
+		tracker.update();
+		assertEquals(2, tracker.commandRequests);
+
+		tracker.target = null;
+		tracker.update();
+		tracker.update();
+		assertEquals(3, tracker.commandRequests);
+	}
+
+	@Test
+	public void testDeferredCommandCreationCachesCommand() {
+		CountingDragEditPartsTracker tracker = new CountingDragEditPartsTracker(new TestGraphicalEditPart());
+		tracker.setDeferredCommandCreation(true);
+		tracker.target = new TestGraphicalEditPart();
+		tracker.command = new Command() {
+		};
+
+		tracker.update();
+		tracker.update();
+		assertEquals(1, tracker.commandRequests);
+
+		// switching the mode starts over
+		tracker.setDeferredCommandCreation(true);
+		tracker.update();
+		assertEquals(2, tracker.commandRequests);
+	}
+
+	@Test
+	public void testCommandCreatedOnEveryUpdate() {
+		CountingDragEditPartsTracker tracker = new CountingDragEditPartsTracker(new TestGraphicalEditPart());
+		tracker.target = new TestGraphicalEditPart();
+
+		tracker.update();
+		tracker.update();
+		assertEquals(2, tracker.commandRequests);
+	}
+
 }
@@ -28,8 +28,10 @@ import org.junit.runners.Suite;
 	ToolUtilitiesTest.class,
 	DragEditPartsTrackerTest.class,
 	CommandStackTest.class,
+	SelectionActionTest.class,
 	RulerLayoutTests.class,
 	GraphicalViewerTest.class,
+	GridLayerTest.class,
 	SWTBotTestSuite.class
 })
 public class GEFTestSuite {
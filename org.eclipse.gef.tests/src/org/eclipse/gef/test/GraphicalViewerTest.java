@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Patrick Ziegler and others.
+ * Copyright (c) 2024, 2026 Patrick Ziegler and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,14 +13,25 @@
 
 package org.eclipse.gef.test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.SelectionChangedEvent;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.ui.PlatformUI;
 
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+
+import org.eclipse.gef.EditPart;
 import org.eclipse.gef.GraphicalViewer;
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
 import org.eclipse.gef.ui.parts.GraphicalViewerImpl;
 
 import org.junit.Before;
@@ -28,10 +39,29 @@ import org.junit.Test;
 
 public class GraphicalViewerTest {
 	private GraphicalViewer viewer;
+	private List<SelectionChangedEvent> events;
 
 	@Before
 	public void setUp() {
 		viewer = PlatformUI.getWorkbench().getDisplay().syncCall(GraphicalViewerImpl::new);
+		events = new ArrayList<>();
+	}
+
+	private static List<EditPart> createEditParts(int count) {
+		List<EditPart> editParts = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			editParts.add(new AbstractGraphicalEditPart() {
+				@Override
+				protected IFigure createFigure() {
+					return new Figure();
+				}
+
+				@Override
+				protected void createEditPolicies() {
+				}
+			});
+		}
+		return editParts;
 	}
 
 	/**
@@ -54,4 +84,52 @@ public class GraphicalViewerTest {
 		assertThrows(NullPointerException.class, () -> viewer.setSelection(selection));
 		assertTrue(viewer.getSelectedEditParts().isEmpty());
 	}
+
+	/**
+	 * Setting a collection of edit parts must update all of them, but notify the
+	 * listeners only once.
+	 */
+	@Test
+	public void testSetSelection() {
+		List<EditPart> editParts = createEditParts(3);
+		viewer.addSelectionChangedListener(events::add);
+		viewer.getSelectionManager().setSelection(editParts);
+
+		assertEquals(1, events.size());
+		assertEquals(editParts, viewer.getSelectedEditParts());
+		assertEquals(EditPart.SELECTED, editParts.get(0).getSelected());
+		assertEquals(EditPart.SELECTED, editParts.get(1).getSelected());
+		assertEquals(EditPart.SELECTED_PRIMARY, editParts.get(2).getSelected());
+	}
+
+	/**
+	 * Appending a collection of edit parts moves those that are already selected
+	 * to the end, and notifies the listeners only once.
+	 */
+	@Test
+	public void testAppendSelection() {
+		List<EditPart> editParts = createEditParts(4);
+		viewer.setSelection(new StructuredSelection(editParts.subList(0, 3)));
+		viewer.addSelectionChangedListener(events::add);
+		viewer.getSelectionManager().appendSelection(List.of(editParts.get(3), editParts.get(1)));
+
+		assertEquals(1, events.size());
+		assertEquals(Arrays.asList(editParts.get(0), editParts.get(2), editParts.get(3), editParts.get(1)),
+				viewer.getSelectedEditParts());
+		assertEquals(EditPart.SELECTED, editParts.get(2).getSelected());
+		assertEquals(EditPart.SELECTED, editParts.get(3).getSelected());
+		assertEquals(EditPart.SELECTED_PRIMARY, editParts.get(1).getSelected());
+	}
+
+	/**
+	 * Appending a collection containing {@code null} shouldn't leave the viewer in
+	 * an inconsistent state.
+	 */
+	@Test
+	public void testAppendNullSelectionCollection() {
+		List<EditPart> editParts = createEditParts(1);
+		editParts.add(null);
+		assertThrows(NullPointerException.class, () -> viewer.getSelectionManager().appendSelection(editParts));
+		assertTrue(viewer.getSelectedEditParts().isEmpty());
+	}
 }
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.gef.test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.eclipse.gef.editparts.GridLayer;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GridLayerTest extends Assert {
+
+	private static class CountingGridLayer extends GridLayer {
+
+		int rendered;
+
+		@Override
+		protected void paintGrid(Graphics g) {
+			rendered++;
+			super.paintGrid(g);
+		}
+	}
+
+	private Display display;
+	private Image image;
+	private Viewport viewport;
+	private CountingGridLayer layer;
+
+	@Before
+	public void setUp() {
+		display = PlatformUI.getWorkbench().getDisplay();
+		display.syncExec(() -> image = new Image(display, 1920, 1080));
+		viewport = new Viewport(true);
+		viewport.setBounds(new Rectangle(0, 0, 1920, 1080));
+		layer = new CountingGridLayer();
+		layer.setOpaque(true);
+		layer.setBackgroundColor(ColorConstants.white);
+		layer.setTileCacheEnabled(true);
+		viewport.setContents(layer);
+		layer.setBounds(new Rectangle(0, 0, 5000, 5000));
+	}
+
+	@After
+	public void tearDown() {
+		display.syncExec(() -> {
+			layer.setTileCacheEnabled(false);
+			image.dispose();
+		});
+	}
+
+	private void paint(Rectangle clip) {
+		display.syncExec(() -> {
+			GC gc = new GC(image);
+			SWTGraphics graphics = new SWTGraphics(gc);
+			try {
+				graphics.setClip(clip);
+				layer.paint(graphics);
+			} finally {
+				graphics.dispose();
+				gc.dispose();
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Image> getTiles() throws ReflectiveOperationException {
+		Field field = GridLayer.class.getDeclaredField("tiles"); //$NON-NLS-1$
+		field.setAccessible(true);
+		return new ArrayList<>(((Map<?, Image>) field.get(layer)).values());
+	}
+
+	private static boolean isDisposed(List<Image> images) {
+		return images.stream().allMatch(Image::isDisposed);
+	}
+
+	@Test
+	public void testPaintViewportFromTiles() {
+		paint(new Rectangle(0, 0, 1920, 1080));
+		// 8 x 5 tiles of 256 pixels
+		assertEquals(40, layer.rendered);
+
+		paint(new Rectangle(0, 0, 1920, 1080));
+		assertEquals(40, layer.rendered);
+	}
+
+	@Test
+	public void testReuseTilesOnScroll() {
+		paint(new Rectangle(0, 0, 512, 512));
+		assertEquals(4, layer.rendered);
+
+		paint(new Rectangle(128, 0, 512, 512));
+		assertEquals(6, layer.rendered);
+
+		paint(new Rectangle(0, 0, 512, 512));
+		assertEquals(6, layer.rendered);
+	}
+
+	@Test
+	public void testOriginChange() {
+		Point origin = new Point(10, 10);
+		paint(new Rectangle(0, 0, 256, 256));
+		layer.setOrigin(origin);
+		paint(new Rectangle(0, 0, 256, 256));
+		assertEquals(2, layer.rendered);
+
+		// the layer does not keep the given point
+		origin.setLocation(20, 20);
+		paint(new Rectangle(0, 0, 256, 256));
+		assertEquals(2, layer.rendered);
+
+		layer.setOrigin(new Point());
+		paint(new Rectangle(0, 0, 256, 256));
+		assertEquals(2, layer.rendered);
+	}
+
+	@Test
+	public void testDisposeTiles() throws ReflectiveOperationException {
+		paint(new Rectangle(0, 0, 512, 512));
+		List<Image> tiles = getTiles();
+		assertEquals(4, tiles.size());
+
+		display.syncExec(() -> layer.setSpacing(new Dimension(20, 20)));
+		assertTrue(isDisposed(tiles));
+		paint(new Rectangle(0, 0, 512, 512));
+		assertEquals(8, layer.rendered);
+
+		tiles = getTiles();
+		display.syncExec(layer::removeNotify);
+		assertTrue(isDisposed(tiles));
+	}
+
+	@Test
+	public void testEvictTiles() throws ReflectiveOperationException {
+		viewport.setBounds(new Rectangle(0, 0, 256, 256));
+		// 2 x 2 tiles cover the viewport, so 8 tiles are kept
+		paint(new Rectangle(0, 0, 512, 512));
+		paint(new Rectangle(0, 512, 512, 512));
+		List<Image> tiles = getTiles();
+		assertEquals(8, tiles.size());
+
+		paint(new Rectangle(0, 1024, 256, 256));
+		assertTrue(tiles.get(0).isDisposed());
+		assertEquals(8, getTiles().size());
+		assertEquals(9, layer.rendered);
+	}
+
+}
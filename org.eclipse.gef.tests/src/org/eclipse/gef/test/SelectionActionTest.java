@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.gef.test;
+
+import java.util.List;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Composite;
+
+import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.ui.IPropertyListener;
+import org.eclipse.ui.IWorkbenchPart;
+import org.eclipse.ui.IWorkbenchPartSite;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+
+import org.eclipse.gef.Request;
+import org.eclipse.gef.commands.Command;
+import org.eclipse.gef.commands.CommandStack;
+import org.eclipse.gef.commands.CommandStackEventListener;
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.eclipse.gef.ui.actions.DeleteAction;
+import org.eclipse.gef.ui.actions.SelectionAction;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SelectionActionTest extends Assert {
+
+	private static class TestCommandStack extends CommandStack {
+
+		int listeners;
+
+		@Override
+		public void addCommandStackEventListener(CommandStackEventListener listener) {
+			super.addCommandStackEventListener(listener);
+			listeners++;
+		}
+
+		@Override
+		public void removeCommandStackEventListener(CommandStackEventListener listener) {
+			super.removeCommandStackEventListener(listener);
+			listeners--;
+		}
+	}
+
+	private static class TestPart implements IWorkbenchPart {
+
+		private final TestCommandStack commandStack = new TestCommandStack();
+
+		@Override
+		public void addPropertyListener(IPropertyListener listener) {
+		}
+
+		@Override
+		public void createPartControl(Composite parent) {
+		}
+
+		@Override
+		public void dispose() {
+		}
+
+		@Override
+		public IWorkbenchPartSite getSite() {
+			return null;
+		}
+
+		@Override
+		public String getTitle() {
+			return null;
+		}
+
+		@Override
+		public Image getTitleImage() {
+			return null;
+		}
+
+		@Override
+		public String getTitleToolTip() {
+			return null;
+		}
+
+		@Override
+		public void removePropertyListener(IPropertyListener listener) {
+		}
+
+		@Override
+		public void setFocus() {
+		}
+
+		@Override
+		public <T> T getAdapter(Class<T> adapter) {
+			if (adapter == CommandStack.class) {
+				return adapter.cast(commandStack);
+			}
+			return null;
+		}
+	}
+
+	private static class TestSelectionAction extends SelectionAction {
+
+		int calculations;
+
+		TestSelectionAction(IWorkbenchPart part) {
+			super(part);
+			setLazyEnablementCalculation(false);
+			setDeferredEnablementCalculation(true);
+		}
+
+		@Override
+		protected boolean calculateEnabled() {
+			calculations++;
+			return true;
+		}
+
+		void select(Object... objects) {
+			setSelection(new StructuredSelection(objects));
+		}
+	}
+
+	private static class TestEditPart extends AbstractGraphicalEditPart {
+
+		private final Command command;
+
+		int commandRequests;
+
+		TestEditPart(Command command) {
+			this.command = command;
+		}
+
+		@Override
+		protected IFigure createFigure() {
+			return new Figure();
+		}
+
+		@Override
+		protected void createEditPolicies() {
+			// do nothing
+		}
+
+		@Override
+		public Command getCommand(Request request) {
+			commandRequests++;
+			return command;
+		}
+	}
+
+	private static class TestDeleteAction extends DeleteAction {
+
+		TestDeleteAction(IWorkbenchPart part) {
+			super(part);
+		}
+
+		void select(Object... objects) {
+			setSelection(new StructuredSelection(objects));
+		}
+	}
+
+	private static final Command EXECUTABLE = new Command() {
+	};
+
+	private static final Command NOT_EXECUTABLE = new Command() {
+		@Override
+		public boolean canExecute() {
+			return false;
+		}
+	};
+
+	private TestPart part;
+
+	private TestCommandStack commandStack;
+
+	@Before
+	public void setUp() {
+		part = new TestPart();
+		commandStack = part.commandStack;
+	}
+
+	@Test
+	public void testEqualSelectionIsNotHandledAgain() {
+		TestSelectionAction action = new TestSelectionAction(part);
+		action.select("a"); //$NON-NLS-1$
+		assertTrue(action.isEnabled());
+		assertEquals(1, action.calculations);
+
+		action.select("a"); //$NON-NLS-1$
+		assertTrue(action.isEnabled());
+		assertEquals(1, action.calculations);
+
+		action.select("b"); //$NON-NLS-1$
+		assertTrue(action.isEnabled());
+		assertEquals(2, action.calculations);
+	}
+
+	@Test
+	public void testCommandStackChangeInvalidatesSelection() {
+		TestSelectionAction action = new TestSelectionAction(part);
+		commandStack.execute(new Command() {
+		});
+		commandStack.execute(new Command() {
+		});
+		action.select("a"); //$NON-NLS-1$
+		action.isEnabled();
+		assertEquals(1, action.calculations);
+
+		commandStack.undo();
+		action.select("a"); //$NON-NLS-1$
+		action.isEnabled();
+		assertEquals(2, action.calculations);
+
+		commandStack.undo();
+		action.select("a"); //$NON-NLS-1$
+		action.isEnabled();
+		assertEquals(3, action.calculations);
+
+		commandStack.redo();
+		action.select("a"); //$NON-NLS-1$
+		action.isEnabled();
+		assertEquals(4, action.calculations);
+
+		commandStack.flush();
+		action.select("a"); //$NON-NLS-1$
+		action.isEnabled();
+		assertEquals(5, action.calculations);
+	}
+
+	@Test
+	public void testImmediateEnablement() {
+		TestSelectionAction action = new TestSelectionAction(part);
+		action.select("a"); //$NON-NLS-1$
+		action.isEnabled();
+		action.setDeferredEnablementCalculation(false);
+		assertEquals(0, commandStack.listeners);
+		action.select("a"); //$NON-NLS-1$
+		action.select("a"); //$NON-NLS-1$
+		assertEquals(3, action.calculations);
+	}
+
+	@Test
+	public void testDisposeRemovesCommandStackListener() {
+		TestSelectionAction action = new TestSelectionAction(part);
+		action.select("a"); //$NON-NLS-1$
+		action.isEnabled();
+		assertEquals(1, commandStack.listeners);
+		action.dispose();
+		assertEquals(0, commandStack.listeners);
+	}
+
+	@Test
+	public void testDeleteActionEnablementIsNotDeferred() {
+		TestDeleteAction action = new TestDeleteAction(part);
+		TestEditPart editPart = new TestEditPart(EXECUTABLE);
+		action.select(editPart);
+		assertEquals(1, editPart.commandRequests);
+		action.select(editPart);
+		assertEquals(2, editPart.commandRequests);
+		assertEquals(0, commandStack.listeners);
+	}
+
+	@Test
+	public void testDeleteActionEnablement() {
+		TestDeleteAction action = new TestDeleteAction(part);
+		TestEditPart executable = new TestEditPart(EXECUTABLE);
+		TestEditPart notExecutable = new TestEditPart(NOT_EXECUTABLE);
+		TestEditPart noCommand = new TestEditPart(null);
+
+		action.select(executable, noCommand);
+		assertTrue(action.isEnabled());
+
+		action.select(notExecutable, executable);
+		assertFalse(action.isEnabled());
+
+		action.select(noCommand);
+		assertFalse(action.isEnabled());
+	}
+
+	@Test
+	public void testDeleteActionUsesOverriddenCommand() {
+		TestDeleteAction action = new TestDeleteAction(part) {
+			@Override
+			public Command createDeleteCommand(List objects) {
+				return objects.isEmpty() ? null : NOT_EXECUTABLE;
+			}
+		};
+		action.select(new TestEditPart(EXECUTABLE));
+		assertFalse(action.isEnabled());
+	}
+
+}
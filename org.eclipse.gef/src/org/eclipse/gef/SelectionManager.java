@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2024 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,7 +14,9 @@
 package org.eclipse.gef;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -34,6 +36,10 @@ import org.eclipse.gef.ui.parts.AbstractEditPartViewer;
  * closely tied to the current selection. The selection manager provides the
  * mechanism for modifying the selection and any validation.
  * <P>
+ * An edit part is contained in the selection if and only if its selection state
+ * is not {@link EditPart#SELECTED_NONE}. The selection manager relies on this
+ * to test for membership without searching the selection.
+ * <P>
  * WARNING: Subclassing this class is considered experimental at this point.
  *
  * @since 3.2
@@ -86,13 +92,55 @@ public class SelectionManager {
 		}
 		// if the editpart is already in the list, re-order it to be the last
 		// one
-		selection.remove(editpart);
+		if (editpart.getSelected() != EditPart.SELECTED_NONE) {
+			selection.remove(editpart);
+		}
 		selection.add(editpart);
 		editpart.setSelected(EditPart.SELECTED_PRIMARY);
 
 		fireSelectionChanged();
 	}
 
+	/**
+	 * Appends the given <code>EditParts</code> to the current selection, in
+	 * iteration order. The last EditPart becomes the new primary selection. Fires
+	 * selection changed to all
+	 * {@link org.eclipse.jface.viewers.ISelectionChangedListener}s once, after the
+	 * selection state of all EditParts has been updated.
+	 *
+	 * @param editparts the EditParts to append
+	 * @since 3.20
+	 */
+	public void appendSelection(Collection<? extends EditPart> editparts) {
+		Set<EditPart> appended = toOrderedSet(editparts);
+		if (appended.isEmpty()) {
+			return;
+		}
+		EditPart newPrimary = null;
+		for (EditPart part : appended) {
+			newPrimary = part;
+		}
+		if (newPrimary != getFocus()) {
+			// Fix for 458416: see appendSelection(EditPart)
+			viewer.setFocus(null);
+		}
+		if (!selection.isEmpty()) {
+			EditPart primary = selection.get(selection.size() - 1);
+			primary.setSelected(EditPart.SELECTED);
+		}
+		// edit parts which are already in the list are re-ordered to be the
+		// last ones
+		if (appended.stream().anyMatch(part -> part.getSelected() != EditPart.SELECTED_NONE)) {
+			selection.removeIf(appended::contains);
+		}
+		selection.addAll(appended);
+		for (EditPart part : appended) {
+			part.setSelected(part == newPrimary ? EditPart.SELECTED_PRIMARY : EditPart.SELECTED);
+		}
+
+		fireSelectionChanged();
+	}
+
 	/**
 	 * Removes the <code>EditPart</code> from the current selection.
 	 *
@@ -276,8 +324,20 @@ public class SelectionManager {
 
 		@SuppressWarnings("unchecked")
 		List<EditPart> orderedSelection = structuredSelection.toList();
-		// Convert to set to optimize performance. (Implicit null check)
-		Set<EditPart> set = Set.copyOf(orderedSelection);
+		setSelection(orderedSelection);
+	}
+
+	/**
+	 * Sets the selection to the given <code>EditParts</code>, in iteration order.
+	 * The last EditPart becomes the primary selection. Fires selection changed to
+	 * all {@link org.eclipse.jface.viewers.ISelectionChangedListener}s once, after
+	 * the selection state of all EditParts has been updated.
+	 *
+	 * @param editparts the new selection
+	 * @since 3.20
+	 */
+	public void setSelection(Collection<? extends EditPart> editparts) {
+		Set<EditPart> set = toOrderedSet(editparts);
 
 		// Fix for 458416: adjust the focus through the viewer only (to give
 		// AbstractEditPartViewer a change to update its focusPart field).
@@ -290,14 +350,31 @@ public class SelectionManager {
 			}
 		}
 		selection.clear();
+		selection.addAll(set);
 
-		Iterator<EditPart> itr = orderedSelection.iterator();
+		Iterator<EditPart> itr = set.iterator();
 		while (itr.hasNext()) {
 			EditPart part = itr.next();
-			selection.add(part);
 			part.setSelected(itr.hasNext() ? EditPart.SELECTED : EditPart.SELECTED_PRIMARY);
 		}
 		fireSelectionChanged();
 	}
 
+	/**
+	 * Returns the given edit parts as an ordered set. Edit parts which occur more
+	 * than once are ordered by their last occurrence, just as if they were
+	 * appended one by one.
+	 */
+	private static Set<EditPart> toOrderedSet(Collection<? extends EditPart> editparts) {
+		Set<EditPart> set = new LinkedHashSet<>(editparts.size() * 4 / 3 + 1);
+		for (EditPart part : editparts) {
+			Objects.requireNonNull(part, "The selected edit part must not be null."); //$NON-NLS-1$
+			if (!set.add(part)) {
+				set.remove(part);
+				set.add(part);
+			}
+		}
+		return set;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2022 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,13 +12,29 @@
  *******************************************************************************/
 package org.eclipse.gef.editparts;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
+
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.FigureUtilities;
 import org.eclipse.draw2d.FreeformLayer;
 import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.ScaledGraphics;
+import org.eclipse.draw2d.Viewport;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
 
 import org.eclipse.gef.SnapToGrid;
 
@@ -32,6 +48,26 @@ import org.eclipse.gef.SnapToGrid;
  */
 public class GridLayer extends FreeformLayer {
 
+	/**
+	 * The width and height of a tile, in the coordinates of this layer.
+	 */
+	private static final int TILE_SIZE = 256;
+
+	/**
+	 * The maximum number of tiles kept in the cache if this layer is not shown in
+	 * a viewport. Otherwise, twice the number of tiles covering the viewport are
+	 * kept. If painting a region requires more tiles than are kept, the grid is
+	 * painted directly.
+	 */
+	private static final int MAX_TILES = 64;
+
+	/*
+	 * The origin is part of the key, so that tiles remain valid if the origin is
+	 * changed back and forth, or if the origin field is modified in place.
+	 */
+	private record TileKey(double scale, int x, int y, int originX, int originY) {
+	}
+
 	/**
 	 * Field indicating the horizontal grid spacing
 	 */
@@ -47,6 +83,20 @@ public class GridLayer extends FreeformLayer {
 	 */
 	protected Point origin = new Point();
 
+	/*
+	 * The pre-rendered tiles in access order, or null if the tile cache is
+	 * disabled.
+	 */
+	private Map<TileKey, Image> tiles;
+	private int maxTiles = MAX_TILES;
+
+	/*
+	 * The colors and opacity the cached tiles have been rendered with.
+	 */
+	private Color tileForeground;
+	private Color tileBackground;
+	private boolean tileOpaque;
+
 	/**
 	 * Constructor Sets the default grid color: ColorConstants.lightGray
 	 */
@@ -66,15 +116,120 @@ public class GridLayer extends FreeformLayer {
 		return new Dimension();
 	}
 
+	/**
+	 * Disposes all cached tiles.
+	 */
+	private void disposeTiles() {
+		if (tiles != null) {
+			tiles.values().forEach(Image::dispose);
+			tiles.clear();
+		}
+	}
+
+	/**
+	 * Returns the cached tile for the given key, rendering it if necessary.
+	 */
+	private Image getTile(TileKey key, Display display) {
+		Image tile = tiles.get(key);
+		if (tile == null) {
+			tile = renderTile(key, display);
+			tiles.put(key, tile);
+			Iterator<Image> iter = tiles.values().iterator();
+			while (tiles.size() > maxTiles) {
+				iter.next().dispose();
+				iter.remove();
+			}
+		}
+		return tile;
+	}
+
+	/**
+	 * Returns the number of tiles to keep, which is twice the number of tiles of
+	 * the given size in device pixels which cover the enclosing viewport. This
+	 * allows to paint the entire viewport from tiles, and to scroll back without
+	 * rendering them again.
+	 */
+	private int getTileBudget(double size) {
+		for (IFigure f = getParent(); f != null; f = f.getParent()) {
+			if (f instanceof Viewport viewport) {
+				Rectangle area = viewport.getClientArea();
+				long columns = (long) Math.ceil(area.width / size) + 1;
+				long rows = (long) Math.ceil(area.height / size) + 1;
+				return (int) Math.min(Integer.MAX_VALUE, 2 * columns * rows);
+			}
+		}
+		return MAX_TILES;
+	}
+
+	/**
+	 * Returns whether the grid is painted from a cache of pre-rendered tiles.
+	 *
+	 * @return <code>true</code> if the tile cache is enabled
+	 * @see #setTileCacheEnabled(boolean)
+	 * @since 3.20
+	 */
+	public boolean isTileCacheEnabled() {
+		return tiles != null;
+	}
+
 	/**
 	 * @see org.eclipse.draw2d.Figure#paintFigure(org.eclipse.draw2d.Graphics)
 	 */
 	@Override
 	protected void paintFigure(Graphics graphics) {
+		if (tiles != null && paintTiles(graphics)) {
+			return;
+		}
 		super.paintFigure(graphics);
 		paintGrid(graphics);
 	}
 
+	/**
+	 * Paints the tiles intersecting the clip of the given graphics. Tiles are only
+	 * used if their size in device pixels is integral, so that adjacent tiles line
+	 * up exactly.
+	 *
+	 * @return <code>false</code> if the grid needs to be painted directly
+	 */
+	private boolean paintTiles(Graphics graphics) {
+		Display display = Display.getCurrent();
+		double scale = graphics.getAbsoluteScale();
+		double size = TILE_SIZE * scale;
+		if (display == null || size < 1 || size != Math.rint(size)) {
+			return false;
+		}
+		Rectangle clip = graphics.getClip(new Rectangle());
+		if (clip.isEmpty()) {
+			return true;
+		}
+		int left = Math.floorDiv(clip.x, TILE_SIZE);
+		int top = Math.floorDiv(clip.y, TILE_SIZE);
+		int right = Math.floorDiv(clip.right() - 1, TILE_SIZE);
+		int bottom = Math.floorDiv(clip.bottom() - 1, TILE_SIZE);
+		maxTiles = getTileBudget(size);
+		if ((long) (right - left + 1) * (bottom - top + 1) > maxTiles) {
+			return false;
+		}
+
+		if (!Objects.equals(tileForeground, getForegroundColor())
+				|| !Objects.equals(tileBackground, getBackgroundColor()) || tileOpaque != isOpaque()) {
+			disposeTiles();
+			tileForeground = getForegroundColor();
+			tileBackground = getBackgroundColor();
+			tileOpaque = isOpaque();
+		}
+		int originX = origin.x;
+		int originY = origin.y;
+		for (int y = top; y <= bottom; y++) {
+			for (int x = left; x <= right; x++) {
+				Image tile = getTile(new TileKey(scale, x, y, originX, originY), display);
+				org.eclipse.swt.graphics.Rectangle r = tile.getBounds();
+				graphics.drawImage(tile, 0, 0, r.width, r.height, x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Paints the grid. Sub-classes can override to customize the grid's look. If
 	 * this layer is being used with SnapToGrid, this method will only be invoked
@@ -88,6 +243,63 @@ public class GridLayer extends FreeformLayer {
 		FigureUtilities.paintGrid(g, this, origin, gridX, gridY);
 	}
 
+	/**
+	 * Disposes the cached tiles when this layer is removed.
+	 *
+	 * @see org.eclipse.draw2d.Figure#removeNotify()
+	 */
+	@Override
+	public void removeNotify() {
+		disposeTiles();
+		super.removeNotify();
+	}
+
+	/**
+	 * Renders the tile for the given key. If this layer is not opaque, the tile is
+	 * first filled with the inverse of the foreground color, which is then made
+	 * transparent.
+	 */
+	private Image renderTile(TileKey key, Display display) {
+		int size = (int) Math.rint(TILE_SIZE * key.scale());
+		Image image = new Image(display, size, size);
+		GC gc = new GC(image);
+		SWTGraphics swtGraphics = new SWTGraphics(gc);
+		Graphics graphics = swtGraphics;
+		if (key.scale() != 1) {
+			graphics = new ScaledGraphics(swtGraphics);
+			graphics.scale(key.scale());
+		}
+		RGB transparent = null;
+		try {
+			Rectangle tile = new Rectangle(key.x() * TILE_SIZE, key.y() * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+			graphics.translate(-tile.x, -tile.y);
+			if (!isOpaque()) {
+				RGB rgb = getForegroundColor().getRGB();
+				transparent = new RGB(255 - rgb.red, 255 - rgb.green, 255 - rgb.blue);
+				graphics.setBackgroundColor(new Color(null, transparent));
+				graphics.fillRectangle(tile);
+			}
+			graphics.setForegroundColor(getForegroundColor());
+			graphics.setBackgroundColor(getBackgroundColor());
+			graphics.setFont(getFont());
+			super.paintFigure(graphics);
+			paintGrid(graphics);
+		} finally {
+			if (graphics != swtGraphics) {
+				graphics.dispose();
+			}
+			swtGraphics.dispose();
+			gc.dispose();
+		}
+		if (transparent != null) {
+			ImageData data = image.getImageData();
+			data.transparentPixel = data.palette.getPixel(transparent);
+			image.dispose();
+			image = new Image(display, data);
+		}
+		return image;
+	}
+
 	/**
 	 * Sets the origin of the grid. The origin is used only to determine the offset
 	 * from 0,0.
@@ -99,7 +311,7 @@ public class GridLayer extends FreeformLayer {
 			p = new Point();
 		}
 		if (!origin.equals(p)) {
-			origin = p;
+			origin = p.getCopy();
 			repaint();
 		}
 	}
@@ -120,8 +332,40 @@ public class GridLayer extends FreeformLayer {
 		if (!spacing.equals(gridX, gridY)) {
 			gridX = spacing.width != 0 ? spacing.width : gridX;
 			gridY = spacing.height != 0 ? spacing.height : gridY;
+			disposeTiles();
 			repaint();
 		}
 	}
 
+	/**
+	 * Sets whether the grid is painted from a cache of pre-rendered image tiles.
+	 * The tiles have a fixed size and are rendered once for each zoom level in
+	 * which they are needed. Scrolling over the grid then only requires drawing
+	 * the cached images. Tiles are only used at zoom levels for which their size
+	 * in device pixels is integral, such as 50%, 75%, 150% or 200%.
+	 * <P>
+	 * The tiles are discarded when the spacing or colors of the grid change. As
+	 * many tiles are kept as are needed to cover the enclosing viewport twice, and
+	 * the least recently painted tiles are discarded first. Subclasses which
+	 * override {@link #paintGrid(Graphics)} to paint additional state must
+	 * disable and re-enable the cache when that state changes.
+	 * <P>
+	 * The tile cache is disabled by default.
+	 *
+	 * @param value <code>true</code> to paint the grid from cached tiles
+	 * @since 3.20
+	 */
+	public void setTileCacheEnabled(boolean value) {
+		if (value == isTileCacheEnabled()) {
+			return;
+		}
+		if (value) {
+			tiles = new LinkedHashMap<>(MAX_TILES, 0.75f, true);
+		} else {
+			disposeTiles();
+			tiles = null;
+		}
+		repaint();
+	}
+
 }
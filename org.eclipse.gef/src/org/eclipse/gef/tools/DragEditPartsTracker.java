@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -22,13 +22,18 @@ import org.eclipse.swt.graphics.Cursor;
 
 import org.eclipse.core.runtime.Platform;
 
+import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.Cursors;
+import org.eclipse.draw2d.FigureUtilities;
+import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.PositionConstants;
+import org.eclipse.draw2d.Shape;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PrecisionPoint;
 import org.eclipse.draw2d.geometry.PrecisionRectangle;
+import org.eclipse.draw2d.geometry.Rectangle;
 
 import org.eclipse.gef.AutoexposeHelper;
 import org.eclipse.gef.EditPart;
@@ -48,9 +53,53 @@ import org.eclipse.gef.requests.ChangeBoundsRequest;
 
 /**
  * A DragTracker that moves {@link org.eclipse.gef.EditPart EditParts}.
+ * <P>
+ * By default, the command is recreated and the operation set is asked to show
+ * source feedback with every mouse move. When dragging a large number of edit
+ * parts, this may be avoided by
+ * {@link #setDeferredCommandCreation(boolean) deferring the command creation}
+ * until the drop and by
+ * {@link #setAggregatedFeedbackThreshold(int) aggregating the source feedback}
+ * into a single ghost figure.
  */
 public class DragEditPartsTracker extends SelectEditPartTracker {
 
+	/**
+	 * A ghost shape outlining the figures of all edit parts being dragged. The
+	 * outlines are stored relative to the figure's location, so that moving the
+	 * feedback only requires changing its bounds.
+	 */
+	private static final class GhostFigure extends Shape {
+		private final Rectangle[] outlines;
+
+		GhostFigure(Rectangle[] outlines) {
+			this.outlines = outlines;
+			FigureUtilities.makeGhostShape(this);
+			setLineStyle(Graphics.LINE_DOT);
+			setForegroundColor(ColorConstants.white);
+		}
+
+		@Override
+		protected void fillShape(Graphics graphics) {
+			Rectangle r = Rectangle.SINGLETON;
+			for (Rectangle outline : outlines) {
+				r.setBounds(outline).translate(getBounds().x, getBounds().y);
+				graphics.fillRectangle(r);
+			}
+		}
+
+		@Override
+		protected void outlineShape(Graphics graphics) {
+			Rectangle r = Rectangle.SINGLETON;
+			for (Rectangle outline : outlines) {
+				r.setBounds(outline).translate(getBounds().x, getBounds().y);
+				r.width--;
+				r.height--;
+				graphics.drawRectangle(r);
+			}
+		}
+	}
+
 	/**
 	 * Key modifier for cloning. It's ALT on Mac, and CTRL on all other platforms.
 	 */
@@ -78,6 +127,18 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 	private PrecisionRectangle sourceRectangle;
 	private PrecisionRectangle compoundSrcRect;
 	private boolean cloneActive;
+	private boolean deferredCommandCreation;
+	private int aggregatedFeedbackThreshold = Integer.MAX_VALUE;
+	private GhostFigure ghost;
+
+	/*
+	 * The target edit part and request type for which the current command was
+	 * created while the command creation is deferred. The command type is null
+	 * until a command has been created, which may itself be null if the target
+	 * does not understand the request.
+	 */
+	private EditPart commandTarget;
+	private String commandType;
 
 	/**
 	 * Constructs a new DragEditPartsTracker with the given source edit part.
@@ -187,14 +248,7 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 		List<? extends EditPart> editparts = getOperationSet();
 		for (EditPart editpart : editparts) {
 			GraphicalEditPart child = (GraphicalEditPart) editpart;
-			IFigure figure = child.getFigure();
-			PrecisionRectangle bounds = null;
-			if (figure instanceof HandleBounds hb) {
-				bounds = new PrecisionRectangle(hb.getHandleBounds());
-			} else {
-				bounds = new PrecisionRectangle(figure.getBounds());
-			}
-			figure.translateToAbsolute(bounds);
+			PrecisionRectangle bounds = getAbsoluteBounds(child.getFigure());
 
 			if (compoundSrcRect == null) {
 				compoundSrcRect = new PrecisionRectangle(bounds);
@@ -206,16 +260,55 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 			}
 		}
 		if (sourceRectangle == null) {
-			IFigure figure = ((GraphicalEditPart) getSourceEditPart()).getFigure();
-			if (figure instanceof HandleBounds handleBounds) {
-				sourceRectangle = new PrecisionRectangle(handleBounds.getHandleBounds());
-			} else {
-				sourceRectangle = new PrecisionRectangle(figure.getBounds());
-			}
-			figure.translateToAbsolute(sourceRectangle);
+			sourceRectangle = getAbsoluteBounds(((GraphicalEditPart) getSourceEditPart()).getFigure());
 		}
 	}
 
+	/**
+	 * Returns the handle bounds of the given figure if it implements
+	 * {@link HandleBounds}, otherwise its bounds, in absolute coordinates.
+	 */
+	private static PrecisionRectangle getAbsoluteBounds(IFigure figure) {
+		PrecisionRectangle bounds;
+		if (figure instanceof HandleBounds handleBounds) {
+			bounds = new PrecisionRectangle(handleBounds.getHandleBounds());
+		} else {
+			bounds = new PrecisionRectangle(figure.getBounds());
+		}
+		figure.translateToAbsolute(bounds);
+		return bounds;
+	}
+
+	/**
+	 * Creates a ghost figure outlining the figures of all edit parts in the
+	 * operation set and adds it to the feedback layer.
+	 *
+	 * @return the ghost figure, or <code>null</code> if there is no feedback layer
+	 */
+	private GhostFigure createGhostFigure() {
+		LayerManager layerManager = LayerManager.Helper.find(getCurrentViewer());
+		if (layerManager == null || compoundSrcRect == null) {
+			return null;
+		}
+		IFigure feedbackLayer = layerManager.getLayer(LayerConstants.FEEDBACK_LAYER);
+		if (feedbackLayer == null) {
+			return null;
+		}
+		PrecisionRectangle union = compoundSrcRect.getPreciseCopy();
+		feedbackLayer.translateToRelative(union);
+		List<? extends EditPart> editparts = getOperationSet();
+		Rectangle[] outlines = new Rectangle[editparts.size()];
+		for (int i = 0; i < outlines.length; i++) {
+			PrecisionRectangle bounds = getAbsoluteBounds(((GraphicalEditPart) editparts.get(i)).getFigure());
+			feedbackLayer.translateToRelative(bounds);
+			bounds.translate(-union.preciseX(), -union.preciseY());
+			outlines[i] = new Rectangle(bounds);
+		}
+		GhostFigure figure = new GhostFigure(outlines);
+		feedbackLayer.add(figure);
+		return figure;
+	}
+
 	/**
 	 * Returns a List of top-level edit parts excluding dependants (by calling
 	 * {@link ToolUtilities#getSelectionWithoutDependants(EditPartViewer)} that
@@ -266,17 +359,29 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 		sourceRectangle = null;
 		compoundSrcRect = null;
 		snapToHelper = null;
+		commandTarget = null;
+		commandType = null;
 	}
 
 	/**
 	 * Asks the edit parts in the {@link AbstractTool#getOperationSet() operation
-	 * set} to erase their source feedback.
+	 * set} to erase their source feedback, or removes the aggregated source
+	 * feedback.
+	 *
+	 * @see #setAggregatedFeedbackThreshold(int)
 	 */
 	protected void eraseSourceFeedback() {
 		if (!getFlag(FLAG_SOURCE_FEEDBACK)) {
 			return;
 		}
 		setFlag(FLAG_SOURCE_FEEDBACK, false);
+		if (ghost != null) {
+			if (ghost.getParent() != null) {
+				ghost.getParent().remove(ghost);
+			}
+			ghost = null;
+			return;
+		}
 		getOperationSet().forEach(ep -> ep.eraseSourceFeedback(getTargetRequest()));
 	}
 
@@ -380,7 +485,7 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 		updateTargetUnderMouse();
 		showTargetFeedback();
 		showSourceFeedback();
-		setCurrentCommand(getCommand());
+		updateCurrentCommand();
 	}
 
 	/**
@@ -414,7 +519,7 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 			}
 			showTargetFeedback();
 			showSourceFeedback();
-			setCurrentCommand(getCommand());
+			updateCurrentCommand();
 		}
 		return true;
 	}
@@ -442,6 +547,8 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 	protected boolean handleInvalidInput() {
 		super.handleInvalidInput();
 		eraseSourceFeedback();
+		commandTarget = null;
+		commandType = null;
 		return true;
 	}
 
@@ -549,9 +656,16 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 	}
 
 	/**
-	 * Calls {@link AbstractTool#executeCurrentCommand()}.
+	 * Calls {@link AbstractTool#executeCurrentCommand()}. If the command creation
+	 * is deferred, the current command is first replaced with a command created
+	 * for the final state of the target request.
+	 *
+	 * @see #setDeferredCommandCreation(boolean)
 	 */
 	protected void performDrag() {
+		if (deferredCommandCreation) {
+			setCurrentCommand(getCommand());
+		}
 		executeCurrentCommand();
 	}
 
@@ -591,6 +705,25 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 		}
 	}
 
+	/**
+	 * Sets the number of edit parts above which the source feedback is aggregated.
+	 * If the operation set contains more edit parts than this threshold, the edit
+	 * parts are not asked to show source feedback. Instead, a single ghost figure
+	 * outlining all of their figures is added to the
+	 * {@link LayerConstants#FEEDBACK_LAYER feedback layer} and moved with the
+	 * mouse. Only the move delta of the request is reflected by this feedback.
+	 * <P>
+	 * By default, the source feedback is never aggregated. This setting must not be
+	 * changed while a drag is in progress.
+	 *
+	 * @param threshold the maximum number of edit parts which are asked to show
+	 *                  source feedback individually
+	 * @since 3.20
+	 */
+	public void setAggregatedFeedbackThreshold(int threshold) {
+		aggregatedFeedbackThreshold = threshold;
+	}
+
 	/**
 	 * Enables cloning if the value is true.
 	 *
@@ -605,6 +738,32 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 		this.cloneActive = cloneActive;
 	}
 
+	/**
+	 * Sets whether the creation of the command is deferred until the drop. By
+	 * default, the edit parts in the operation set and the target edit part are
+	 * asked for a command with every mouse move. If this value is set to
+	 * <code>true</code>, the command is only recreated when the target edit part or
+	 * the type of the request changes. It is then used to determine whether the
+	 * edit parts can be dropped at the current location, and to update the cursor
+	 * accordingly. The command which is executed is created once
+	 * {@link #performDrag()} is called.
+	 * <P>
+	 * This improves performance when dragging a large number of edit parts, but the
+	 * cursor may not reflect whether the drop is possible at the exact location, if
+	 * the edit policies of the target edit part take it into account.
+	 * <P>
+	 * The default value for this setting is <code>false</code>.
+	 *
+	 * @param value <code>true</code> if the command should only be created when
+	 *              the drop target changes and on drop
+	 * @since 3.20
+	 */
+	public void setDeferredCommandCreation(boolean value) {
+		deferredCommandCreation = value;
+		commandTarget = null;
+		commandType = null;
+	}
+
 	/**
 	 * Extended to update the current snap-to strategy.
 	 *
@@ -624,13 +783,37 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 
 	/**
 	 * Asks the edit parts in the {@link AbstractTool#getOperationSet() operation
-	 * set} to show source feedback.
+	 * set} to show source feedback. If the operation set is larger than the
+	 * {@link #setAggregatedFeedbackThreshold(int) aggregated feedback threshold}, a
+	 * single ghost figure is shown instead.
 	 */
 	protected void showSourceFeedback() {
-		getOperationSet().forEach(ep -> ep.showSourceFeedback(getTargetRequest()));
+		if (getOperationSet().size() <= aggregatedFeedbackThreshold || !showAggregatedSourceFeedback()) {
+			getOperationSet().forEach(ep -> ep.showSourceFeedback(getTargetRequest()));
+		}
 		setFlag(FLAG_SOURCE_FEEDBACK, true);
 	}
 
+	/**
+	 * Moves the ghost figure by the move delta of the target request, creating it
+	 * if necessary.
+	 *
+	 * @return <code>false</code> if the ghost figure could not be created
+	 */
+	private boolean showAggregatedSourceFeedback() {
+		if (ghost == null) {
+			ghost = createGhostFigure();
+			if (ghost == null) {
+				return false;
+			}
+		}
+		PrecisionRectangle rect = compoundSrcRect.getPreciseCopy();
+		rect.translate(((ChangeBoundsRequest) getTargetRequest()).getMoveDelta());
+		ghost.getParent().translateToRelative(rect);
+		ghost.setBounds(rect);
+		return true;
+	}
+
 	/**
 	 * Extended to activate cloning and to update the captured source dimensions
 	 * when applicable.
@@ -653,6 +836,24 @@ public class DragEditPartsTracker extends SelectEditPartTracker {
 		}
 	}
 
+	/**
+	 * Sets the current command to a newly created one. If the command creation is
+	 * deferred, this only happens when the target edit part or the type of the
+	 * request have changed since the current command was created, including when
+	 * no command was returned for them.
+	 */
+	private void updateCurrentCommand() {
+		if (deferredCommandCreation) {
+			String type = getCommandName();
+			if (commandTarget == getTargetEditPart() && type.equals(commandType)) {
+				return;
+			}
+			commandTarget = getTargetEditPart();
+			commandType = type;
+		}
+		setCurrentCommand(getCommand());
+	}
+
 	/**
 	 * Calls {@link #repairStartLocation()} in case auto scroll is being performed.
 	 * Updates the request with the current {@link AbstractTool#getOperationSet()
@@ -639,10 +639,8 @@ public class MarqueeSelectionTool extends AbstractTool {
 				// as well, so select connection if not already selected and
 				// source and target are already selected or will get selected
 				included = connection.getSelected() == EditPart.SELECTED_NONE
-						&& (getCurrentViewer().getSelectedEditParts().contains(source)
-								|| sourceIncludedInMarqueeSelection)
-						&& (getCurrentViewer().getSelectedEditParts().contains(target)
-								|| targetIncludedInMarqueeSelection);
+						&& (source.getSelected() != EditPart.SELECTED_NONE || sourceIncludedInMarqueeSelection)
+						&& (target.getSelected() != EditPart.SELECTED_NONE || targetIncludedInMarqueeSelection);
 				break;
 			case TOGGLE_MODE:
 				if (connection.getSelected() == EditPart.SELECTED_NONE) {
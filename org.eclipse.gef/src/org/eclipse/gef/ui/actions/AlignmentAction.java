@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -129,17 +129,35 @@ public final class AlignmentAction extends SelectionAction {
 	@Override
 	protected boolean calculateEnabled() {
 		operationSet = null;
-		Command cmd = createAlignmentCommand();
-		if (cmd == null) {
+		AlignmentRequest request = createAlignmentRequest();
+		List<? extends EditPart> editparts = getOperationSet(request);
+		if (editparts.size() < 2) {
 			return false;
 		}
-		return cmd.canExecute();
+		// same as the compound command's canExecute(), but stops at the first
+		// part which cannot be aligned
+		boolean executable = false;
+		for (EditPart ep : editparts) {
+			Command cmd = ep.getCommand(request);
+			if (cmd != null) {
+				if (!cmd.canExecute()) {
+					return false;
+				}
+				executable = true;
+			}
+		}
+		return executable;
 	}
 
-	private Command createAlignmentCommand() {
+	private AlignmentRequest createAlignmentRequest() {
 		AlignmentRequest request = new AlignmentRequest(RequestConstants.REQ_ALIGN);
 		request.setAlignmentRectangle(calculateAlignmentRectangle(request));
 		request.setAlignment(alignment);
+		return request;
+	}
+
+	private Command createAlignmentCommand() {
+		AlignmentRequest request = createAlignmentRequest();
 		List<? extends EditPart> editparts = getOperationSet(request);
 		if (editparts.size() < 2) {
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -56,11 +56,29 @@ public class MatchSizeAction extends SelectionAction {
 	 */
 	@Override
 	protected boolean calculateEnabled() {
-		Command cmd = createMatchSizeCommand(getSelectedObjects());
-		if (cmd == null) {
+		List objects = getSelectedObjects();
+		GraphicalEditPart primarySelection = getPrimarySelection(objects);
+		if (primarySelection == null) {
 			return false;
 		}
-		return cmd.canExecute();
+		PrecisionRectangle precisePrimaryBounds = getPreciseBounds(primarySelection);
+
+		// same as the compound command's canExecute(), but stops at the first
+		// part which cannot be resized
+		boolean executable = false;
+		for (Object object : objects) {
+			GraphicalEditPart part = (GraphicalEditPart) object;
+			if (!part.equals(primarySelection)) {
+				Command cmd = createResizeCommand(part, precisePrimaryBounds);
+				if (cmd != null) {
+					if (!cmd.canExecute()) {
+						return false;
+					}
+					executable = true;
+				}
+			}
+		}
+		return executable;
 	}
 
 	/**
@@ -70,52 +88,48 @@ public class MatchSizeAction extends SelectionAction {
 	 * @return The command to resize the selected objects.
 	 */
 	private Command createMatchSizeCommand(List objects) {
-		if (objects.isEmpty()) {
-			return null;
-		}
-		if (!(objects.get(0) instanceof GraphicalEditPart)) {
-			return null;
-		}
-
-		GraphicalEditPart primarySelection = getPrimarySelectionEditPart(getSelectedObjects());
-
+		GraphicalEditPart primarySelection = getPrimarySelection(objects);
 		if (primarySelection == null) {
 			return null;
 		}
+		PrecisionRectangle precisePrimaryBounds = getPreciseBounds(primarySelection);
 
-		GraphicalEditPart part = null;
-		ChangeBoundsRequest request = null;
-		PrecisionDimension preciseDimension = null;
-		PrecisionRectangle precisePartBounds = null;
-		Command cmd = null;
 		CompoundCommand command = new CompoundCommand();
-
-		PrecisionRectangle precisePrimaryBounds = new PrecisionRectangle(
-				primarySelection.getFigure().getBounds().getCopy());
-		primarySelection.getFigure().translateToAbsolute(precisePrimaryBounds);
-
 		for (Object object : objects) {
-			part = (GraphicalEditPart) object;
+			GraphicalEditPart part = (GraphicalEditPart) object;
 			if (!part.equals(primarySelection)) {
-				request = new ChangeBoundsRequest(RequestConstants.REQ_RESIZE);
+				command.add(createResizeCommand(part, precisePrimaryBounds));
+			}
+		}
 
-				precisePartBounds = new PrecisionRectangle(part.getFigure().getBounds().getCopy());
-				part.getFigure().translateToAbsolute(precisePartBounds);
+		return command;
+	}
 
-				preciseDimension = new PrecisionDimension();
-				preciseDimension.setPreciseWidth(getPreciseWidthDelta(precisePartBounds, precisePrimaryBounds));
-				preciseDimension.setPreciseHeight(getPreciseHeightDelta(precisePartBounds, precisePrimaryBounds));
+	private Command createResizeCommand(GraphicalEditPart part, PrecisionRectangle precisePrimaryBounds) {
+		ChangeBoundsRequest request = new ChangeBoundsRequest(RequestConstants.REQ_RESIZE);
 
-				request.setSizeDelta(preciseDimension);
+		PrecisionRectangle precisePartBounds = getPreciseBounds(part);
 
-				cmd = part.getCommand(request);
-				if (cmd != null) {
-					command.add(cmd);
-				}
-			}
-		}
+		PrecisionDimension preciseDimension = new PrecisionDimension();
+		preciseDimension.setPreciseWidth(getPreciseWidthDelta(precisePartBounds, precisePrimaryBounds));
+		preciseDimension.setPreciseHeight(getPreciseHeightDelta(precisePartBounds, precisePrimaryBounds));
 
-		return command;
+		request.setSizeDelta(preciseDimension);
+
+		return part.getCommand(request);
+	}
+
+	private static PrecisionRectangle getPreciseBounds(GraphicalEditPart part) {
+		PrecisionRectangle bounds = new PrecisionRectangle(part.getFigure().getBounds().getCopy());
+		part.getFigure().translateToAbsolute(bounds);
+		return bounds;
+	}
+
+	private static GraphicalEditPart getPrimarySelection(List objects) {
+		if (objects.isEmpty() || !(objects.get(0) instanceof GraphicalEditPart)) {
+			return null;
+		}
+		return getPrimarySelectionEditPart(objects);
 	}
 
 	/**
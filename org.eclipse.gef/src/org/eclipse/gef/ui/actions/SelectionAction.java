@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,12 +15,17 @@ package org.eclipse.gef.ui.actions;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.swt.widgets.Display;
+
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.ISelectionProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.ui.IWorkbenchPart;
 
+import org.eclipse.gef.commands.CommandStack;
+import org.eclipse.gef.commands.CommandStackEventListener;
+
 /**
  * Superclass for an action needing the current selection.
  */
@@ -32,6 +37,31 @@ public abstract class SelectionAction extends WorkbenchPartAction {
 	 */
 	private ISelection selection;
 
+	private boolean deferredEnablement;
+
+	/*
+	 * Whether handleSelectionChanged() has yet to be called for the current
+	 * selection.
+	 */
+	private boolean selectionChangePending;
+
+	/*
+	 * The selection when handleSelectionChanged() was last called in deferred
+	 * mode. It is forgotten whenever the command stack changes.
+	 */
+	private ISelection handledSelection;
+
+	/*
+	 * The command stack to which the commandStackListener has been added.
+	 */
+	private CommandStack commandStack;
+
+	private final CommandStackEventListener commandStackListener = event -> {
+		if (event.isPostChangeEvent()) {
+			handledSelection = null;
+		}
+	};
+
 	/**
 	 * Creates a <code>SelectionAction</code> and associates it with the given
 	 * editor.
@@ -59,9 +89,51 @@ public abstract class SelectionAction extends WorkbenchPartAction {
 	@Override
 	public void dispose() {
 		this.selection = StructuredSelection.EMPTY;
+		selectionChangePending = false;
+		handledSelection = null;
+		unhookCommandStack();
 		super.dispose();
 	}
 
+	/**
+	 * Calls {@link #handleSelectionChanged()} if the selection has changed since it
+	 * was last called, but the call has been deferred.
+	 *
+	 * @see #setDeferredEnablementCalculation(boolean)
+	 */
+	private void flushSelectionChange() {
+		if (selectionChangePending) {
+			selectionChangePending = false;
+			// an equal selection may only be skipped if changes of the command
+			// stack are noticed
+			handledSelection = hookCommandStack() ? selection : null;
+			handleSelectionChanged();
+		}
+	}
+
+	/**
+	 * Adds the listener which forgets the handled selection to the command stack,
+	 * if this has not been done yet.
+	 *
+	 * @return <code>true</code> if the listener has been added
+	 */
+	private boolean hookCommandStack() {
+		if (commandStack == null && getWorkbenchPart() != null) {
+			commandStack = getCommandStack();
+			if (commandStack != null) {
+				commandStack.addCommandStackEventListener(commandStackListener);
+			}
+		}
+		return commandStack != null;
+	}
+
+	private void unhookCommandStack() {
+		if (commandStack != null) {
+			commandStack.removeCommandStackEventListener(commandStackListener);
+			commandStack = null;
+		}
+	}
+
 	/**
 	 * Returns a <code>List</code> containing the currently selected objects.
 	 *
@@ -90,6 +162,49 @@ public abstract class SelectionAction extends WorkbenchPartAction {
 		refresh();
 	}
 
+	/**
+	 * Extends the superclass implementation to first handle a selection change
+	 * which has been deferred.
+	 *
+	 * @see #setDeferredEnablementCalculation(boolean)
+	 */
+	@Override
+	public boolean isEnabled() {
+		flushSelectionChange();
+		return super.isEnabled();
+	}
+
+	/**
+	 * Sets whether selection changes are handled when the display is idle, rather
+	 * than immediately. If this value is set to <code>true</code>, subsequent
+	 * selection changes are coalesced into a single call of
+	 * {@link #handleSelectionChanged()}, which is made once all pending events have
+	 * been processed, or as soon as {@link #isEnabled()} is called. A selection
+	 * which is equal to the previous one is not handled again, as long as the
+	 * {@link #getCommandStack() command stack} has not changed in the meantime.
+	 * <P>
+	 * This improves performance for actions whose enablement is expensive to
+	 * calculate, such as actions which create a command for each selected edit
+	 * part. Such actions should not determine their enablement lazily. The
+	 * enablement must only depend on the selection and the state of the model,
+	 * and the model must only be changed through the command stack. Otherwise
+	 * {@link #refresh()} has to be called after the model has been changed.
+	 * <P>
+	 * The default value for this setting is <code>false</code>.
+	 *
+	 * @param value <code>true</code> if selection changes should be handled when
+	 *              the display is idle
+	 * @since 3.20
+	 */
+	public void setDeferredEnablementCalculation(boolean value) {
+		deferredEnablement = value;
+		if (!value) {
+			flushSelectionChange();
+			handledSelection = null;
+			unhookCommandStack();
+		}
+	}
+
 	/**
 	 * Sets the current selection and calls on subclasses to handle the
 	 * selectionChanged event.
@@ -98,7 +213,24 @@ public abstract class SelectionAction extends WorkbenchPartAction {
 	 */
 	protected void setSelection(ISelection selection) {
 		this.selection = selection;
-		handleSelectionChanged();
+		if (!deferredEnablement) {
+			handleSelectionChanged();
+			return;
+		}
+		if (selection != null && selection.equals(handledSelection)) {
+			// nothing has changed since the last selection was handled
+			selectionChangePending = false;
+			return;
+		}
+		if (!selectionChangePending) {
+			selectionChangePending = true;
+			Display display = Display.getCurrent();
+			if (display != null) {
+				display.asyncExec(this::flushSelectionChange);
+			} else {
+				flushSelectionChange();
+			}
+		}
 	}
 
 	/**
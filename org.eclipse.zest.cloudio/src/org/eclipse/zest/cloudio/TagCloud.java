@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,8 +15,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EventListener;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -37,7 +41,6 @@ import org.eclipse.swt.graphics.FontMetrics;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
-import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.Path;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
@@ -54,9 +57,11 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.zest.cloudio.layout.DefaultLayouter;
 import org.eclipse.zest.cloudio.layout.ILayouter;
+import org.eclipse.zest.cloudio.util.CellMask;
 import org.eclipse.zest.cloudio.util.CloudMatrix;
 import org.eclipse.zest.cloudio.util.RectTree;
 import org.eclipse.zest.cloudio.util.SmallRect;
+import org.eclipse.zest.cloudio.util.WordMaskCache;
 
 /**
  *
@@ -118,16 +123,44 @@ public class TagCloud extends Canvas {
 	private Image selectionLayerImage;
 
 	/**
-	 * Last level image: All + selected elements, zoomed. This is the image which
-	 * will be displayed.
+	 * Width and height of a tile of the zoom pyramid, in pixels.
 	 */
-	private Image zoomLayerImage;
+	private static final int TILE_SIZE = 256;
+
+	/**
+	 * Minimum number of tiles which are kept, independent of the size of the
+	 * viewport.
+	 */
+	private static final int MIN_TILES = 16;
+
+	private record Tile(int level, int x, int y) {
+	}
+
+	/**
+	 * Last level images: All + selected elements, downscaled by powers of two and
+	 * split into tiles, in least recently used order. A tile of level
+	 * <code>n</code> shows <code>TILE_SIZE * 2^n</code> pixels of the selection
+	 * layer in each direction. The selection layer itself is level
+	 * <code>0</code>. Tiles are only created for the visible part of the cloud,
+	 * while painting.
+	 */
+	private final Map<Tile, Image> tiles = new LinkedHashMap<>(16, 0.75f, true);
 
 	/**
 	 * The list of words to render.
 	 */
 	private List<Word> wordsToUse;
 
+	/**
+	 * The words which could be placed, by their id.
+	 */
+	private final Map<Short, Word> placedWords = new HashMap<>();
+
+	/**
+	 * The id of the next word which is added to the current layout.
+	 */
+	private short nextId = 1;
+
 	private boolean initialized = false;
 
 	/**
@@ -203,6 +236,11 @@ public class TagCloud extends Canvas {
 
 	private ImageData mask;
 
+	/**
+	 * Shapes of the words of previous layouts.
+	 */
+	private final WordMaskCache maskCache = new WordMaskCache();
+
 	/**
 	 * Creates a new Tag cloud on the given parent. When using this constructor,
 	 * please read the following carefully: <br>
@@ -267,12 +305,11 @@ public class TagCloud extends Canvas {
 		if (selectionLayerImage != null) {
 			selectionLayerImage.dispose();
 		}
-		if (zoomLayerImage != null) {
-			zoomLayerImage.dispose();
-		}
+		invalidateTiles(null);
 		if (!this.isDisposed()) {
 			gc.dispose();
 		}
+		maskCache.clear();
 		super.dispose();
 	}
 
@@ -304,11 +341,6 @@ public class TagCloud extends Canvas {
 		if (selectionLayerImage == null) {
 			return;
 		}
-		zoomLayerImage = new Image(getDisplay(), selectionLayerImage.getBounds().width,
-				selectionLayerImage.getBounds().height);
-		GC gc = new GC(zoomLayerImage);
-		gc.drawImage(selectionLayerImage, 0, 0);
-		gc.dispose();
 		currentZoom = 1;
 		updateScrollbars();
 		redraw();
@@ -352,19 +384,162 @@ public class TagCloud extends Canvas {
 		if (width == 0 || height == 0) {
 			return;
 		}
-		zoomLayerImage = new Image(getDisplay(), width, height);
-		Transform tf = new Transform(getDisplay());
-		tf.scale((float) s, (float) s);
-		GC gc = new GC(zoomLayerImage);
-		gc.setTransform(tf);
-		gc.drawImage(selectionLayerImage, 0, 0);
-		gc.dispose();
-		tf.dispose();
 		currentZoom = s;
 		updateScrollbars();
 		redraw();
 	}
 
+	/**
+	 * Returns the size of the selection layer, scaled by the current zoom factor.
+	 */
+	private Point getZoomedSize() {
+		if (selectionLayerImage == null) {
+			return new Point(0, 0);
+		}
+		Rectangle bounds = selectionLayerImage.getBounds();
+		return new Point((int) (bounds.width * currentZoom), (int) (bounds.height * currentZoom));
+	}
+
+	/**
+	 * Returns the level of the zoom pyramid to paint the given zoom factor from,
+	 * which is the smallest level with at least the required resolution.
+	 */
+	private static int getLevel(double zoom) {
+		int level = 0;
+		while ((1 << (level + 1)) * zoom <= 1) {
+			level++;
+		}
+		return level;
+	}
+
+	/**
+	 * Paints the given area of the control from the zoom pyramid. Only the parts
+	 * of the selection layer which intersect the area are scaled, such that the
+	 * costs depend on the size of the area, but not on the zoom factor.
+	 */
+	private void paintZoomed(GC gc, Rectangle area) {
+		Rectangle bounds = selectionLayerImage.getBounds();
+		// The area in selection layer coordinates
+		int x0 = Math.max(0, (int) Math.floor((area.x - origin.x) / currentZoom));
+		int y0 = Math.max(0, (int) Math.floor((area.y - origin.y) / currentZoom));
+		int x1 = Math.min(bounds.width, (int) Math.ceil((area.x + area.width - origin.x) / currentZoom));
+		int y1 = Math.min(bounds.height, (int) Math.ceil((area.y + area.height - origin.y) / currentZoom));
+		if (x0 >= x1 || y0 >= y1) {
+			return;
+		}
+		int level = getLevel(currentZoom);
+		if (level == 0) {
+			Rectangle region = new Rectangle(x0, y0, x1 - x0, y1 - y0);
+			drawZoomed(gc, selectionLayerImage, region, region);
+			return;
+		}
+		int span = TILE_SIZE << level;
+		for (int y = y0 / span; y * span < y1; y++) {
+			for (int x = x0 / span; x * span < x1; x++) {
+				Rectangle region = new Rectangle(x * span, y * span, Math.min(span, bounds.width - x * span),
+						Math.min(span, bounds.height - y * span));
+				Image tile = getTile(new Tile(level, x, y), region);
+				drawZoomed(gc, tile, tile.getBounds(), region);
+			}
+		}
+		trimTiles();
+	}
+
+	/**
+	 * Draws the given part of an image, which shows the given region of the
+	 * selection layer, at the zoomed and scrolled position of the region.
+	 */
+	private void drawZoomed(GC gc, Image image, Rectangle source, Rectangle region) {
+		int destX = origin.x + (int) (region.x * currentZoom);
+		int destY = origin.y + (int) (region.y * currentZoom);
+		int destWidth = origin.x + (int) ((region.x + region.width) * currentZoom) - destX;
+		int destHeight = origin.y + (int) ((region.y + region.height) * currentZoom) - destY;
+		if (destWidth > 0 && destHeight > 0) {
+			gc.drawImage(image, source.x, source.y, source.width, source.height, destX, destY, destWidth,
+					destHeight);
+		}
+	}
+
+	/**
+	 * Returns the given tile, which shows the given region of the selection layer,
+	 * and creates it if required.
+	 */
+	private Image getTile(Tile key, Rectangle region) {
+		Image tile = tiles.get(key);
+		if (tile == null) {
+			tile = createTile(key.level, region);
+			tiles.put(key, tile);
+		}
+		return tile;
+	}
+
+	/**
+	 * Creates a tile of the zoom pyramid, which shows the given region of the
+	 * selection layer, downscaled by <code>2^level</code>. Tiles are created while
+	 * painting, for the visible part of the cloud only, and are disposed by the
+	 * cloud.
+	 *
+	 * @param level  the level of the zoom pyramid, at least <code>1</code>
+	 * @param region the region of the selection layer
+	 * @return the new tile
+	 * @since 2.0
+	 */
+	protected Image createTile(int level, Rectangle region) {
+		int scale = 1 << level;
+		int width = (region.width + scale - 1) / scale;
+		int height = (region.height + scale - 1) / scale;
+		Image tile = new Image(getDisplay(), width, height);
+		GC gc = new GC(tile);
+		gc.drawImage(selectionLayerImage, region.x, region.y, region.width, region.height, 0, 0, width, height);
+		gc.dispose();
+		return tile;
+	}
+
+	/**
+	 * Returns the number of tiles of the zoom pyramid which are kept after
+	 * painting. By default, these are twice the number of tiles covering the
+	 * client area.
+	 *
+	 * @return the maximum number of tiles
+	 * @since 2.0
+	 */
+	protected int getMaximumTiles() {
+		Rectangle client = getClientArea();
+		// A visible tile is at least half of its size
+		return Math.max(MIN_TILES,
+				2 * (client.width / (TILE_SIZE / 2) + 2) * (client.height / (TILE_SIZE / 2) + 2));
+	}
+
+	/**
+	 * Disposes the least recently used tiles, such that at most
+	 * {@link #getMaximumTiles()} tiles are kept.
+	 */
+	private void trimTiles() {
+		int maximum = getMaximumTiles();
+		Iterator<Image> iterator = tiles.values().iterator();
+		while (tiles.size() > maximum && iterator.hasNext()) {
+			iterator.next().dispose();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Disposes the tiles which show the given region of the selection layer, or
+	 * all tiles if the region is <code>null</code>.
+	 */
+	private void invalidateTiles(Rectangle region) {
+		Iterator<Map.Entry<Tile, Image>> iterator = tiles.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Tile, Image> entry = iterator.next();
+			Tile tile = entry.getKey();
+			int span = TILE_SIZE << tile.level;
+			if (region == null || region.intersects(tile.x * span, tile.y * span, span, span)) {
+				entry.getValue().dispose();
+				iterator.remove();
+			}
+		}
+	}
+
 	/**
 	 * Zooms in, by the factor of 10 percent.
 	 */
@@ -441,7 +616,8 @@ public class TagCloud extends Canvas {
 
 	/**
 	 * Calculates the bounds of each word, by determining the {@link Rectangle} a
-	 * {@link Path} would require to render an element.
+	 * {@link Path} would require to render an element. Words whose shape is
+	 * found in the {@link WordMaskCache} are not rendered again.
 	 *
 	 * @param monitor
 	 */
@@ -459,26 +635,10 @@ public class TagCloud extends Canvas {
 		executors = Executors.newFixedThreadPool(getNumberOfThreads());
 		final Color color = gc.getDevice().getSystemColor(SWT.COLOR_BLACK);
 		for (final Word word : wordsToUse) {
-			FontData[] fontData = word.getFontData();
-			int fontSize = (int) getFontSize(word);
-			for (FontData data : fontData) {
-				data.setHeight(fontSize);
+			Runnable task = createExtentsTask(word, color);
+			if (task != null) {
+				executors.execute(task);
 			}
-			final Font font = new Font(gc.getDevice(), fontData);
-			gc.setFont(font);
-			final Point stringExtent = gc.stringExtent(word.string);
-			FontMetrics fm = gc.getFontMetrics();
-			stringExtent.y = fm.getHeight();
-			executors.execute(() -> {
-				double radian = Math.toRadians(word.angle);
-				final double sin = Math.abs(Math.sin(radian));
-				final double cos = Math.abs(Math.cos(radian));
-				final int x = (int) ((cos * stringExtent.x) + (sin * stringExtent.y));
-				final int y = (int) ((cos * stringExtent.y) + (sin * stringExtent.x));
-				ImageData id = createImageData(word, font, stringExtent, sin, cos, x, y, color);
-				calcWordExtents(word, id);
-				font.dispose();
-			});
 			if (monitor != null) {
 				current += step;
 				if (current > next) {
@@ -499,6 +659,40 @@ public class TagCloud extends Canvas {
 			word.id = i;
 			i++;
 		}
+		nextId = i;
+	}
+
+	/**
+	 * Measures the given word with its current font size, and returns the task
+	 * which renders it and calculates its extents. Returns <code>null</code> if
+	 * the shape of the word was restored from the {@link WordMaskCache}.
+	 */
+	private Runnable createExtentsTask(final Word word, final Color color) {
+		FontData[] fontData = word.getFontData();
+		int fontSize = (int) getFontSize(word);
+		for (FontData data : fontData) {
+			data.setHeight(fontSize);
+		}
+		if (maskCache.restore(word, accuracy, antialias)) {
+			return null;
+		}
+		final Font font = new Font(gc.getDevice(), fontData);
+		gc.setFont(font);
+		final Point stringExtent = gc.stringExtent(word.string);
+		FontMetrics fm = gc.getFontMetrics();
+		stringExtent.y = fm.getHeight();
+		final int wordAntialias = antialias;
+		return () -> {
+			double radian = Math.toRadians(word.angle);
+			final double sin = Math.abs(Math.sin(radian));
+			final double cos = Math.abs(Math.cos(radian));
+			final int x = (int) ((cos * stringExtent.x) + (sin * stringExtent.y));
+			final int y = (int) ((cos * stringExtent.y) + (sin * stringExtent.x));
+			ImageData id = createImageData(word, font, stringExtent, sin, cos, x, y, color);
+			calcWordExtents(word, id);
+			maskCache.store(word, accuracy, wordAntialias);
+			font.dispose();
+		};
 	}
 
 	private ImageData createImageData(final Word word, Font font, Point stringExtent, final double sin,
@@ -540,31 +734,8 @@ public class TagCloud extends Canvas {
 	 * Calculates the extents of a word, based on its rendered image.
 	 */
 	private void calcWordExtents(final Word word, final ImageData id) {
-		final int[] pixels = new int[id.width];
-		final PaletteData palette = id.palette;
-		Set<SmallRect> inserted = new HashSet<>();
-		for (int y = 0; y < id.height; y++) {
-			id.getPixels(0, y, id.width, pixels, 0);
-			for (int i = 0; i < pixels.length; i++) {
-				int pixel = pixels[i];
-				// Extracting color values as in PaletteData.getRGB(int pixel):
-				int r = pixel & palette.redMask;
-				r = (palette.redShift < 0) ? r >>> -palette.redShift : r << palette.redShift;
-				int g = pixel & palette.greenMask;
-				g = (palette.greenShift < 0) ? g >>> -palette.greenShift : g << palette.greenShift;
-				int b = pixel & palette.blueMask;
-				b = (palette.blueShift < 0) ? b >>> -palette.blueShift : b << palette.blueShift;
-				if (r < 250 || g < 250 || b < 250) {
-					SmallRect rect = new SmallRect((i / accuracy) * accuracy, (y / accuracy) * accuracy, accuracy,
-							accuracy);
-					if (!inserted.contains(rect)) {
-						word.tree.insert(rect, word.id);
-						inserted.add(rect);
-					}
-					i += accuracy - 1;
-				}
-			}
-		}
+		word.mask = CellMask.create(id, accuracy);
+		word.mask.insertInto(word.tree, word.id);
 		word.tree.releaseRects();
 	}
 
@@ -594,6 +765,7 @@ public class TagCloud extends Canvas {
 		gc.fillRectangle(tmpImage.getBounds());
 		executors = Executors.newFixedThreadPool(1);
 		int success = 0;
+		placedWords.clear();
 		if (wordsToUse != null) {
 			double step = 100D / wordsToUse.size();
 			final GC g = gc;
@@ -605,6 +777,7 @@ public class TagCloud extends Canvas {
 					continue;
 				}
 				success++;
+				placedWords.put(word.id, word);
 				if (word.x < r.x) {
 					r.x = word.x;
 				}
@@ -653,6 +826,7 @@ public class TagCloud extends Canvas {
 		gc = new GC(selectionLayerImage);
 		gc.drawImage(textLayerImage, 0, 0);
 		gc.dispose();
+		invalidateTiles(null);
 		zoomFit();
 		if (monitor != null) {
 			monitor.worked(10);
@@ -672,16 +846,7 @@ public class TagCloud extends Canvas {
 		checkWidget();
 		Assert.isLegal(values != null, "List must not be null!"); //$NON-NLS-1$
 		for (Word word : values) {
-			Assert.isLegal(word != null, "Word must not be null!"); //$NON-NLS-1$
-			Assert.isLegal(word.string != null, "Word must define a string!"); //$NON-NLS-1$
-			Assert.isLegal(word.getColor() != null, "A word must define a color"); //$NON-NLS-1$
-			Assert.isLegal(word.getFontData() != null, "A word must define a fontdata array"); //$NON-NLS-1$
-			Assert.isLegal(word.weight >= 0,
-					"Word weight must be between 0 and 1 (inclusive), but value was " + word.weight); //$NON-NLS-1$
-			Assert.isLegal(word.weight <= 1,
-					"Word weight must be between 0 and 1 (inclusive), but value was " + word.weight); //$NON-NLS-1$
-			Assert.isLegal(word.angle >= -90, "Angle must be between -90 and +90 (inclusive), but was " + word.angle); //$NON-NLS-1$
-			Assert.isLegal(word.angle <= 90, "Angle must be between -90 and +90 (inclusive), but was " + word.angle); //$NON-NLS-1$
+			checkWord(word);
 		}
 		this.wordsToUse = new ArrayList<>(values);
 		if (boost > 0) {
@@ -702,6 +867,231 @@ public class TagCloud extends Canvas {
 		return layoutCloud(monitor, true);
 	}
 
+	private static void checkWord(Word word) {
+		Assert.isLegal(word != null, "Word must not be null!"); //$NON-NLS-1$
+		Assert.isLegal(word.string != null, "Word must define a string!"); //$NON-NLS-1$
+		Assert.isLegal(word.getColor() != null, "A word must define a color"); //$NON-NLS-1$
+		Assert.isLegal(word.getFontData() != null, "A word must define a fontdata array"); //$NON-NLS-1$
+		checkWeight(word.weight);
+		Assert.isLegal(word.angle >= -90, "Angle must be between -90 and +90 (inclusive), but was " + word.angle); //$NON-NLS-1$
+		Assert.isLegal(word.angle <= 90, "Angle must be between -90 and +90 (inclusive), but was " + word.angle); //$NON-NLS-1$
+	}
+
+	private static void checkWeight(double weight) {
+		Assert.isLegal(weight >= 0, "Word weight must be between 0 and 1 (inclusive), but value was " + weight); //$NON-NLS-1$
+		Assert.isLegal(weight <= 1, "Word weight must be between 0 and 1 (inclusive), but value was " + weight); //$NON-NLS-1$
+	}
+
+	/**
+	 * Adds the given word to the cloud, without changing the position of the
+	 * words which are already placed. The word is placed into the free space of
+	 * the current layout, and only its region of the cloud is drawn again. If
+	 * the cloud has not been layouted yet, a full layout is done instead.
+	 *
+	 * @param word the word to add, which must not be part of the cloud yet
+	 * @return <code>true</code> if the word could be placed
+	 * @since 2.0
+	 */
+	public boolean addWord(Word word) {
+		checkWidget();
+		checkWord(word);
+		if (wordsToUse == null) {
+			wordsToUse = new ArrayList<>();
+		}
+		Assert.isLegal(!wordsToUse.contains(word), "Word is already part of the cloud!"); //$NON-NLS-1$
+		wordsToUse.add(word);
+		if (placedWords.isEmpty() || nextId == Short.MAX_VALUE) {
+			// Nothing to keep, or no more ids
+			layoutCloud(null, true);
+			return placedWords.containsValue(word);
+		}
+		word.id = nextId++;
+		measureWord(word);
+		return placeWord(word, layouter.getInitialOffset(word, getCloudArea()));
+	}
+
+	/**
+	 * Removes the given word from the cloud. Its space is freed, and only its
+	 * region of the cloud is drawn again. All other words keep their position.
+	 *
+	 * @param word the word to remove
+	 * @return <code>true</code> if the word was part of the cloud
+	 * @since 2.0
+	 */
+	public boolean removeWord(Word word) {
+		checkWidget();
+		if (wordsToUse == null || !wordsToUse.remove(word)) {
+			return false;
+		}
+		boolean selected = selection.remove(word);
+		Rectangle bounds = unplaceWord(word);
+		if (bounds != null) {
+			updateRegion(bounds, false);
+		}
+		if (selected) {
+			fireSelectionChanged();
+		}
+		return true;
+	}
+
+	/**
+	 * Changes the weight and therefore the size of the given word. The word is
+	 * placed again as close as possible to its previous position, while all
+	 * other words keep their position. Only the affected regions of the cloud
+	 * are drawn again. If the word cannot be placed with the new weight, it keeps
+	 * its previous weight and position.
+	 *
+	 * @param word   a word of the cloud
+	 * @param weight the new weight, between 0 and 1 (inclusive)
+	 * @return <code>true</code> if the word could be placed with the new weight
+	 * @since 2.0
+	 */
+	public boolean setWeight(Word word, double weight) {
+		checkWidget();
+		checkWeight(weight);
+		Assert.isLegal(wordsToUse != null && wordsToUse.contains(word), "Word is not part of the cloud!"); //$NON-NLS-1$
+		Rectangle cloudArea = getCloudArea();
+		Point offset;
+		if (placedWords.get(word.id) == word) {
+			// Continue the search at the center of the previous position
+			offset = new Point(word.x + word.width / 2 - cloudArea.width / 2,
+					word.y + word.height / 2 - cloudArea.height / 2);
+		} else {
+			offset = layouter.getInitialOffset(word, cloudArea);
+		}
+		Rectangle bounds = unplaceWord(word);
+		double oldWeight = word.weight;
+		word.weight = weight;
+		if (placedWords.isEmpty()) {
+			layoutCloud(null, true);
+			return placedWords.containsValue(word);
+		}
+		int oldWidth = word.width;
+		int oldHeight = word.height;
+		Point oldStringExtent = word.stringExtent;
+		RectTree oldTree = word.tree;
+		CellMask oldMask = word.mask;
+		measureWord(word);
+		if (placeWord(word, offset)) {
+			if (bounds != null) {
+				updateRegion(bounds, false);
+			}
+			return true;
+		}
+		word.weight = oldWeight;
+		word.width = oldWidth;
+		word.height = oldHeight;
+		word.stringExtent = oldStringExtent;
+		word.tree = oldTree;
+		word.mask = oldMask;
+		if (bounds != null) {
+			// The previous cells are still free, as no other word was placed
+			word.x = bounds.x;
+			word.y = bounds.y;
+			word.tree.move(word.x, word.y);
+			word.tree.place(cloudMatrix, word.id);
+			placedWords.put(word.id, word);
+		}
+		return false;
+	}
+
+	private void measureWord(Word word) {
+		Runnable task = createExtentsTask(word, gc.getDevice().getSystemColor(SWT.COLOR_BLACK));
+		if (task != null) {
+			task.run();
+		}
+	}
+
+	/**
+	 * Places the given word into the current layout and draws it.
+	 *
+	 * @return <code>true</code> if the word could be placed
+	 */
+	private boolean placeWord(Word word, Point offset) {
+		if (!layouter.layout(offset, word, getCloudArea(), cloudMatrix)) {
+			return false;
+		}
+		placedWords.put(word.id, word);
+		Rectangle bounds = new Rectangle(word.x, word.y, word.width, word.height);
+		Rectangle region = new Rectangle(regionOffset.x, regionOffset.y, textLayerImage.getBounds().width,
+				textLayerImage.getBounds().height);
+		boolean grown = !region.contains(bounds.x, bounds.y)
+				|| !region.contains(bounds.x + bounds.width - 1, bounds.y + bounds.height - 1);
+		if (grown) {
+			growTextLayer(region.union(bounds));
+		}
+		updateRegion(bounds, grown);
+		return true;
+	}
+
+	/**
+	 * Frees the space of the given word in the current layout.
+	 *
+	 * @return the bounds of the word, or <code>null</code> if it wasn't placed
+	 */
+	private Rectangle unplaceWord(Word word) {
+		if (placedWords.get(word.id) != word) {
+			return null;
+		}
+		placedWords.remove(word.id);
+		word.tree.move(word.x, word.y);
+		word.tree.remove(cloudMatrix, word.id);
+		return new Rectangle(word.x, word.y, word.width, word.height);
+	}
+
+	/**
+	 * Enlarges the text layer image to the given region of the cloud, keeping
+	 * its content.
+	 */
+	private void growTextLayer(Rectangle region) {
+		Image image = new Image(getDisplay(), region.width, region.height);
+		GC gc = new GC(image);
+		gc.setBackground(getBackground());
+		gc.fillRectangle(image.getBounds());
+		gc.drawImage(textLayerImage, regionOffset.x - region.x, regionOffset.y - region.y);
+		gc.dispose();
+		textLayerImage.dispose();
+		textLayerImage = image;
+		regionOffset = new Point(region.x, region.y);
+	}
+
+	/**
+	 * Draws the given region of the cloud again, on the text layer and on the
+	 * selection layer, and disposes the tiles which show it.
+	 *
+	 * @param bounds the region in cloud coordinates
+	 * @param all    whether the selection layer must be created again
+	 */
+	private void updateRegion(Rectangle bounds, boolean all) {
+		Rectangle clip = new Rectangle(bounds.x - regionOffset.x, bounds.y - regionOffset.y, bounds.width,
+				bounds.height);
+		GC gc = new GC(textLayerImage);
+		gc.setClipping(clip);
+		gc.setBackground(getBackground());
+		gc.fillRectangle(clip);
+		for (Word word : placedWords.values()) {
+			if (bounds.intersects(word.x, word.y, word.width, word.height)) {
+				drawWord(gc, word, word.getColor());
+			}
+		}
+		gc.dispose();
+		if (all || selectionLayerImage == null) {
+			setSelection(getSelection());
+			return;
+		}
+		gc = new GC(selectionLayerImage);
+		gc.setClipping(clip);
+		gc.drawImage(textLayerImage, 0, 0);
+		for (Word word : selection) {
+			if (placedWords.get(word.id) == word && bounds.intersects(word.x, word.y, word.width, word.height)) {
+				drawWord(gc, word, highlightColor);
+			}
+		}
+		gc.dispose();
+		invalidateTiles(clip);
+		redraw();
+	}
+
 	/**
 	 * Reset the initial matrix
 	 */
@@ -767,8 +1157,8 @@ public class TagCloud extends Canvas {
 			hBarListener = e -> {
 				int hSelection = hBar.getSelection();
 				int destX = -hSelection - origin.x;
-				Rectangle rect = zoomLayerImage.getBounds();
-				TagCloud.this.scroll(destX, 0, 0, 0, rect.width, rect.height, false);
+				Point size = getZoomedSize();
+				TagCloud.this.scroll(destX, 0, 0, 0, size.x, size.y, false);
 				origin.x = -hSelection;
 			};
 			hBar.addListener(SWT.Selection, hBarListener);
@@ -778,8 +1168,8 @@ public class TagCloud extends Canvas {
 			vBarListener = e -> {
 				int vSelection = vBar.getSelection();
 				int destY = -vSelection - origin.y;
-				Rectangle rect = zoomLayerImage.getBounds();
-				TagCloud.this.scroll(0, destY, 0, 0, rect.width, rect.height, false);
+				Point size = getZoomedSize();
+				TagCloud.this.scroll(0, destY, 0, 0, size.x, size.y, false);
 				origin.y = -vSelection;
 			};
 			vBar.addListener(SWT.Selection, vBarListener);
@@ -791,21 +1181,21 @@ public class TagCloud extends Canvas {
 		this.addListener(SWT.Resize, resizeListener);
 		paintListener = e -> {
 			GC gc = e.gc;
-			if (zoomLayerImage == null) {
+			if (selectionLayerImage == null) {
 				return;
 			}
-			Rectangle rect = zoomLayerImage.getBounds();
+			Point size = getZoomedSize();
 			Rectangle client = TagCloud.this.getClientArea();
-			int marginWidth = client.width - rect.width;
+			int marginWidth = client.width - size.x;
 			gc.setBackground(getBackground());
 			if (marginWidth > 0) {
-				gc.fillRectangle(rect.width, 0, marginWidth, client.height);
+				gc.fillRectangle(size.x, 0, marginWidth, client.height);
 			}
-			int marginHeight = client.height - rect.height;
+			int marginHeight = client.height - size.y;
 			if (marginHeight > 0) {
-				gc.fillRectangle(0, rect.height, client.width, marginHeight);
+				gc.fillRectangle(0, size.y, client.width, marginHeight);
 			}
-			gc.drawImage(zoomLayerImage, origin.x, origin.y);
+			paintZoomed(gc, new Rectangle(e.x, e.y, e.width, e.height));
 		};
 		this.addListener(SWT.Paint, paintListener);
 		mouseTrackListener = event -> {
@@ -879,7 +1269,7 @@ public class TagCloud extends Canvas {
 		}
 		short wordId = cloudMatrix.get(x, y);
 		if (wordId > 0) {
-			return wordsToUse.get(wordId - 1);
+			return placedWords.get(wordId);
 		}
 		return null;
 	}
@@ -1046,6 +1436,7 @@ public class TagCloud extends Canvas {
 			fireSelectionChanged();
 		}
 		gc.dispose();
+		invalidateTiles(null);
 		zoom(currentZoom);
 		redraw();
 	}
@@ -1069,7 +1460,7 @@ public class TagCloud extends Canvas {
 		GC gc = new GC(textLayerImage);
 		gc.setBackground(getBackground());
 		gc.fillRectangle(0, 0, textLayerImage.getBounds().width, textLayerImage.getBounds().height);
-		for (Word word : wordsToUse) {
+		for (Word word : placedWords.values()) {
 			drawWord(gc, word, word.getColor());
 		}
 		gc.dispose();
@@ -1114,6 +1505,7 @@ public class TagCloud extends Canvas {
 			selectionLayerImage.dispose();
 			selectionLayerImage = null;
 		}
+		invalidateTiles(null);
 		regionOffset = new Point(0, 0);
 		if (textLayerImage != null) {
 			textLayerImage.dispose();
@@ -1136,17 +1528,17 @@ public class TagCloud extends Canvas {
 	}
 
 	private void updateScrollbars() {
-		if (zoomLayerImage == null) {
+		if (selectionLayerImage == null) {
 			return;
 		}
-		Rectangle rect = zoomLayerImage.getBounds();
+		Point size = getZoomedSize();
 		Rectangle client = getClientArea();
 		ScrollBar hBar = getHorizontalBar();
 		ScrollBar vBar = getVerticalBar();
 		if (hBar != null) {
-			hBar.setMaximum(rect.width);
-			hBar.setThumb(Math.min(rect.width, client.width));
-			int hPage = rect.width - client.width;
+			hBar.setMaximum(size.x);
+			hBar.setThumb(Math.min(size.x, client.width));
+			int hPage = size.x - client.width;
 			int hSelection = hBar.getSelection();
 			if (hSelection >= hPage) {
 				if (hPage <= 0) {
@@ -1156,9 +1548,9 @@ public class TagCloud extends Canvas {
 			}
 		}
 		if (vBar != null) {
-			vBar.setMaximum(rect.height);
-			vBar.setThumb(Math.min(rect.height, client.height));
-			int vPage = rect.height - client.height;
+			vBar.setMaximum(size.y);
+			vBar.setThumb(Math.min(size.y, client.height));
+			int vPage = size.y - client.height;
 			int vSelection = vBar.getSelection();
 			if (vSelection >= vPage) {
 				if (vPage <= 0) {
@@ -1381,4 +1773,16 @@ public class TagCloud extends Canvas {
 		return layouter;
 	}
 
+	/**
+	 * Returns the cache of the word shapes, which are reused when the cloud is
+	 * layouted again. Can be used to inspect its statistics or to change its
+	 * maximum memory.
+	 *
+	 * @since 2.0
+	 */
+	public WordMaskCache getWordMaskCache() {
+		checkWidget();
+		return maskCache;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -16,6 +16,7 @@ import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.zest.cloudio.util.CellMask;
 import org.eclipse.zest.cloudio.util.RectTree;
 
 /**
@@ -42,6 +43,13 @@ public class Word {
 
 	public RectTree tree;
 
+	/**
+	 * The occupied cells of the rendered word.
+	 *
+	 * @since 2.0
+	 */
+	public CellMask mask;
+
 	public float angle;
 
 	private FontData[] fontData;
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.zest.cloudio.util;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+
+/**
+ * The occupied cells of a rendered word, stored as one bit set per row of
+ * cells. A cell is a square of <code>accuracy</code> pixels, and is occupied if
+ * at least one of its pixels is not (nearly) white. Instances are immutable.
+ *
+ * @since 2.0
+ */
+public class CellMask {
+
+	private final int accuracy;
+
+	private final int columns;
+
+	private final int rows;
+
+	/**
+	 * Number of longs per row.
+	 */
+	private final int stride;
+
+	private final long[] bits;
+
+	private CellMask(int accuracy, int columns, int rows) {
+		this.accuracy = accuracy;
+		this.columns = columns;
+		this.rows = rows;
+		this.stride = (columns + 63) >>> 6;
+		this.bits = new long[rows * stride];
+	}
+
+	/**
+	 * Computes the occupied cells of the given image. The image is read one
+	 * scanline at a time, and the pixels of a cell are only examined until the
+	 * cell is known to be occupied. Once all cells of a row are occupied, its
+	 * remaining scanlines are skipped.
+	 *
+	 * @param data     the rendered word
+	 * @param accuracy the size of a cell in pixels
+	 * @return the mask of the image
+	 */
+	public static CellMask create(ImageData data, int accuracy) {
+		CellMask mask = new CellMask(accuracy, (data.width + accuracy - 1) / accuracy,
+				(data.height + accuracy - 1) / accuracy);
+		final PaletteData palette = data.palette;
+		final int redMask = palette.redMask, greenMask = palette.greenMask, blueMask = palette.blueMask;
+		final int redShift = palette.redShift, greenShift = palette.greenShift, blueShift = palette.blueShift;
+		final long[] bits = mask.bits;
+		final int[] pixels = new int[data.width];
+		for (int y = 0; y < data.height; y++) {
+			data.getPixels(0, y, data.width, pixels, 0);
+			final int offset = (y / accuracy) * mask.stride;
+			int occupied = 0;
+			for (int column = 0, x = 0; x < data.width; column++) {
+				final int end = Math.min(x + accuracy, data.width);
+				final int index = offset + (column >>> 6);
+				final long bit = 1L << column;
+				if ((bits[index] & bit) == 0) {
+					for (; x < end; x++) {
+						final int pixel = pixels[x];
+						// Extracting color values as in PaletteData.getRGB(int pixel):
+						int r = pixel & redMask;
+						r = (redShift < 0) ? r >>> -redShift : r << redShift;
+						int g = pixel & greenMask;
+						g = (greenShift < 0) ? g >>> -greenShift : g << greenShift;
+						int b = pixel & blueMask;
+						b = (blueShift < 0) ? b >>> -blueShift : b << blueShift;
+						if (r < 250 || g < 250 || b < 250) {
+							bits[index] |= bit;
+							occupied++;
+							break;
+						}
+					}
+				} else {
+					occupied++;
+				}
+				x = end;
+			}
+			if (occupied == mask.columns) {
+				// Skip to the last scanline of this row of cells
+				y += accuracy - 1 - y % accuracy;
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Inserts the occupied cells into the given tree, whose minimum resolution
+	 * must be the accuracy of this mask.
+	 *
+	 * @param tree the tree
+	 * @param id   the id of the occupied cells
+	 */
+	public void insertInto(RectTree tree, short id) {
+		for (int row = 0; row < rows; row++) {
+			for (int i = 0; i < stride; i++) {
+				long word = bits[row * stride + i];
+				while (word != 0) {
+					int column = (i << 6) + Long.numberOfTrailingZeros(word);
+					tree.insert(column * accuracy, row * accuracy, id);
+					word &= word - 1;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the cell in the given column and row is occupied.
+	 */
+	public boolean isOccupied(int column, int row) {
+		if (column < 0 || column >= columns || row < 0 || row >= rows) {
+			return false;
+		}
+		return (bits[row * stride + (column >>> 6)] & (1L << column)) != 0;
+	}
+
+	/**
+	 * Returns the number of occupied cells.
+	 */
+	public int getOccupiedCount() {
+		int count = 0;
+		for (long word : bits) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	public int getAccuracy() {
+		return accuracy;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Returns the estimated memory of this mask, in bytes.
+	 */
+	public long getMemoryUsage() {
+		return 32 + 8L * bits.length;
+	}
+
+}
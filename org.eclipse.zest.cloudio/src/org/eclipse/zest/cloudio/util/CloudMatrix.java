@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -59,4 +59,17 @@ public class CloudMatrix {
 		tree.insert(rect, id);
 	}
 
+	/**
+	 * Frees the cell of the given node, if it is occupied by the given id.
+	 *
+	 * @since 2.0
+	 */
+	public void remove(RectNode node, short id, short xOffset, short yOffset, int minResolution) {
+		int cleanX = ((xOffset + node.rect.x) / minResolution) * minResolution;
+		int cleanY = ((yOffset + node.rect.y) / minResolution) * minResolution;
+		if (tree.getRoot().getWordId(cleanX, cleanY) == id) {
+			tree.getRoot().remove(cleanX, cleanY);
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,11 +12,9 @@
 package org.eclipse.zest.cloudio.util;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 
 import org.eclipse.swt.graphics.Point;
 
@@ -67,63 +65,77 @@ public class RectTree {
 			}
 		}
 
-		private int getChildIndex(SmallRect r) {
+		private int getChildIndex(int x, int y) {
 			int index = 0;
-			if (r.y >= childAreas[3].y) {
-				if (r.x >= childAreas[3].x) {
+			if (y >= childAreas[3].y) {
+				if (x >= childAreas[3].x) {
 					index = 3;
 				} else {
 					index = 2;
 				}
 			} else {
-				if (r.x >= childAreas[1].x) {
+				if (x >= childAreas[1].x) {
 					index = 1;
 				}
 			}
 			return index;
 		}
 
-		public boolean insert(SmallRect r, short id) {
+		public boolean insert(int x, int y, short id) {
 			if (rect.width == minResolution) {
 				filled = id;
 				return true;
 			}
-			int i = getChildIndex(r);
+			int i = getChildIndex(x, y);
 			if (children == null) {
 				children = new RectNode[4];
 			}
 			if (children[i] == null) {
 				children[i] = new RectNode(childAreas[i]);
 			}
-			boolean filledChild = children[i].insert(r, id);
+			boolean filledChild = children[i].insert(x, y, id);
 			if (filledChild) {
-				Set<Short> ids = new HashSet<>();
-				boolean filled = true;
+				// The id of all children, or MISC if they differ
+				short common = children[i].filled;
 				for (int j = 0; j < children.length; j++) {
 					if (i == j) {
 						continue;
 					}
 					if (children[j] == null || children[j].filled == EMPTY) {
-						filled = false;
-						break;
+						return false;
 					}
-					ids.add(children[j].filled);
-				}
-				if (filled) {
-					if (ids.size() == 1) {
-						this.filled = ids.iterator().next();
-						if (this.filled == BACKGROUND) {
-							children = null;
-						}
-					} else {
-						this.filled = MISC;
+					if (common != children[j].filled) {
+						common = MISC;
 					}
 				}
-				return filled;
+				this.filled = common;
+				if (common == BACKGROUND) {
+					children = null;
+				}
+				return true;
 			}
 			return false;
 		}
 
+		/**
+		 * Empties the cell of the minimum resolution at the given position. The
+		 * cells of a node which was merged into the background cannot be emptied.
+		 */
+		public void remove(int x, int y) {
+			if (rect.width == minResolution) {
+				filled = EMPTY;
+				return;
+			}
+			if (children == null) {
+				return;
+			}
+			int i = getChildIndex(x, y);
+			if (children[i] != null) {
+				children[i].remove(x, y);
+				filled = EMPTY;
+			}
+		}
+
 		public boolean isAvailable(final SmallRect oRect) {
 			if (filled >= MISC) {
 				return false;
@@ -131,7 +143,7 @@ public class RectTree {
 			if (children == null) {
 				return filled == EMPTY;
 			}
-			final int i = getChildIndex(oRect);
+			final int i = getChildIndex(oRect.x, oRect.y);
 			if (children[i] == null) {
 				return true;
 			}
@@ -164,8 +176,30 @@ public class RectTree {
 		this.root = new RectNode(root);
 	}
 
+	private RectTree(RectNode root, int minResolution, LinkedList<RectNode> leaves) {
+		this.minResolution = minResolution;
+		this.root = root;
+		this.leaves = leaves;
+	}
+
+	/**
+	 * Returns a tree which shares the leaves of this tree, but has its own offset
+	 * and its own order in which the leaves are tested. The leaves are not
+	 * modified anymore once {@link #releaseRects()} has been called.
+	 */
+	RectTree copy() {
+		return new RectTree(root, minResolution, new LinkedList<>(getLeaves()));
+	}
+
 	public void insert(SmallRect r, short id) {
-		root.insert(r, id);
+		root.insert(r.x, r.y, id);
+	}
+
+	/**
+	 * Inserts the cell of the minimum resolution at the given position.
+	 */
+	void insert(int x, int y, short id) {
+		root.insert(x, y, id);
 	}
 
 	public void move(int x, int y) {
@@ -222,6 +256,19 @@ public class RectTree {
 		root.children = null;
 	}
 
+	/**
+	 * Removes the rectangles of this tree at its current offset from the given
+	 * matrix, if they are still occupied by the given id.
+	 *
+	 * @since 2.0
+	 */
+	public void remove(final CloudMatrix mainTree, short id) {
+		Collection<RectNode> leaves = getLeaves();
+		for (RectNode node : leaves) {
+			mainTree.remove(node, id, xOffset, yOffset, minResolution);
+		}
+	}
+
 	public RectNode getRoot() {
 		return root;
 	}
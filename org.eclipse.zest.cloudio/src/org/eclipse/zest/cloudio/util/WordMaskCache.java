@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.zest.cloudio.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.zest.cloudio.Word;
+
+/**
+ * A bounded cache of the rasterized shapes of words, which allows a cloud to be
+ * layouted again without rendering unchanged words. A shape is identified by
+ * the string, the font data (including the font size), the angle, the accuracy
+ * and the antialiasing of its word. The least recently used shapes are removed
+ * once the estimated memory of all shapes exceeds the maximum.
+ *
+ * @since 2.0
+ */
+public class WordMaskCache {
+
+	/**
+	 * Default maximum memory, in bytes.
+	 */
+	public static final long DEFAULT_MAXIMUM_MEMORY = 16 * 1024 * 1024;
+
+	/**
+	 * Estimated memory of a single leaf of a {@link RectTree}: the node, its
+	 * rectangle and its list entry.
+	 */
+	private static final int LEAF_SIZE = 88;
+
+	/**
+	 * Estimated memory of a shape without its leaves and string.
+	 */
+	private static final int ENTRY_SIZE = 160;
+
+	private record Key(String string, List<String> fontData, float angle, int accuracy, int antialias) {
+	}
+
+	private record Mask(RectTree tree, CellMask cells, int width, int height, Point stringExtent, long memory) {
+	}
+
+	private final Map<Key, Mask> masks = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long maximumMemory;
+
+	private long memory;
+
+	private long hits;
+
+	private long misses;
+
+	/**
+	 * Creates a cache with a maximum memory of {@link #DEFAULT_MAXIMUM_MEMORY}.
+	 */
+	public WordMaskCache() {
+		this(DEFAULT_MAXIMUM_MEMORY);
+	}
+
+	/**
+	 * Creates a cache with the given maximum memory.
+	 *
+	 * @param maximumMemory the estimated maximum memory in bytes, must not be
+	 *                      negative
+	 */
+	public WordMaskCache(long maximumMemory) {
+		setMaximumMemory(maximumMemory);
+	}
+
+	private static Key createKey(Word word, int accuracy, int antialias) {
+		FontData[] fontData = word.getFontData();
+		String[] data = new String[fontData.length];
+		for (int i = 0; i < fontData.length; i++) {
+			data[i] = fontData[i].toString();
+		}
+		return new Key(word.string, List.of(data), word.angle, accuracy, antialias);
+	}
+
+	/**
+	 * Restores the shape of the given word, if it is cached. On success, the
+	 * {@link Word#tree}, {@link Word#mask}, {@link Word#width}, {@link Word#height}
+	 * and {@link Word#stringExtent} of the word are set.
+	 *
+	 * @param word      the word, whose font data must already have the final size
+	 * @param accuracy  the accuracy of the cloud
+	 * @param antialias the antialiasing used to render the word
+	 * @return <code>true</code> if the shape was cached
+	 */
+	public synchronized boolean restore(Word word, int accuracy, int antialias) {
+		Mask mask = masks.get(createKey(word, accuracy, antialias));
+		if (mask == null) {
+			misses++;
+			return false;
+		}
+		hits++;
+		word.tree = mask.tree.copy();
+		word.mask = mask.cells;
+		word.width = mask.width;
+		word.height = mask.height;
+		word.stringExtent = new Point(mask.stringExtent.x, mask.stringExtent.y);
+		return true;
+	}
+
+	/**
+	 * Stores the shape of the given word, which must have been calculated with
+	 * the given accuracy and antialiasing. The {@link Word#tree} of the word must
+	 * have been released.
+	 *
+	 * @param word      the word
+	 * @param accuracy  the accuracy of the cloud
+	 * @param antialias the antialiasing used to render the word
+	 */
+	public synchronized void store(Word word, int accuracy, int antialias) {
+		long size = ENTRY_SIZE + 2L * word.string.length() + (long) LEAF_SIZE * word.tree.getLeaves().size();
+		if (word.mask != null) {
+			size += word.mask.getMemoryUsage();
+		}
+		if (size > maximumMemory) {
+			return;
+		}
+		Mask mask = new Mask(word.tree.copy(), word.mask, word.width, word.height,
+				new Point(word.stringExtent.x, word.stringExtent.y), size);
+		Mask old = masks.put(createKey(word, accuracy, antialias), mask);
+		if (old != null) {
+			memory -= old.memory;
+		}
+		memory += size;
+		trim();
+	}
+
+	private void trim() {
+		Iterator<Mask> iterator = masks.values().iterator();
+		while (memory > maximumMemory && iterator.hasNext()) {
+			memory -= iterator.next().memory;
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Removes all shapes. The statistics are kept.
+	 */
+	public synchronized void clear() {
+		masks.clear();
+		memory = 0;
+	}
+
+	/**
+	 * Sets the maximum memory and removes the least recently used shapes, until
+	 * the cache fits into it. A value of <code>0</code> disables the cache.
+	 *
+	 * @param maximumMemory the estimated maximum memory in bytes, must not be
+	 *                      negative
+	 */
+	public synchronized void setMaximumMemory(long maximumMemory) {
+		Assert.isLegal(maximumMemory >= 0, "Maximum memory must not be negative, but was " + maximumMemory); //$NON-NLS-1$
+		this.maximumMemory = maximumMemory;
+		trim();
+	}
+
+	public synchronized long getMaximumMemory() {
+		return maximumMemory;
+	}
+
+	/**
+	 * Returns the estimated memory of all cached shapes, in bytes.
+	 */
+	public synchronized long getMemoryUsage() {
+		return memory;
+	}
+
+	/**
+	 * Returns the number of cached shapes.
+	 */
+	public synchronized int size() {
+		return masks.size();
+	}
+
+	/**
+	 * Returns the number of words, whose shapes were restored from the cache.
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of words, whose shapes were not cached.
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * Returns the ratio of restored shapes to all requested shapes, or
+	 * <code>0</code> if no shape has been requested yet.
+	 */
+	public synchronized double getHitRate() {
+		long requests = hits + misses;
+		return requests == 0 ? 0 : (double) hits / requests;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009-2010, 2024 Mateusz Matela and others.
+ * Copyright (c) 2009-2010, 2026 Mateusz Matela and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,9 +12,15 @@
  ******************************************************************************/
 package org.eclipse.zest.core.widgets;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentDimension;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentPoint;
 import org.eclipse.zest.layouts.interfaces.ConnectionLayout;
 import org.eclipse.zest.layouts.interfaces.ContextListener;
 import org.eclipse.zest.layouts.interfaces.ExpandCollapseManager;
@@ -49,6 +55,12 @@ import org.eclipse.zest.layouts.interfaces.NodeLayout;
  */
 public class DAGExpandCollapseManager implements ExpandCollapseManager {
 
+	/**
+	 * The space between a node and the successors revealed by expanding it, and
+	 * between these successors, if the layout is incremental.
+	 */
+	private static final double SPACING = 20;
+
 	private InternalLayoutContext context;
 
 	private final Set<NodeLayout> expandedNodes = new HashSet<>();
@@ -61,6 +73,8 @@ public class DAGExpandCollapseManager implements ExpandCollapseManager {
 
 	private boolean cleanLayoutScheduled = false;
 
+	private boolean incrementalLayout = false;
+
 	@Override
 	public void initExpansion(final LayoutContext context2) {
 		if (!(context2 instanceof InternalLayoutContext)) {
@@ -124,20 +138,28 @@ public class DAGExpandCollapseManager implements ExpandCollapseManager {
 		return !isExpanded(node) && !node.isPruned() && node.getOutgoingConnections().length > 0;
 	}
 
-	private void collapseAllConnections(NodeLayout node) {
+	private static void setConnectionsVisible(NodeLayout node, boolean visible) {
 		ConnectionLayout[] outgoingConnections = node.getOutgoingConnections();
 		for (ConnectionLayout outgoingConnection : outgoingConnections) {
-			outgoingConnection.setVisible(false);
+			outgoingConnection.setVisible(visible);
 		}
-		flushChanges(true, true);
 	}
 
-	private void expandAllConnections(NodeLayout node) {
-		ConnectionLayout[] outgoingConnections = node.getOutgoingConnections();
-		for (ConnectionLayout outgoingConnection : outgoingConnections) {
-			outgoingConnection.setVisible(true);
-		}
-		flushChanges(true, true);
+	/**
+	 * Sets whether expanding or collapsing a node only updates the affected part
+	 * of the graph, instead of re-running the main layout algorithm on the whole
+	 * graph. The successors revealed by expanding a node are placed in a row below
+	 * it, and all other nodes keep their positions. Collapsing a node doesn't
+	 * move any node. The main layout algorithm is still invoked, but with
+	 * <code>clean</code> set to <code>false</code>. The default is
+	 * <code>false</code>.
+	 *
+	 * @param incrementalLayout <code>true</code> to update the layout
+	 *                          incrementally
+	 * @since 1.14
+	 */
+	public void setIncrementalLayout(boolean incrementalLayout) {
+		this.incrementalLayout = incrementalLayout;
 	}
 
 	@Override
@@ -149,14 +171,76 @@ public class DAGExpandCollapseManager implements ExpandCollapseManager {
 			if (canExpand(context, node)) {
 				expand(node);
 			}
-			expandAllConnections(node);
+		} else if (canCollapse(context, node)) {
+			collapse(node);
+		}
+		setConnectionsVisible(node, expanded);
+		if (incrementalLayout) {
+			if (expanded) {
+				placeRevealedSuccessors(node);
+			}
+			flushChanges(true, false);
 		} else {
-			if (canCollapse(context, node)) {
-				collapse(node);
+			flushChanges(true, true);
+		}
+	}
+
+	/**
+	 * Places the successors of the given node which are about to be unpruned in
+	 * a row centered below it. The row is moved further down past any visible
+	 * node it would overlap.
+	 */
+	private void placeRevealedSuccessors(NodeLayout node) {
+		List<NodeLayout> revealed = new ArrayList<>();
+		double width = -SPACING;
+		double height = 0;
+		for (NodeLayout successor : node.getSuccessingNodes()) {
+			if (nodesToUnprune.contains(successor)) {
+				DisplayIndependentDimension size = successor.getSize();
+				revealed.add(successor);
+				width += size.width + SPACING;
+				height = Math.max(height, size.height);
 			}
-			collapseAllConnections(node);
 		}
-		flushChanges(true, true);
+		if (revealed.isEmpty()) {
+			return;
+		}
+		DisplayIndependentPoint location = node.getLocation();
+		double x = location.x - width / 2;
+		double top = findFreeRow(x, location.y + node.getSize().height / 2 + SPACING, width, height);
+		double y = top + height / 2;
+		for (NodeLayout successor : revealed) {
+			double successorWidth = successor.getSize().width;
+			successor.setLocation(x + successorWidth / 2, y);
+			x += successorWidth + SPACING;
+		}
+	}
+
+	/**
+	 * Returns the top of the highest row of the given size at or below the given
+	 * top which keeps a distance of {@link #SPACING} to all visible nodes.
+	 */
+	private double findFreeRow(double left, double top, double width, double height) {
+		NodeLayout[] nodes = context.getNodes();
+		boolean moved = true;
+		while (moved) {
+			moved = false;
+			for (NodeLayout visible : nodes) {
+				if (visible.isPruned() || nodesToUnprune.contains(visible)) {
+					continue;
+				}
+				DisplayIndependentPoint center = visible.getLocation();
+				DisplayIndependentDimension size = visible.getSize();
+				double visibleLeft = center.x - size.width / 2;
+				double visibleTop = center.y - size.height / 2;
+				if (visibleLeft < left + width + SPACING && left < visibleLeft + size.width + SPACING
+						&& visibleTop < top + height + SPACING && top < visibleTop + size.height + SPACING) {
+					top = visibleTop + size.height + SPACING;
+					moved = true;
+				}
+			}
+		}
+		return top;
 	}
 
 	private void expand(NodeLayout node) {
@@ -168,19 +252,28 @@ public class DAGExpandCollapseManager implements ExpandCollapseManager {
 		updateNodeLabel(node);
 	}
 
+	/**
+	 * Collapses the given node, and all nodes that are pruned as a consequence.
+	 * Only these nodes and their successors are visited.
+	 */
 	private void collapse(NodeLayout node) {
-		if (!isExpanded(node)) {
-			return;
-		}
-		setExpanded(node, false);
-		NodeLayout[] successors = node.getSuccessingNodes();
-		for (NodeLayout successor : successors) {
-			checkPruning(successor);
-			if (isPruned(successor)) {
-				collapse(successor);
+		Deque<NodeLayout> pending = new ArrayDeque<>();
+		pending.push(node);
+		while (!pending.isEmpty()) {
+			NodeLayout current = pending.pop();
+			if (!isExpanded(current)) {
+				continue;
+			}
+			setExpanded(current, false);
+			NodeLayout[] successors = current.getSuccessingNodes();
+			for (NodeLayout successor : successors) {
+				checkPruning(successor);
+				if (isPruned(successor)) {
+					pending.push(successor);
+				}
 			}
+			updateNodeLabel(current);
 		}
-		updateNodeLabel(node);
 	}
 
 	private void checkPruning(NodeLayout node) {
@@ -15,6 +15,7 @@ package org.eclipse.zest.core.widgets.internal;
 import org.eclipse.draw2d.ChopboxAnchor;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
 
 public class LoopAnchor extends ChopboxAnchor {
 	public LoopAnchor(IFigure owner) {
@@ -24,20 +25,20 @@ public class LoopAnchor extends ChopboxAnchor {
 	/*
 	 * (non-Javadoc)
 	 *
-	 * @see org.eclipse.draw2d.ChopboxAnchor#getReferencePoint()
+	 * @see org.eclipse.draw2d.ChopboxAnchor#getReferencePoint(Point)
 	 */
 	@Override
-	public Point getReferencePoint() {
+	public Point getReferencePoint(Point result) {
 		// modification to getReferencePoint. Returns
 		// a point on the outside of the owners box, rather than the
 		// center. Only usefull for self-loops.
 		if (getOwner() == null) {
 			return null;
 		} else {
-			Point ref = getOwner().getBounds().getCenter();
-			ref.y = getOwner().getBounds().y;
-			getOwner().translateToAbsolute(ref);
-			return ref;
+			Rectangle bounds = getOwner().getBounds();
+			result.setLocation(bounds.x + bounds.width / 2, bounds.y);
+			getOwner().translateToAbsolute(result);
+			return result;
 		}
 	}
 }
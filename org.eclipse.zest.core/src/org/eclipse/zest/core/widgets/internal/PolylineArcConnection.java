@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright 2005-2006, CHISEL Group, University of Victoria, Victoria, BC,
+ * Copyright 2005-2006, 2026 CHISEL Group, University of Victoria, Victoria, BC,
  *                      Canada.
  *
  * This program and the accompanying materials are made available under the
@@ -12,10 +12,13 @@
  *******************************************************************************/
 package org.eclipse.zest.core.widgets.internal;
 
+import org.eclipse.draw2d.AncestorListener;
+import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.PolylineConnection;
 import org.eclipse.draw2d.RectangleFigure;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.PrecisionDimension;
 
 /**
  * A connection that draws an arc between nodes, based on a given depth for the
@@ -23,6 +26,14 @@ import org.eclipse.draw2d.geometry.PointList;
  * chord (ax, ay) - (bx, by) (where a and b are the anchors) and a depth d
  * defined as the maximum distance from any point on the chord (i.e. a vector
  * normal to the chord with magnitude d).
+ * <p>
+ * The number of segments depends on the radius of the arc on screen, so that
+ * no point of the arc is further than half a pixel away from them. The points
+ * are cached, and only computed again when the end points, the depth or the
+ * zoom level change. A scalable ancestor reports a change of its zoom level as
+ * a move, after which the connection is validated and routed again if the arc
+ * has to be computed for the new zoom level.
+ * </p>
  *
  * @author Del Myers
  */
@@ -34,11 +45,39 @@ public class PolylineArcConnection extends PolylineConnection {
 	private int depth;
 	private boolean inverse = false;
 	private static final float PI = (float) 3.14159;
+	/**
+	 * The maximum distance, in pixels on screen, between the arc and the segments
+	 * approximating it.
+	 */
+	private static final double TOLERANCE = 0.5;
+	private static final int MIN_STEPS = 4;
+	private static final int MAX_STEPS = 256;
+	/**
+	 * The number of zoom buckets per doubling of the zoom level.
+	 */
+	private static final int ZOOM_BUCKETS = 2;
 	private RectangleFigure center;
 
+	/*
+	 * The coordinates of the last computed arc, and the depth and zoom bucket it
+	 * was computed for. The first and last point are its end points.
+	 */
+	private int[] arc = new int[0];
+	private int arcSize = 0;
+	private int arcDepth = 0;
+	private int arcZoom = 0;
+
 	{
 		this.depth = 0;
 		center = new RectangleFigure();
+		addAncestorListener(new AncestorListener.Stub() {
+			@Override
+			public void ancestorMoved(IFigure ancestor) {
+				if (arcSize > 0 && arcZoom != getZoomBucket()) {
+					revalidate();
+				}
+			}
+		});
 	}
 
 	/*
@@ -79,11 +118,23 @@ public class PolylineArcConnection extends PolylineConnection {
 		Point start = pointList.getFirstPoint();
 		Point end = pointList.getLastPoint();
 		if (depth == 0) {
+			arcSize = 0;
 			super.setPoints(pointList);
 			return;
 		}
 
-		PointList points = new PointList();
+		// The given list is reused for the points of the arc
+		PointList points = pointList;
+		int zoom = getZoomBucket();
+		if (isCached(start, end, zoom)) {
+			points.removeAllPoints();
+			for (int i = 0; i < arcSize; i += 2) {
+				points.addPoint(arc[i], arc[i + 1]);
+			}
+			super.setPoints(points);
+			return;
+		}
+		points.removeAllPoints();
 
 		float arcStart = 0;
 		float arcEnd = 0;
@@ -181,42 +232,73 @@ public class PolylineArcConnection extends PolylineConnection {
 		}
 		// calculate the points
 		r = Math.abs(r);
-		float x = 0, y = 0;
-		Point p = null;
 		points.addPoint(start);
-		float length = arcLength * r;
+		int steps = getSteps(r, Math.abs(arcLength), Math.pow(2, (double) zoom / ZOOM_BUCKETS));
+		double stepSize = inverse ? -arcLength / steps : arcLength / steps;
+		// Rotate the first point around the center, step by step
+		double cosStep = Math.cos(stepSize);
+		double sinStep = Math.sin(stepSize);
+		double cos = Math.cos(arcStart + stepSize);
+		double sin = Math.sin(arcStart + stepSize);
+		for (int i = 1; i < steps; i++) {
+			points.addPoint((int) Math.round(r * cos + cartCenterX), (int) Math.round(-(r * sin + cartCenterY)));
+			double next = cos * cosStep - sin * sinStep;
+			sin = sin * cosStep + cos * sinStep;
+			cos = next;
+		}
+		points.addPoint(end);
+
+		cache(points, zoom);
+		super.setPoints(points);
+	}
 
-		int steps = (int) length / 16;
-		if (steps < 10 && length > 10) {
-			steps = 10;
+	/**
+	 * Returns the number of segments for an arc of the given radius and angle,
+	 * such that the arc deviates from them by at most {@link #TOLERANCE} pixels at
+	 * the given zoom level.
+	 */
+	private static int getSteps(double radius, double angle, double zoom) {
+		double tolerance = TOLERANCE / zoom;
+		if (radius <= tolerance) {
+			return MIN_STEPS;
 		}
-		if (arcLength < PI / 4 && steps > 6) {
-			steps = 6;
+		double stepAngle = 2 * Math.acos(1 - tolerance / radius);
+		double steps = Math.ceil(angle / stepAngle);
+		return (int) Math.max(MIN_STEPS, Math.min(MAX_STEPS, steps));
+	}
+
+	/**
+	 * Returns the zoom level of this connection, rounded to a power of 2 to the
+	 * {@link #ZOOM_BUCKETS}-th, as the exponent.
+	 */
+	private int getZoomBucket() {
+		PrecisionDimension unit = new PrecisionDimension(1, 1);
+		translateToAbsolute(unit);
+		double zoom = unit.preciseWidth();
+		if (zoom <= 0) {
+			return 0;
 		}
-		if (steps < 4 && length > 4) {
-			steps = 4;
+		return (int) Math.round(ZOOM_BUCKETS * Math.log(zoom) / Math.log(2));
+	}
+
+	private boolean isCached(Point start, Point end, int zoom) {
+		return arcSize > 0 && arcDepth == depth && arcZoom == zoom && arc[0] == start.x && arc[1] == start.y
+				&& arc[arcSize - 2] == end.x && arc[arcSize - 1] == end.y;
+	}
+
+	private void cache(PointList points, int zoom) {
+		arcSize = points.size() * 2;
+		if (arc.length < arcSize) {
+			arc = new int[arcSize];
 		}
-		float stepSize = arcLength / steps;
-		if (inverse) {
-			float step = arcStart - stepSize;
-			for (int i = 1; i < steps; i++, step -= stepSize) {
-				x = (r) * (float) Math.cos(step) + cartCenterX;
-				y = (r) * (float) Math.sin(step) + cartCenterY;
-				p = new Point(Math.round(x), Math.round(-y));
-				points.addPoint(p);
-			}
-		} else {
-			float step = stepSize + arcStart;
-			for (int i = 1; i < steps; i++, step += stepSize) {
-				x = (r) * (float) Math.cos(step) + cartCenterX;
-				y = (r) * (float) Math.sin(step) + cartCenterY;
-				p = new Point(Math.round(x), Math.round(-y));
-				points.addPoint(p);
-			}
+		Point p = new Point();
+		for (int i = 0; i < points.size(); i++) {
+			points.getPoint(p, i);
+			arc[2 * i] = p.x;
+			arc[2 * i + 1] = p.y;
 		}
-		points.addPoint(end);
-
-		super.setPoints(points);
+		arcDepth = depth;
+		arcZoom = zoom;
 	}
 
 	/*
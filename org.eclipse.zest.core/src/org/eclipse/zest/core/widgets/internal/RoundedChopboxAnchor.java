@@ -46,8 +46,8 @@ public class RoundedChopboxAnchor extends ChopboxAnchor {
 	 * @return Point
 	 */
 	@Override
-	public Point getLocation(Point reference) {
-		Point p = super.getLocation(reference);
+	public Point getLocation(Point reference, Point result) {
+		Point p = super.getLocation(reference, result);
 		Rectangle bounds = getBox();
 
 		boolean done = getTranslatedPoint(bounds.getTopLeft(), p, shift, shift);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Fabian Steeg and others.
+ * Copyright (c) 2011, 2026 Fabian Steeg and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -11,6 +11,9 @@
  *******************************************************************************/
 package org.eclipse.zest.tests;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Shell;
@@ -22,7 +25,9 @@ import org.eclipse.zest.core.widgets.GraphConnection;
 import org.eclipse.zest.core.widgets.GraphNode;
 import org.eclipse.zest.layouts.LayoutAlgorithm;
 import org.eclipse.zest.layouts.algorithms.GridLayoutAlgorithm;
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentPoint;
 import org.eclipse.zest.layouts.interfaces.LayoutContext;
+import org.eclipse.zest.layouts.interfaces.NodeLayout;
 
 import junit.framework.Assert;
 import junit.framework.TestCase;
@@ -125,6 +130,122 @@ public class LayoutAlgorithmTests extends TestCase {
 		}, true);
 	}
 
+	/**
+	 * Expanding a node with an incremental layout must not run a clean layout, and
+	 * must not move the nodes that were visible before.
+	 */
+	public void testIncrementalExpand() {
+		Graph graph = new Graph(new Shell(), SWT.NONE);
+		graph.setSubgraphFactory(new DefaultSubgraph.PrunedSuccessorsSubgraphFactory());
+		DAGExpandCollapseManager manager = new DAGExpandCollapseManager();
+		manager.setIncrementalLayout(true);
+		graph.setExpandCollapseManager(manager);
+		GraphNode n1 = new GraphNode(graph, SWT.NONE);
+		GraphNode n2 = new GraphNode(graph, SWT.NONE);
+		GraphNode n3 = new GraphNode(graph, SWT.NONE);
+		GraphNode n4 = new GraphNode(graph, SWT.NONE);
+		new GraphConnection(graph, SWT.NONE, n1, n2);
+		new GraphConnection(graph, SWT.NONE, n2, n3);
+		new GraphConnection(graph, SWT.NONE, n2, n4);
+		List<Boolean> layouts = new ArrayList<>();
+		LayoutContext[] context = new LayoutContext[1];
+		graph.setLayoutAlgorithm(new LayoutAlgorithm() {
+			@Override
+			public void setLayoutContext(LayoutContext layoutContext) {
+				context[0] = layoutContext;
+			}
+
+			@Override
+			public void applyLayout(boolean clean) {
+				layouts.add(Boolean.valueOf(clean));
+				if (clean) {
+					NodeLayout[] nodes = context[0].getNodes();
+					for (int i = 0; i < nodes.length; i++) {
+						nodes[i].setLocation(100 * i, 100 * i);
+					}
+				}
+			}
+		}, false);
+		graph.applyLayoutNow();
+		DisplayIndependentPoint n1Location = getNodeLayout(context[0], n1).getLocation();
+		DisplayIndependentPoint n2Location = getNodeLayout(context[0], n2).getLocation();
+		Assert.assertTrue(getNodeLayout(context[0], n3).isPruned());
+
+		layouts.clear();
+		graph.setExpanded(n2, true);
+		Assert.assertEquals(List.of(Boolean.FALSE), layouts);
+		Assert.assertEquals(n1Location.toString(), getNodeLayout(context[0], n1).getLocation().toString());
+		Assert.assertEquals(n2Location.toString(), getNodeLayout(context[0], n2).getLocation().toString());
+		NodeLayout n3Layout = getNodeLayout(context[0], n3);
+		NodeLayout n4Layout = getNodeLayout(context[0], n4);
+		Assert.assertFalse(n3Layout.isPruned());
+		Assert.assertTrue(n3Layout.getLocation().y > n2Location.y);
+		Assert.assertEquals(n3Layout.getLocation().y, n4Layout.getLocation().y, 0);
+		Assert.assertTrue(n3Layout.getLocation().x < n4Layout.getLocation().x);
+	}
+
+	/**
+	 * The successors revealed by an incremental expand must not overlap a node
+	 * which was visible before.
+	 */
+	public void testIncrementalExpandAvoidsOverlap() {
+		Graph graph = new Graph(new Shell(), SWT.NONE);
+		graph.setSubgraphFactory(new DefaultSubgraph.PrunedSuccessorsSubgraphFactory());
+		DAGExpandCollapseManager manager = new DAGExpandCollapseManager();
+		manager.setIncrementalLayout(true);
+		graph.setExpandCollapseManager(manager);
+		GraphNode n1 = new GraphNode(graph, SWT.NONE);
+		GraphNode n2 = new GraphNode(graph, SWT.NONE);
+		GraphNode n3 = new GraphNode(graph, SWT.NONE);
+		GraphNode n4 = new GraphNode(graph, SWT.NONE);
+		GraphNode obstacle = new GraphNode(graph, SWT.NONE);
+		new GraphConnection(graph, SWT.NONE, n1, n2);
+		new GraphConnection(graph, SWT.NONE, n2, n3);
+		new GraphConnection(graph, SWT.NONE, n2, n4);
+		LayoutContext[] context = new LayoutContext[1];
+		graph.setLayoutAlgorithm(new LayoutAlgorithm() {
+			@Override
+			public void setLayoutContext(LayoutContext layoutContext) {
+				context[0] = layoutContext;
+			}
+
+			@Override
+			public void applyLayout(boolean clean) {
+				if (clean) {
+					NodeLayout[] nodes = context[0].getNodes();
+					for (int i = 0; i < nodes.length; i++) {
+						nodes[i].setLocation(100 * i, 100 * i);
+					}
+					// right where the successors of n2 would be placed
+					NodeLayout n2Layout = getNodeLayout(context[0], n2);
+					getNodeLayout(context[0], obstacle).setLocation(n2Layout.getLocation().x,
+							n2Layout.getLocation().y + n2Layout.getSize().height + 20);
+				}
+			}
+		}, false);
+		graph.applyLayoutNow();
+		NodeLayout obstacleLayout = getNodeLayout(context[0], obstacle);
+		DisplayIndependentPoint obstacleLocation = obstacleLayout.getLocation();
+		double obstacleBottom = obstacleLocation.y + obstacleLayout.getSize().height / 2;
+
+		graph.setExpanded(n2, true);
+		Assert.assertEquals(obstacleLocation.toString(), obstacleLayout.getLocation().toString());
+		for (GraphNode successor : new GraphNode[] { n3, n4 }) {
+			NodeLayout successorLayout = getNodeLayout(context[0], successor);
+			double top = successorLayout.getLocation().y - successorLayout.getSize().height / 2;
+			Assert.assertTrue(top > obstacleBottom);
+		}
+	}
+
+	private static NodeLayout getNodeLayout(LayoutContext context, GraphNode node) {
+		for (NodeLayout nodeLayout : context.getNodes()) {
+			if (nodeLayout.getItems()[0] == node) {
+				return nodeLayout;
+			}
+		}
+		throw new IllegalArgumentException();
+	}
+
 	/**
 	 * Attempt to reproduce an infinite loop with GridLayoutAlgorithm on an empty
 	 * graph (see https://bugs.eclipse.org/bugs/show_bug.cgi?id=382791)
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.zest.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.zest.core.widgets.internal.PolylineArcConnection;
+
+import org.eclipse.draw2d.AbstractConnectionAnchor;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Layer;
+import org.eclipse.draw2d.RasterGraphics;
+import org.eclipse.draw2d.ScalableLayeredPane;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class PolylineArcConnectionTests {
+
+	/**
+	 * Counts how often the angles of the arc are computed.
+	 */
+	private static class CountingConnection extends PolylineArcConnection {
+
+		int computations;
+
+		@Override
+		protected int findQuadrant(float x, float y) {
+			computations++;
+			return super.findQuadrant(x, y);
+		}
+	}
+
+	/**
+	 * Anchors a connection at the center of its owner.
+	 */
+	private static class CenterAnchor extends AbstractConnectionAnchor {
+
+		CenterAnchor(IFigure owner) {
+			super(owner);
+		}
+
+		@Override
+		public Point getLocation(Point reference) {
+			return getReferencePoint();
+		}
+	}
+
+	private ScalableLayeredPane pane;
+	private CountingConnection connection;
+
+	@Before
+	public void setUp() {
+		pane = new ScalableLayeredPane();
+		pane.setBounds(new Rectangle(0, 0, 1000, 1000));
+		Layer layer = new Layer();
+		pane.add(layer);
+		IFigure source = createNode(new Rectangle(-5, -5, 10, 10));
+		IFigure target = createNode(new Rectangle(195, -5, 10, 10));
+		layer.add(source);
+		layer.add(target);
+		connection = new CountingConnection();
+		connection.setDepth(40);
+		connection.setSourceAnchor(new CenterAnchor(source));
+		connection.setTargetAnchor(new CenterAnchor(target));
+		layer.add(connection);
+		pane.validate();
+	}
+
+	private static IFigure createNode(Rectangle bounds) {
+		IFigure node = new Figure();
+		node.setBounds(bounds);
+		return node;
+	}
+
+	@Test
+	public void testReuseWithinZoomBucket() {
+		int size = connection.getPoints().size();
+		connection.computations = 0;
+
+		connection.revalidate();
+		pane.validate();
+		assertEquals(0, connection.computations);
+		assertEquals(size, connection.getPoints().size());
+
+		pane.setScale(1.1);
+		pane.validate();
+		assertEquals(0, connection.computations);
+		assertEquals(size, connection.getPoints().size());
+	}
+
+	@Test
+	public void testZoomChangesSegments() {
+		int size = connection.getPoints().size();
+		connection.computations = 0;
+
+		pane.setScale(4);
+		// painting does not change the points
+		connection.paintFigure(new RasterGraphics(1, 1));
+		assertEquals(0, connection.computations);
+		assertEquals(size, connection.getPoints().size());
+
+		pane.validate();
+		assertTrue(connection.computations > 0);
+		assertTrue(connection.getPoints().size() > size);
+
+		connection.computations = 0;
+		pane.validate();
+		assertEquals(0, connection.computations);
+
+		pane.setScale(1);
+		pane.validate();
+		assertEquals(size, connection.getPoints().size());
+		assertEquals(0, connection.getPoints().getFirstPoint().x);
+		assertEquals(200, connection.getPoints().getLastPoint().x);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -33,6 +33,7 @@ import org.junit.runners.Suite;
 	GraphViewerTests.class,
 	LayoutAlgorithmTest.class,
 	LayoutAlgorithmTests.class,
+	PolylineArcConnectionTests.class,
 	GraphJFaceTests.class,
 	GraphSWTTests.class,
 	GraphUMLTests.class,
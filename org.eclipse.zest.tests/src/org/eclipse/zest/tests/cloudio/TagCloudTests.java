@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -26,6 +26,10 @@ import org.eclipse.swt.events.MouseWheelListener;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Composite;
@@ -35,6 +39,12 @@ import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.zest.cloudio.TagCloud;
 import org.eclipse.zest.cloudio.Word;
+import org.eclipse.zest.cloudio.layout.DefaultLayouter;
+import org.eclipse.zest.cloudio.util.CellMask;
+import org.eclipse.zest.cloudio.util.CloudMatrix;
+import org.eclipse.zest.cloudio.util.RectTree;
+import org.eclipse.zest.cloudio.util.SmallRect;
+import org.eclipse.zest.cloudio.util.WordMaskCache;
 
 import junit.framework.Assert;
 import org.junit.After;
@@ -336,6 +346,26 @@ public class TagCloudTests {
 		// TODO: Test if the cloud really fits the area!
 	}
 
+	@Test
+	public void testZoomScrollbars() {
+		TagCloud cloud = new TagCloud(composite, SWT.V_SCROLL | SWT.H_SCROLL);
+		cloud.setWords(Arrays.asList(getWord()), null);
+		int width = cloud.getImageData().width;
+		((Shell) composite).open();
+		for (int i = 0; i < 100; i++) {
+			cloud.zoomIn();
+			cloud.update();
+		}
+		Assert.assertEquals(cloud.getZoom(), 3.0);
+		Assert.assertEquals(cloud.getHorizontalBar().getMaximum(), width * 3);
+		for (int i = 0; i < 100; i++) {
+			cloud.zoomOut();
+			cloud.update();
+		}
+		Assert.assertEquals(cloud.getZoom(), 0.1);
+		Assert.assertEquals(cloud.getHorizontalBar().getMaximum(), (int) (width * 0.1));
+	}
+
 	// Image:
 
 	@Test
@@ -482,6 +512,377 @@ public class TagCloudTests {
 		Assert.assertTrue(rectChanged);
 	}
 
+	@Test
+	public void testAddRemoveWord() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		List<Word> words = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			words.add(getWord());
+		}
+		cloud.setWords(words, null);
+		List<Rectangle> rects = new ArrayList<>();
+		for (Word word : words) {
+			rects.add(new Rectangle(word.x, word.y, word.width, word.height));
+		}
+		Word added = getWord();
+		added.weight = 0.2;
+		Assert.assertTrue(cloud.addWord(added));
+		Assert.assertTrue(cloud.getWords().contains(added));
+		Assert.assertTrue(added.width < words.get(0).width);
+		Word removed = words.get(0);
+		Assert.assertTrue(cloud.removeWord(removed));
+		Assert.assertFalse(cloud.removeWord(removed));
+		Assert.assertFalse(cloud.getWords().contains(removed));
+		Word resized = words.get(1);
+		Assert.assertTrue(cloud.setWeight(resized, 0.5));
+		Assert.assertTrue(resized.width < rects.get(1).width);
+		// All other words keep their position
+		for (int i = 2; i < words.size(); i++) {
+			Word w = words.get(i);
+			Assert.assertEquals(rects.get(i), new Rectangle(w.x, w.y, w.width, w.height));
+		}
+		// The space of the removed word can be used again
+		Assert.assertTrue(cloud.addWord(removed));
+	}
+
+	@Test
+	public void testSetWeightKeepsPlacementIfWordDoesNotFit() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		List<Word> words = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			words.add(getWord());
+		}
+		cloud.setWords(words, null);
+		CloudMatrix[] matrix = new CloudMatrix[1];
+		cloud.setLayouter(new DefaultLayouter(5, 5) {
+			@Override
+			public boolean layout(Point offset, Word word, Rectangle cloudArea, CloudMatrix cloudMatrix) {
+				matrix[0] = cloudMatrix;
+				return false;
+			}
+		});
+		Word word = words.get(1);
+		Rectangle bounds = new Rectangle(word.x, word.y, word.width, word.height);
+		Assert.assertFalse(cloud.setWeight(word, 0.5));
+		Assert.assertEquals(1, word.weight, 0);
+		Assert.assertEquals(bounds, new Rectangle(word.x, word.y, word.width, word.height));
+		// The cells of the word are still occupied
+		word.tree.move(word.x, word.y);
+		Assert.assertFalse(word.tree.fits(matrix[0]));
+	}
+
+	/**
+	 * Creates the tree of a word which occupies the given cells of a cloud
+	 * matrix with a resolution of 1.
+	 */
+	private static RectTree createTree(int... cells) {
+		RectTree tree = new RectTree(new SmallRect(0, 0, 8, 8), 1);
+		for (int i = 0; i < cells.length; i += 2) {
+			tree.insert(new SmallRect(cells[i], cells[i + 1], 1, 1), (short) 0);
+		}
+		tree.releaseRects();
+		return tree;
+	}
+
+	@Test
+	public void testRemoveWordCompletingQuad() {
+		CloudMatrix matrix = new CloudMatrix(8, 1);
+		RectTree first = createTree(0, 0, 1, 0, 0, 1);
+		first.place(matrix, (short) 1);
+		// completes the 2 x 2 cells at the origin
+		RectTree second = createTree(1, 1);
+		second.place(matrix, (short) 2);
+		Assert.assertEquals(1, matrix.get(0, 0));
+		Assert.assertEquals(2, matrix.get(1, 1));
+
+		second.remove(matrix, (short) 2);
+		Assert.assertTrue(matrix.isEmpty(1, 1));
+		Assert.assertEquals(1, matrix.get(1, 0));
+		first.remove(matrix, (short) 1);
+		Assert.assertTrue(matrix.isEmpty(0, 0));
+		Assert.assertTrue(matrix.isEmpty(1, 0));
+		Assert.assertTrue(matrix.isEmpty(0, 1));
+	}
+
+	@Test
+	public void testRemoveWordCompletingBackgroundQuad() {
+		CloudMatrix matrix = new CloudMatrix(8, 1);
+		createTree(0, 0, 1, 0, 0, 1).place(matrix, RectTree.BACKGROUND);
+		RectTree word = createTree(1, 1);
+		word.place(matrix, (short) 3);
+		Assert.assertEquals(3, matrix.get(1, 1));
+
+		word.remove(matrix, (short) 3);
+		Assert.assertTrue(matrix.isEmpty(1, 1));
+		Assert.assertEquals(RectTree.BACKGROUND, matrix.get(0, 0));
+		Assert.assertEquals(RectTree.BACKGROUND, matrix.get(0, 1));
+	}
+
+	@Test
+	public void testWordMask() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		Word word = getWord();
+		cloud.setWords(Arrays.asList(word), null);
+		CellMask mask = word.mask;
+		Assert.assertNotNull(mask);
+		// The default accuracy is 5
+		Assert.assertEquals((word.width + 4) / 5, mask.getColumns());
+		Assert.assertEquals((word.height + 4) / 5, mask.getRows());
+		Assert.assertTrue(mask.getOccupiedCount() > 0);
+		Assert.assertTrue(mask.getOccupiedCount() < mask.getColumns() * mask.getRows());
+	}
+
+	@Test
+	public void testWordMaskCache() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		List<Word> words = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			words.add(getWord());
+		}
+		cloud.setWords(words, null);
+		WordMaskCache cache = cloud.getWordMaskCache();
+		long hits = cache.getHitCount();
+		long misses = cache.getMissCount();
+		Assert.assertEquals(10, hits + misses);
+		Assert.assertEquals(1, cache.size());
+		Assert.assertTrue(cache.getMemoryUsage() > 0);
+		List<Rectangle> rects = new ArrayList<>();
+		for (Word word : words) {
+			rects.add(new Rectangle(word.x, word.y, word.width, word.height));
+		}
+		// All shapes are restored from the cache
+		Assert.assertEquals(10, cloud.layoutCloud(null, true));
+		Assert.assertEquals(hits + 10, cache.getHitCount());
+		Assert.assertEquals(misses, cache.getMissCount());
+		for (int i = 0; i < words.size(); i++) {
+			Assert.assertEquals(rects.get(i).width, words.get(i).width);
+			Assert.assertEquals(rects.get(i).height, words.get(i).height);
+		}
+		// A different angle is a different shape
+		words.get(0).angle = 45f;
+		cloud.layoutCloud(null, true);
+		Assert.assertEquals(misses + 1, cache.getMissCount());
+		Assert.assertEquals(2, cache.size());
+		cache.setMaximumMemory(0);
+		Assert.assertEquals(0, cache.size());
+		Assert.assertEquals(0, cache.getMemoryUsage());
+	}
+
+	// Zoom pyramid:
+
+	/**
+	 * Records the tiles of the zoom pyramid it creates.
+	 */
+	private static class TiledCloud extends TagCloud {
+
+		final List<Integer> levels = new ArrayList<>();
+		final List<Rectangle> regions = new ArrayList<>();
+		final List<Image> tiles = new ArrayList<>();
+		int maximumTiles = Integer.MAX_VALUE;
+
+		TiledCloud(Composite parent) {
+			super(parent, SWT.NONE);
+		}
+
+		@Override
+		protected Image createTile(int level, Rectangle region) {
+			Image tile = super.createTile(level, region);
+			levels.add(level);
+			regions.add(region);
+			tiles.add(tile);
+			return tile;
+		}
+
+		@Override
+		protected int getMaximumTiles() {
+			return maximumTiles;
+		}
+
+		int getDefaultMaximumTiles() {
+			return super.getMaximumTiles();
+		}
+
+		void clear() {
+			levels.clear();
+			regions.clear();
+			tiles.clear();
+		}
+	}
+
+	/**
+	 * Creates a cloud whose selection layer spans several tiles of level
+	 * <code>1</code> in each direction.
+	 */
+	private TiledCloud createTiledCloud(List<Word> words) {
+		TiledCloud cloud = new TiledCloud(composite);
+		cloud.setMaxFontSize(200);
+		for (int i = 0; i < 12; i++) {
+			words.add(getWord());
+		}
+		cloud.setWords(words, null);
+		ImageData data = cloud.getImageData();
+		Assert.assertTrue(data.width > 512 && data.height > 512);
+		return cloud;
+	}
+
+	/**
+	 * Paints the given area of the cloud.
+	 */
+	private void paint(TagCloud cloud, Rectangle area) {
+		Image image = new Image(display, 1, 1);
+		GC gc = new GC(image);
+		try {
+			Event event = new Event();
+			event.gc = gc;
+			event.x = area.x;
+			event.y = area.y;
+			event.width = area.width;
+			event.height = area.height;
+			cloud.notifyListeners(SWT.Paint, event);
+		} finally {
+			gc.dispose();
+			image.dispose();
+		}
+	}
+
+	/**
+	 * Paints the whole cloud at the current zoom factor.
+	 */
+	private void paintAll(TagCloud cloud) {
+		ImageData data = cloud.getImageData();
+		paint(cloud, new Rectangle(0, 0, (int) Math.ceil(data.width * cloud.getZoom()),
+				(int) Math.ceil(data.height * cloud.getZoom())));
+	}
+
+	/**
+	 * Zooms out until the zoom factor is at most the given one.
+	 */
+	private static void zoomOutTo(TagCloud cloud, double zoom) {
+		while (cloud.getZoom() > zoom) {
+			cloud.zoomOut();
+		}
+	}
+
+	@Test
+	public void testTileLevel() {
+		TiledCloud cloud = createTiledCloud(new ArrayList<>());
+		cloud.zoomReset();
+		while (cloud.getZoom() > 0.1) {
+			cloud.clear();
+			paintAll(cloud);
+			double zoom = cloud.getZoom();
+			if (zoom > 0.5) {
+				// The selection layer is painted without tiles
+				Assert.assertTrue("zoom " + zoom, cloud.tiles.isEmpty()); //$NON-NLS-1$
+			} else {
+				// The smallest level with at least the required resolution
+				Assert.assertFalse("zoom " + zoom, cloud.tiles.isEmpty()); //$NON-NLS-1$
+				for (int level : cloud.levels) {
+					Assert.assertTrue("zoom " + zoom, (1 << level) * zoom <= 1); //$NON-NLS-1$
+					Assert.assertTrue("zoom " + zoom, (2 << level) * zoom > 1); //$NON-NLS-1$
+				}
+			}
+			cloud.zoomOut();
+		}
+	}
+
+	@Test
+	public void testPaintVisibleTiles() {
+		TiledCloud cloud = createTiledCloud(new ArrayList<>());
+		ImageData data = cloud.getImageData();
+		cloud.zoomReset();
+		zoomOutTo(cloud, 0.5);
+
+		// Only the tile at the origin is visible
+		paint(cloud, new Rectangle(0, 0, 10, 10));
+		Assert.assertEquals(Arrays.asList(1), cloud.levels);
+		Assert.assertEquals(new Rectangle(0, 0, 512, 512), cloud.regions.get(0));
+		Image first = cloud.tiles.get(0);
+		paint(cloud, new Rectangle(0, 0, 10, 10));
+		Assert.assertEquals(1, cloud.tiles.size());
+
+		// The other tiles are created once, when they become visible
+		paintAll(cloud);
+		paintAll(cloud);
+		int columns = (data.width + 511) / 512;
+		int rows = (data.height + 511) / 512;
+		Assert.assertEquals(columns * rows, cloud.tiles.size());
+		Assert.assertEquals(columns * rows, new HashSet<>(cloud.regions).size());
+		for (Rectangle region : cloud.regions) {
+			Assert.assertTrue(new Rectangle(0, 0, data.width, data.height).contains(region.x, region.y));
+			Assert.assertTrue(region.width <= 512 && region.height <= 512);
+		}
+
+		// The tiles of other levels are not used
+		zoomOutTo(cloud, 0.25);
+		cloud.clear();
+		paint(cloud, new Rectangle(0, 0, 10, 10));
+		Assert.assertEquals(1, cloud.tiles.size());
+		Assert.assertTrue(cloud.levels.get(0) > 1);
+		Assert.assertFalse(first.isDisposed());
+	}
+
+	@Test
+	public void testTrimTiles() {
+		TiledCloud cloud = createTiledCloud(new ArrayList<>());
+		cloud.setSize(256, 256);
+		int small = cloud.getDefaultMaximumTiles();
+		cloud.setSize(1024, 1024);
+		Assert.assertTrue(cloud.getDefaultMaximumTiles() > small);
+
+		cloud.maximumTiles = 2;
+		cloud.zoomReset();
+		zoomOutTo(cloud, 0.5);
+		paintAll(cloud);
+		Assert.assertTrue(cloud.tiles.size() > 2);
+		// The least recently used tiles are disposed
+		int size = cloud.tiles.size();
+		for (int i = 0; i < size; i++) {
+			Assert.assertEquals(i < size - 2, cloud.tiles.get(i).isDisposed());
+		}
+		// Disposed tiles are created again
+		cloud.clear();
+		paint(cloud, new Rectangle(0, 0, 10, 10));
+		Assert.assertEquals(1, cloud.tiles.size());
+	}
+
+	@Test
+	public void testInvalidateTilesOfChangedWord() {
+		List<Word> words = new ArrayList<>();
+		TiledCloud cloud = createTiledCloud(words);
+		// The selection layer starts at the top left corner of the placed words
+		int offsetX = Integer.MAX_VALUE;
+		int offsetY = Integer.MAX_VALUE;
+		for (Word word : words) {
+			offsetX = Math.min(offsetX, word.x);
+			offsetY = Math.min(offsetY, word.y);
+		}
+		cloud.zoomReset();
+		zoomOutTo(cloud, 0.5);
+		paintAll(cloud);
+		List<Rectangle> regions = new ArrayList<>(cloud.regions);
+		List<Image> tiles = new ArrayList<>(cloud.tiles);
+
+		Word word = words.get(0);
+		Rectangle bounds = new Rectangle(word.x - offsetX, word.y - offsetY, word.width, word.height);
+		Assert.assertTrue(cloud.removeWord(word));
+		Set<Rectangle> changed = new HashSet<>();
+		for (int i = 0; i < regions.size(); i++) {
+			Rectangle region = regions.get(i);
+			boolean intersects = region.intersects(bounds);
+			Assert.assertEquals(intersects, tiles.get(i).isDisposed());
+			if (intersects) {
+				changed.add(region);
+			}
+		}
+		Assert.assertFalse(changed.isEmpty());
+
+		// Only the changed tiles are created again on the next paint
+		cloud.clear();
+		paintAll(cloud);
+		Assert.assertEquals(changed, new HashSet<>(cloud.regions));
+	}
+
 	// @Test
 	// public void testLayoutTooLarge() {
 	// TagCloud cloud = new TagCloud(composite, SWT.NONE);